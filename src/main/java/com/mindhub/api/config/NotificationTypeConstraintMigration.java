@@ -0,0 +1,71 @@
+package com.mindhub.api.config;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mindhub.api.model.enums.NotificationType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Actualiza al arrancar la restricción CHECK de {@code notifications.type}.
+ *
+ * Hibernate crea la restricción con los valores del enumerado cuando crea la
+ * tabla, pero {@code ddl-auto=update} no la vuelve a tocar: en una base de
+ * datos existente los tipos añadidos después (como {@code DIGEST}) violan la
+ * restricción. Si a la restricción le falta algún valor de
+ * {@link NotificationType} se borra y se vuelve a crear; si ya los tiene
+ * todos no se hace nada.
+ *
+ * Un fallo detiene el arranque: sin la restricción correcta no se pueden
+ * guardar los resúmenes.
+ */
+
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class NotificationTypeConstraintMigration implements CommandLineRunner {
+
+    private static final String CONSTRAINT = "notifications_type_check";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        List<String> definitions = jdbcTemplate.queryForList(
+                "SELECT pg_get_constraintdef(c.oid) FROM pg_constraint c "
+                        + "WHERE c.conrelid = to_regclass('notifications') AND c.conname = ?",
+                String.class, CONSTRAINT);
+
+        List<String> missing = Arrays.stream(NotificationType.values())
+                .map(Enum::name)
+                .filter(value -> definitions.stream().noneMatch(def -> def.contains("'" + value + "'")))
+                .toList();
+
+        if (!definitions.isEmpty() && missing.isEmpty()) {
+            log.debug("Restricción {} al día", CONSTRAINT);
+            return;
+        }
+        if (jdbcTemplate.queryForObject("SELECT to_regclass('notifications') IS NOT NULL", Boolean.class) != Boolean.TRUE) {
+            return;
+        }
+
+        String values = Arrays.stream(NotificationType.values())
+                .map(value -> "'" + value.name() + "'")
+                .collect(Collectors.joining(", "));
+
+        // Una sola sentencia ALTER TABLE: el borrado y la nueva restricción se aplican juntos
+        jdbcTemplate.execute("ALTER TABLE notifications DROP CONSTRAINT IF EXISTS " + CONSTRAINT
+                + ", ADD CONSTRAINT " + CONSTRAINT + " CHECK (type IN (" + values + "))");
+
+        log.info("Restricción {} recreada; tipos añadidos: {}", CONSTRAINT, missing);
+    }
+}
@@ -0,0 +1,28 @@
+package com.mindhub.api.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declara el número máximo de sentencias SQL que puede ejecutar un endpoint.
+ *
+ * El presupuesto no debe depender del tamaño de página: si un listado
+ * necesita una consulta más por fila, lo que hay que corregir es el plan de
+ * carga. Los endpoints sin anotación usan
+ * {@code app.jpa.query-budget.default-statements}.
+ *
+ * @see QueryBudgetInterceptor
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    /**
+     * @return número máximo de sentencias SQL por petición
+     */
+    int value();
+}
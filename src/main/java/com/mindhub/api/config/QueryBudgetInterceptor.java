@@ -0,0 +1,72 @@
+package com.mindhub.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Vigila el número de sentencias SQL de cada petición frente al presupuesto
+ * de su endpoint ({@link QueryBudget}).
+ *
+ * Al terminar la petición deja la cuenta y el presupuesto como atributos de
+ * la petición, que usan los tests de integración, y avisa en el log cuando
+ * se supera el presupuesto: es la señal de una consulta N+1.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String STATEMENTS_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".statements";
+    public static final String BUDGET_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".budget";
+
+    private final StatementCounter statementCounter;
+
+    @Value("${app.jpa.query-budget.default-statements:30}")
+    private int defaultBudget;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (handler instanceof HandlerMethod) {
+            statementCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response, @NonNull Object handler) {
+        // La respuesta sigue en otro hilo: no se puede atribuir su consumo
+        statementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        int statements = statementCounter.stop();
+        QueryBudget declared = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        int budget = declared != null ? declared.value() : defaultBudget;
+
+        request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+        request.setAttribute(BUDGET_ATTRIBUTE, budget);
+
+        if (statements > budget) {
+            log.warn("Presupuesto de consultas superado en {} {} ({}): {} sentencias, presupuesto {}",
+                    request.getMethod(), request.getRequestURI(), handlerMethod.getShortLogMessage(),
+                    statements, budget);
+        }
+    }
+}
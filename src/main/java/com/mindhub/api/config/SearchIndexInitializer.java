@@ -0,0 +1,79 @@
+package com.mindhub.api.config;
+
+import java.util.List;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Crea al arrancar los objetos de búsqueda específicos de PostgreSQL.
+ *
+ * Hibernate ({@code ddl-auto=update}) no sabe generar columnas calculadas,
+ * índices GIN ni índices parciales (también el índice único de las
+ * notificaciones agregadas), así que se crean aquí con sentencias
+ * idempotentes que pueden ejecutarse en cada arranque.
+ *
+ * Si alguna sentencia falla (por ejemplo, con una base de datos distinta de
+ * PostgreSQL) se registra el error y la aplicación sigue arrancando; solo
+ * las búsquedas que dependan de ese objeto quedarán sin servicio.
+ */
+
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class SearchIndexInitializer implements CommandLineRunner {
+
+    private static final List<String> STATEMENTS = List.of(
+            // Texto completo del contenido de los posts (diccionario español)
+            "ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector "
+                    + "GENERATED ALWAYS AS (to_tsvector('spanish', coalesce(content, ''))) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector)",
+            // Documento de búsqueda de reportes: relleno de filas antiguas e índice de trigramas
+            "UPDATE reports r SET search_document = lower(concat_ws(' ', r.reason, r.description, "
+                    + "u.username, u.first_name, u.last_name)) FROM users u "
+                    + "WHERE u.id = r.reporter_id AND r.search_document IS NULL",
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_reports_search_document ON reports "
+                    + "USING GIN (search_document gin_trgm_ops)",
+            // Índices parciales por estado para el listado ordenado por fecha
+            "CREATE INDEX IF NOT EXISTS idx_reports_pending_date ON reports (report_date DESC, id DESC) "
+                    + "WHERE status = 'PENDING'",
+            "CREATE INDEX IF NOT EXISTS idx_reports_resolved_date ON reports (report_date DESC, id DESC) "
+                    + "WHERE status = 'RESOLVED'",
+            "CREATE INDEX IF NOT EXISTS idx_reports_rejected_date ON reports (report_date DESC, id DESC) "
+                    + "WHERE status = 'REJECTED'",
+            "CREATE INDEX IF NOT EXISTS idx_reports_date_id ON reports (report_date DESC, id DESC)",
+            // Una sola notificación agregada sin leer por destinatario, tipo y entidad:
+            // se marcan como leídas las duplicadas antiguas antes de crear el índice único
+            "UPDATE notifications n SET read = true, read_date = CURRENT_DATE FROM notifications newer "
+                    + "WHERE n.read = false AND n.type IN ('REACTION', 'COMMENT') "
+                    + "AND newer.read = false AND newer.type = n.type AND newer.user_id = n.user_id "
+                    + "AND newer.reference_id = n.reference_id AND newer.reference_table = n.reference_table "
+                    + "AND newer.id > n.id",
+            "CREATE UNIQUE INDEX IF NOT EXISTS uq_notifications_open_aggregate "
+                    + "ON notifications (user_id, type, reference_id, reference_table) "
+                    + "WHERE read = false AND type IN ('REACTION', 'COMMENT')");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        int applied = 0;
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+                applied++;
+            } catch (DataAccessException e) {
+                log.error("No se pudo crear el objeto de búsqueda: {}", statement, e);
+            }
+        }
+        log.info("Objetos de búsqueda verificados: {}/{}", applied, STATEMENTS.size());
+    }
+}
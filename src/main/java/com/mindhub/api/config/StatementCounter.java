@@ -0,0 +1,80 @@
+package com.mindhub.api.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara en el hilo actual.
+ *
+ * Se registra como {@link StatementInspector} de la factoría de sesiones y
+ * solo cuenta entre {@link #start()} y {@link #stop()}; fuera de ese tramo
+ * no hace nada.
+ *
+ * Como {@link TaskDecorator}, los ejecutores que lanzan subconsultas de una
+ * petición (la página de perfil) hacen que sus tareas sumen a la cuenta del
+ * hilo que las lanzó. Las consultas de otros hilos (tareas programadas o en
+ * segundo plano) no se atribuyen a ninguna petición.
+ */
+
+@Component
+public class StatementCounter implements StatementInspector, TaskDecorator {
+
+    private final ThreadLocal<AtomicInteger> count = new ThreadLocal<>();
+
+    /**
+     * Empieza a contar en el hilo actual desde cero.
+     */
+    public void start() {
+        count.set(new AtomicInteger());
+    }
+
+    /**
+     * Deja de contar en el hilo actual.
+     *
+     * @return sentencias contadas desde {@link #start()}
+     */
+    public int stop() {
+        AtomicInteger current = count.get();
+        count.remove();
+        return current != null ? current.get() : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger current = count.get();
+        if (current != null) {
+            current.incrementAndGet();
+        }
+        return sql;
+    }
+
+    /**
+     * Hace que una tarea cuente sobre la cuenta del hilo que la crea, si la
+     * hay.
+     */
+    @Override
+    @NonNull
+    public Runnable decorate(@NonNull Runnable task) {
+        AtomicInteger current = count.get();
+        if (current == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = count.get();
+            count.set(current);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    count.set(previous);
+                } else {
+                    count.remove();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.mindhub.api.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cambia al arrancar la clave primaria de {@code user_profiles} de la
+ * columna {@code id} autogenerada a {@code user_id}.
+ *
+ * {@code UserProfile} comparte ahora la clave de su usuario, pero Hibernate
+ * ({@code ddl-auto=update}) no modifica claves primarias ni borra columnas,
+ * así que las bases de datos existentes conservarían la clave antigua y el
+ * índice {@code idx_user_profiles_user}. La migración es idempotente: solo
+ * actúa si la tabla existe y conserva la columna {@code id}, así que en una
+ * base de datos nueva no hace nada y Hibernate crea la tabla con la clave
+ * correcta.
+ *
+ * Se ejecuta al inicializar el bean, y el {@code EntityManagerFactory}
+ * depende de él: la migración termina antes de que Hibernate valide el
+ * esquema y antes de que el servidor web acepte peticiones. Si falla, el
+ * arranque se aborta en lugar de servir con el esquema a medio migrar.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileKeyMigration implements InitializingBean {
+
+    private static final String MIGRATION = """
+            DO $$
+            DECLARE
+                constraint_name text;
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                               WHERE table_schema = current_schema()
+                                 AND table_name = 'user_profiles' AND column_name = 'id') THEN
+                    RETURN;
+                END IF;
+
+                -- Clave primaria antigua y restricciones únicas sobre user_id, que la nueva clave ya garantiza
+                FOR constraint_name IN
+                    SELECT c.conname FROM pg_constraint c
+                    WHERE c.conrelid = 'user_profiles'::regclass
+                      AND (c.contype = 'p'
+                           OR (c.contype = 'u' AND c.conkey = ARRAY[(SELECT a.attnum FROM pg_attribute a
+                                   WHERE a.attrelid = 'user_profiles'::regclass AND a.attname = 'user_id')]))
+                LOOP
+                    EXECUTE format('ALTER TABLE user_profiles DROP CONSTRAINT %I', constraint_name);
+                END LOOP;
+
+                DROP INDEX IF EXISTS idx_user_profiles_user;
+                ALTER TABLE user_profiles DROP COLUMN id;
+                ALTER TABLE user_profiles ALTER COLUMN user_id SET NOT NULL;
+                ALTER TABLE user_profiles ADD PRIMARY KEY (user_id);
+            END
+            $$""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            jdbcTemplate.execute(MIGRATION);
+            log.info("Clave primaria de user_profiles verificada (user_id)");
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("No se pudo migrar la clave primaria de user_profiles a user_id", e);
+        }
+    }
+
+    /**
+     * Hace que el {@code EntityManagerFactory} espere a la migración.
+     */
+    @Component
+    static class EntityManagerFactoryDependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnMigration() {
+            super(UserProfileKeyMigration.class);
+        }
+    }
+}
@@ -1,25 +1,34 @@
 package com.mindhub.api.controller.admin;
 
+import java.time.LocalDate;
 import java.util.Map;
 
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.config.QueryBudget;
 import com.mindhub.api.dto.admin.AdminActionResponse;
+import com.mindhub.api.dto.admin.TimeSeriesResponse;
 import com.mindhub.api.dto.auth.UserResponse;
-import com.mindhub.api.dto.report.ReportResponse;
+import com.mindhub.api.dto.report.ReportSearchPage;
+import com.mindhub.api.model.enums.StatsGrain;
+import com.mindhub.api.model.enums.StatsMetric;
 import com.mindhub.api.service.admin.AdminActionService;
-import com.mindhub.api.service.post.PostService;
+import com.mindhub.api.service.admin.DashboardStatistics;
 import com.mindhub.api.service.report.ReportService;
+import com.mindhub.api.service.stats.ActiveUserEstimator;
+import com.mindhub.api.service.stats.StatsRollupService;
 import com.mindhub.api.service.user.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,9 +65,11 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminController {
 
         private final UserService userService;
-        private final PostService postService;
         private final ReportService reportService;
         private final AdminActionService adminActionService;
+        private final DashboardStatistics dashboardStatistics;
+        private final StatsRollupService statsRollupService;
+        private final ActiveUserEstimator activeUserEstimator;
 
         /**
          * Construye un AdminController con las dependencias de servicios requeridas.
@@ -66,21 +77,26 @@ public class AdminController {
          * Utiliza la anotación @Lazy para prevenir problemas de dependencias
          * circulares durante la inicialización de beans de Spring.
          * 
-         * @param userService        Servicio para operaciones de gestión de usuarios
-         * @param postService        Servicio para operaciones de gestión de
-         *                           publicaciones
-         * @param reportService      Servicio para operaciones de gestión de reportes
-         * @param adminActionService Servicio para seguimiento de acciones
-         *                           administrativas
+         * @param userService         Servicio para operaciones de gestión de usuarios
+         * @param reportService       Servicio para operaciones de gestión de reportes
+         * @param adminActionService  Servicio para seguimiento de acciones
+         *                            administrativas
+         * @param dashboardStatistics Contadores en memoria del dashboard
+         * @param statsRollupService  Servicio de series temporales del dashboard
+         * @param activeUserEstimator Estimador de usuarios activos diarios/mensuales
          */
         public AdminController(@Lazy UserService userService,
-                        @Lazy PostService postService,
                         @Lazy ReportService reportService,
-                        @Lazy AdminActionService adminActionService) {
+                        @Lazy AdminActionService adminActionService,
+                        DashboardStatistics dashboardStatistics,
+                        StatsRollupService statsRollupService,
+                        ActiveUserEstimator activeUserEstimator) {
                 this.userService = userService;
-                this.postService = postService;
                 this.reportService = reportService;
                 this.adminActionService = adminActionService;
+                this.dashboardStatistics = dashboardStatistics;
+                this.statsRollupService = statsRollupService;
+                this.activeUserEstimator = activeUserEstimator;
         }
 
         /**
@@ -91,10 +107,16 @@ public class AdminController {
          * Conteos totales de usuarios (activos, inactivos y total)
          * Total de publicaciones en el sistema
          * Estadísticas de reportes (pendientes, rechazados y resueltos)
+         * Usuarios activos diarios, semanales y mensuales (estimados con un error
+         * aproximado del 1 %)
          *
          * Estas métricas son utilizadas por el dashboard de administración para
          * ofrecer una visión general del estado y la actividad del sistema.
          *
+         * Los valores se leen de los contadores en memoria de
+         * {@link DashboardStatistics}, que se mantienen con eventos de dominio y
+         * se reconcilian periódicamente con la base de datos.
+         *
          * @return ResponseEntity que contiene un Map con las estadísticas del dashboard
          */
         @GetMapping("/dashboard")
@@ -108,7 +130,10 @@ public class AdminController {
                                           "totalPublicaciones": 450,
                                           "reportesPendientes": 5,
                                           "reportesRechazados": 12,
-                                          "reportesResueltos": 28
+                                          "reportesResueltos": 28,
+                                          "usuariosActivosDiarios": 45,
+                                          "usuariosActivosSemanales": 80,
+                                          "usuariosActivosMensuales": 110
                                         }
                                         """))),
                         @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación"),
@@ -117,28 +142,88 @@ public class AdminController {
         public ResponseEntity<Map<String, Object>> getDashboardStats() {
                 log.debug("Obteniendo estadísticas del dashboard para administrador");
 
-                long totalUsuarios = userService.countTotalUsers();
-                long usuariosActivos = userService.countActiveUsers();
-                long usuariosInactivos = userService.countInactiveUsers();
-                long totalPosts = postService.countTotalPosts();
-                long reportesPendientes = reportService.countPendingReports();
-                long reportesRechazados = reportService.countRejectedReports();
-                long reportesResueltos = reportService.countResolvedReports();
+                DashboardStatistics.Snapshot snapshot = dashboardStatistics.snapshot();
 
                 Map<String, Object> stats = Map.of(
-                                "totalUsuarios", totalUsuarios,
-                                "usuariosActivos", usuariosActivos,
-                                "usuariosInactivos", usuariosInactivos,
-                                "totalPublicaciones", totalPosts,
-                                "reportesPendientes", reportesPendientes,
-                                "reportesRechazados", reportesRechazados,
-                                "reportesResueltos", reportesResueltos);
+                                "totalUsuarios", snapshot.totalUsers(),
+                                "usuariosActivos", snapshot.activeUsers(),
+                                "usuariosInactivos", snapshot.inactiveUsers(),
+                                "totalPublicaciones", snapshot.totalPosts(),
+                                "reportesPendientes", snapshot.pendingReports(),
+                                "reportesRechazados", snapshot.rejectedReports(),
+                                "reportesResueltos", snapshot.resolvedReports(),
+                                "usuariosActivosDiarios", activeUserEstimator.dailyActiveUsers(),
+                                "usuariosActivosSemanales", activeUserEstimator.weeklyActiveUsers(),
+                                "usuariosActivosMensuales", activeUserEstimator.monthlyActiveUsers());
 
                 log.debug("Estadísticas del dashboard obtenidas exitosamente: {}", stats);
 
                 return ResponseEntity.ok(stats);
         }
 
+        /**
+         * Obtiene la serie temporal de una métrica del dashboard.
+         *
+         * Devuelve un punto por cada hora o día del rango con el número de
+         * publicaciones, registros, reportes o usuarios activos (solo por día).
+         * Los valores se leen de agregados precalculados, por lo que el coste
+         * depende del número de intervalos y no del volumen de datos.
+         *
+         * @param metric Métrica a consultar
+         * @param grain  Granularidad (HOUR o DAY)
+         * @param from   Primer día del rango (incluido)
+         * @param to     Último día del rango (incluido)
+         * @return ResponseEntity con la serie temporal
+         */
+        @GetMapping("/stats/timeseries")
+        @Operation(summary = "Obtener serie temporal", description = "Retorna una métrica del dashboard agregada por hora o por día en un rango de fechas")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Serie temporal obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TimeSeriesResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Rango o combinación de métrica y granularidad inválidos"),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación"),
+                        @ApiResponse(responseCode = "403", description = "Prohibido - Se requiere rol ADMIN")
+        })
+        public ResponseEntity<TimeSeriesResponse> getTimeSeries(
+                        @Parameter(description = "Métrica", example = "POSTS") @RequestParam StatsMetric metric,
+                        @Parameter(description = "Granularidad", example = "DAY") @RequestParam(defaultValue = "DAY") StatsGrain grain,
+                        @Parameter(description = "Primer día del rango", example = "2025-01-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @Parameter(description = "Último día del rango", example = "2025-01-31") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+                log.debug("Obteniendo serie temporal {} por {} del {} al {}", metric, grain, from, to);
+
+                TimeSeriesResponse series = statsRollupService.getTimeSeries(metric, grain, from, to);
+
+                return ResponseEntity.ok(series);
+        }
+
+        /**
+         * Recalcula los agregados de las series temporales de un rango de días.
+         *
+         * Útil tras cargas masivas de datos o para inicializar los agregados de
+         * datos anteriores a su introducción. Solo admite días cerrados y un
+         * rango de como máximo {@code app.stats.rollup.max-backfill-days} días.
+         *
+         * @param from Primer día del rango (incluido)
+         * @param to   Último día del rango (incluido)
+         * @return ResponseEntity sin contenido
+         */
+        @PostMapping("/stats/backfill")
+        @Operation(summary = "Recalcular series temporales", description = "Recalcula desde las tablas de origen los agregados de las series temporales en un rango de fechas")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "204", description = "Agregados recalculados exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Rango inválido, demasiado largo o que incluye el día actual"),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación"),
+                        @ApiResponse(responseCode = "403", description = "Prohibido - Se requiere rol ADMIN")
+        })
+        public ResponseEntity<Void> backfillStats(
+                        @Parameter(description = "Primer día del rango", example = "2025-01-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                        @Parameter(description = "Último día del rango", example = "2025-01-31") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+                log.debug("Recalculando series temporales del {} al {}", from, to);
+
+                statsRollupService.backfill(from, to);
+
+                return ResponseEntity.noContent().build();
+        }
+
         /**
          * Obtiene una lista paginada de todos los usuarios en el sistema con búsqueda
          * opcional.
@@ -163,6 +248,7 @@ public class AdminController {
          * @return ResponseEntity que contiene una Page de objetos UserResponse
          */
         @GetMapping("/users")
+        @QueryBudget(8)
         @Operation(summary = "Obtener lista de usuarios", description = "Retorna una lista paginada de todos los usuarios del sistema con búsqueda opcional")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Lista de usuarios obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserResponse.class))),
@@ -224,42 +310,46 @@ public class AdminController {
         }
 
         /**
-         * Obtiene una lista paginada de reportes con filtros opcionales.
+         * Obtiene una lista de reportes con filtros opcionales, paginada por cursor.
          *
          * Este endpoint permite a los administradores consultar reportes registrados
          * en el sistema. Soporta filtrado por estado (PENDING, RESOLVED, REJECTED) y
-         * búsqueda por términos en el contenido del reporte, lo que lo hace adecuado
-         * para la gestión de reportes en el panel de administración.
+         * búsqueda por términos en la razón, la descripción y los datos del
+         * reportero, lo que lo hace adecuado para la gestión de reportes en el
+         * panel de administración.
          *
-         * El filtrado y la paginación se procesan en la capa de servicio para
-         * garantizar un rendimiento óptimo.
+         * Los reportes se ordenan del más reciente al más antiguo. Para cargar la
+         * página siguiente se envía el {@code nextCursor} recibido en el parámetro
+         * {@code cursor} manteniendo los mismos filtros.
          *
-         * @param status   Filtro opcional por estado del reporte (PENDING, RESOLVED,
-         *                 REJECTED)
-         * @param search   Término de búsqueda opcional aplicado al contenido del
-         *                 reporte
-         * @param pageable Información de paginación (número de página, tamaño,
-         *                 ordenamiento)
-         * @return ResponseEntity que contiene una página de objetos ReportResponse
+         * @param status Filtro opcional por estado del reporte (PENDING, RESOLVED,
+         *               REJECTED)
+         * @param search Término de búsqueda opcional aplicado al contenido del
+         *               reporte
+         * @param cursor Cursor de la página anterior (opcional)
+         * @param size   Número máximo de reportes por página
+         * @return ResponseEntity con la página de reportes y el cursor de la siguiente
          */
         @GetMapping("/reports")
-        @Operation(summary = "Obtener reportes con filtros", description = "Retorna una lista paginada de reportes con filtros opcionales por estado y búsqueda")
+        @QueryBudget(8)
+        @Operation(summary = "Obtener reportes con filtros", description = "Retorna una lista de reportes paginada por cursor con filtros opcionales por estado y búsqueda")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Lista de reportes obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReportResponse.class))),
+                        @ApiResponse(responseCode = "200", description = "Lista de reportes obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReportSearchPage.class))),
+                        @ApiResponse(responseCode = "400", description = "Estado o cursor inválido"),
                         @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación"),
                         @ApiResponse(responseCode = "403", description = "Prohibido - Se requiere rol ADMIN")
         })
-        public ResponseEntity<Page<ReportResponse>> getAllReports(
+        public ResponseEntity<ReportSearchPage> getAllReports(
                         @Parameter(description = "Filtro por estado del reporte", example = "PENDING") @RequestParam(required = false) String status,
                         @Parameter(description = "Término de búsqueda en el contenido del reporte", example = "spam") @RequestParam(required = false) String search,
-                        @Parameter(description = "Parámetros de paginación", example = "page=0&size=10&sort=creationDate,desc") @PageableDefault(size = 10) Pageable pageable) {
-                log.debug("Obteniendo reportes con filtros - estado: {}, búsqueda: {}, página: {}",
-                                status, search, pageable.getPageNumber());
+                        @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Número máximo de reportes (1-100)", example = "10") @RequestParam(defaultValue = "10") int size) {
+                log.debug("Obteniendo reportes con filtros - estado: {}, búsqueda: {}, cursor: {}",
+                                status, search, cursor);
 
-                Page<ReportResponse> reports = reportService.getAllReportsWithFilters(status, search, pageable);
+                ReportSearchPage reports = reportService.getAllReportsWithFilters(status, search, cursor, size);
 
-                log.debug("Obtenidos {} reportes para la página {}", reports.getContent().size(),
-                                pageable.getPageNumber());
+                log.debug("Obtenidos {} reportes", reports.reports().size());
 
                 return ResponseEntity.ok(reports);
         }
@@ -6,17 +6,21 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.dto.auth.AvailabilityResponse;
 import com.mindhub.api.dto.auth.UserLoginRequest;
 import com.mindhub.api.dto.auth.UserRegisterRequest;
 import com.mindhub.api.dto.auth.UserResponse;
 import com.mindhub.api.service.user.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -142,4 +146,28 @@ public class AuthController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Comprueba si un nombre de usuario y/o email están disponibles.
+   *
+   * Pensado para validar en vivo el formulario de registro. Los valores que
+   * seguro no están en uso se resuelven en memoria sin consultar la base de
+   * datos.
+   *
+   * @param username Nombre de usuario a comprobar (opcional)
+   * @param email    Email a comprobar (opcional)
+   * @return ResponseEntity con la disponibilidad de cada valor consultado
+   */
+  @GetMapping("/availability")
+  @Operation(summary = "Comprobar disponibilidad", description = "Indica si un nombre de usuario y/o email están libres para el registro")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Disponibilidad comprobada", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AvailabilityResponse.class)))
+  })
+  public ResponseEntity<AvailabilityResponse> checkAvailability(
+      @Parameter(description = "Nombre de usuario a comprobar", example = "usuario123") @RequestParam(required = false) String username,
+      @Parameter(description = "Email a comprobar", example = "usuario@example.com") @RequestParam(required = false) String email) {
+    log.debug("Comprobando disponibilidad: username={}, email={}", username, email);
+
+    return ResponseEntity.ok(userService.checkAvailability(username, email));
+  }
+
 }
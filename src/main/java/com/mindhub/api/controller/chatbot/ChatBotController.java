@@ -1,8 +1,12 @@
 package com.mindhub.api.controller.chatbot;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -11,19 +15,23 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.mindhub.api.dto.chatbot.ChatBotConversationPage;
 import com.mindhub.api.dto.chatbot.ChatBotMessageResponse;
 import com.mindhub.api.service.chatbot.ChatBotService;
+import com.mindhub.api.service.chatbot.ChatStreamListener;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -44,7 +52,6 @@ import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/chatbot")
-@RequiredArgsConstructor
 @Slf4j
 @CrossOrigin(origins = "*")
 @Tag(name = "ChatBot", description = "Endpoints para interacción con el chatbot de la plataforma")
@@ -52,6 +59,13 @@ import lombok.extern.slf4j.Slf4j;
 public class ChatBotController {
 
         private final ChatBotService chatBotService;
+        private final long streamTimeoutMs;
+
+        public ChatBotController(ChatBotService chatBotService,
+                        @Value("${app.chatbot.stream.timeout-ms:60000}") long streamTimeoutMs) {
+                this.chatBotService = chatBotService;
+                this.streamTimeoutMs = streamTimeoutMs;
+        }
 
         /**
          * Envía un mensaje al chatbot y recibe una respuesta.
@@ -88,32 +102,118 @@ public class ChatBotController {
         }
 
         /**
-         * Obtiene el historial completo de conversación del usuario actual.
+         * Envía un mensaje al chatbot y recibe la respuesta por streaming (SSE).
+         * 
+         * La respuesta se emite token a token como eventos {@code token}; al
+         * terminar se envía un evento {@code done} con el mensaje completo, o
+         * un evento {@code error} si la generación falla. La generación se
+         * ejecuta fuera del hilo de la petición y se cancela si el cliente se
+         * desconecta o se supera {@code app.chatbot.stream.timeout-ms}.
+         * 
+         * @param request Mapa que contiene el mensaje del usuario
+         * @return Emisor SSE con la respuesta del chatbot
+         */
+        @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        @PreAuthorize("isAuthenticated()")
+        @Operation(summary = "Enviar mensaje al chatbot con respuesta en streaming", description = "Envía un mensaje al chatbot y recibe la respuesta token a token mediante Server-Sent Events")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Flujo de eventos con la respuesta del chatbot", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación"),
+                        @ApiResponse(responseCode = "400", description = "Mensaje inválido o demasiadas respuestas en curso")
+        })
+        public SseEmitter streamMessage(@RequestBody Map<String, String> request) {
+                String message = request.get("message");
+
+                log.debug("Mensaje recibido para ChatBot en streaming: {}", message);
+
+                SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+                // La generación puede emitir tokens antes de que streamMessage devuelva su tarea
+                CompletableFuture<Future<?>> generation = new CompletableFuture<>();
+
+                generation.complete(chatBotService.streamMessage(message, new ChatStreamListener() {
+                        @Override
+                        public void onToken(String token) {
+                                if (!send(emitter, SseEmitter.event().name("token").data(token))) {
+                                        generation.thenAccept(task -> task.cancel(true));
+                                }
+                        }
+
+                        @Override
+                        public void onComplete(ChatBotMessageResponse response) {
+                                send(emitter, SseEmitter.event().name("done").data(response,
+                                                MediaType.APPLICATION_JSON));
+                                emitter.complete();
+                        }
+
+                        @Override
+                        public void onError(Throwable error) {
+                                send(emitter, SseEmitter.event().name("error")
+                                                .data("No se pudo generar la respuesta del chatbot"));
+                                emitter.complete();
+                        }
+                }));
+
+                Runnable cancel = () -> generation.thenAccept(task -> task.cancel(true));
+                emitter.onTimeout(() -> {
+                        log.debug("Respuesta del chatbot en streaming excedió {} ms", streamTimeoutMs);
+                        cancel.run();
+                        emitter.complete();
+                });
+                emitter.onError(error -> cancel.run());
+                emitter.onCompletion(cancel);
+
+                return emitter;
+        }
+
+        /**
+         * Envía un evento SSE ignorando los clientes que ya se han desconectado.
+         * 
+         * @return false si el cliente ya no recibe eventos
+         */
+        private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+                try {
+                        emitter.send(event);
+                        return true;
+                } catch (IOException | IllegalStateException e) {
+                        log.debug("Cliente SSE del chatbot desconectado: {}", e.getMessage());
+                        return false;
+                }
+        }
+
+        /**
+         * Obtiene el historial de conversación del usuario actual paginado por
+         * cursor.
          * 
-         * Este endpoint permite a los usuarios recuperar todo su historial de
+         * Este endpoint permite a los usuarios recuperar su historial de
          * conversación con el chatbot. La conversación se mantiene privada
          * y solo es accesible para el usuario autenticado.
          * 
-         * El historial incluye tanto los mensajes enviados por el usuario como
-         * las respuestas generadas por el chatbot, ordenados cronológicamente.
+         * La primera llamada devuelve los mensajes más recientes; para cargar
+         * mensajes anteriores se envía el {@code nextCursor} recibido en el
+         * parámetro {@code before}. Los mensajes de cada página van ordenados
+         * cronológicamente.
          * 
-         * @return ResponseEntity con la lista de mensajes del historial de conversación
+         * @param before Cursor del mensaje más antiguo ya recibido (opcional)
+         * @param size   Número máximo de mensajes por página
+         * @return ResponseEntity con la página del historial de conversación
          */
         @GetMapping("/conversation")
         @PreAuthorize("isAuthenticated()")
-        @Operation(summary = "Obtener historial de conversación", description = "Recupera el historial completo de conversación del usuario con el chatbot")
+        @Operation(summary = "Obtener historial de conversación", description = "Recupera el historial de conversación del usuario con el chatbot paginado por cursor")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "Historial de conversación obtenido exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ChatBotMessageResponse.class))),
+                        @ApiResponse(responseCode = "200", description = "Historial de conversación obtenido exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ChatBotConversationPage.class))),
                         @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
         })
-        public ResponseEntity<List<ChatBotMessageResponse>> getCurrentUserConversation() {
+        public ResponseEntity<ChatBotConversationPage> getCurrentUserConversation(
+                        @Parameter(description = "Id del mensaje más antiguo ya recibido", example = "120") @RequestParam(required = false) Long before,
+                        @Parameter(description = "Número máximo de mensajes (1-100)", example = "50") @RequestParam(defaultValue = "50") int size) {
                 log.debug("Obteniendo historial de conversación del usuario actual");
 
-                List<ChatBotMessageResponse> messages = chatBotService.getCurrentUserConversationHistory();
+                ChatBotConversationPage page = chatBotService.getCurrentUserConversationHistory(before, size);
 
-                log.debug("Historial de conversación obtenido: {} mensajes", messages.size());
+                log.debug("Historial de conversación obtenido: {} mensajes", page.messages().size());
 
-                return ResponseEntity.ok(messages);
+                return ResponseEntity.ok(page);
         }
 
         /**
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.config.QueryBudget;
 import com.mindhub.api.dto.comment.CommentRequest;
 import com.mindhub.api.dto.comment.CommentResponse;
 import com.mindhub.api.service.comment.CommentService;
@@ -145,6 +146,7 @@ public class CommentController {
          */
         @GetMapping("/post/{postId}")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(12)
         @Operation(summary = "Obtener comentarios de una publicación", description = "Recupera una lista paginada de comentarios para una publicación específica")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Comentarios obtenidos exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CommentResponse.class))),
@@ -1,8 +1,10 @@
 package com.mindhub.api.controller.follow;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,11 +16,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.config.QueryBudget;
+import com.mindhub.api.dto.follow.FollowPage;
 import com.mindhub.api.dto.follow.FollowRequest;
 import com.mindhub.api.dto.follow.FollowResponse;
+import com.mindhub.api.dto.follow.FollowStateResponse;
 import com.mindhub.api.dto.follow.FollowStatsResponse;
+import com.mindhub.api.dto.follow.FollowSuggestionResponse;
 import com.mindhub.api.mapper.follow.FollowMapper;
 import com.mindhub.api.model.user.User;
 import com.mindhub.api.service.follow.FollowService;
@@ -183,35 +190,42 @@ public class FollowController {
          * específico con soporte para paginación. Los seguidores se ordenan por
          * fecha de seguimiento (más recientes primero).
          * 
-         * @param currentUser Usuario autenticado que consulta los seguidores
-         * @param userId      ID del usuario cuyos seguidores se consultan
-         * @param pageable    Información de paginación (número de página, tamaño,
-         *                    ordenamiento)
+         * @param currentUser  Usuario autenticado que consulta los seguidores
+         * @param userId       ID del usuario cuyos seguidores se consultan
+         * @param cursor       Cursor devuelto por la página anterior (vacío para la
+         *                     primera)
+         * @param size         Número máximo de relaciones (1-100)
+         * @param includeState Si se incluye el estado de seguimiento con el
+         *                     usuario actual en cada fila
          * @return ResponseEntity con la página de seguidores
          */
         @GetMapping("/{userId}/followers")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(8)
         @Operation(summary = "Obtener seguidores de un usuario", description = "Recupera una lista paginada de usuarios que siguen a un usuario específico")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Seguidores obtenidos exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FollowResponse.class))),
                         @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación"),
                         @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
         })
-        public ResponseEntity<Page<FollowResponse>> getFollowers(
+        public ResponseEntity<FollowPage> getFollowers(
                         @AuthenticationPrincipal User currentUser,
                         @Parameter(description = "ID del usuario", example = "1") @PathVariable Long userId,
-                        @Parameter(description = "Parámetros de paginación", example = "page=0&size=20&sort=followDate,desc") @PageableDefault(size = 20) Pageable pageable) {
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Número máximo de relaciones (1-100)", example = "20") @RequestParam(defaultValue = "20") int size,
+                        @Parameter(description = "Incluir si el usuario actual sigue a cada usuario y si este le sigue") @RequestParam(defaultValue = "false") boolean includeState) {
 
-                log.debug("Obteniendo seguidores para usuario ID: {}, página: {}", userId, pageable.getPageNumber());
+                log.debug("Obteniendo seguidores para usuario ID: {}, cursor: {}", userId, cursor);
 
-                User user = userService.findByIdOrThrow(userId);
+                userService.findByIdOrThrow(userId);
 
-                Page<com.mindhub.api.model.follow.Follow> follows = followService.getFollowsByFollowed(user,
-                                pageable);
+                FollowPage response = followService.getFollowers(userId, cursor, size);
 
-                Page<FollowResponse> response = follows.map(followMapper::toResponse);
+                if (includeState) {
+                        withFollowState(response.follows(), currentUser, FollowResponse::getFollowerId);
+                }
 
-                log.debug("Seguidores obtenidos: {} para usuario ID: {}", response.getContent().size(), userId);
+                log.debug("Seguidores obtenidos: {} para usuario ID: {}", response.follows().size(), userId);
 
                 return ResponseEntity.ok(response);
         }
@@ -223,39 +237,108 @@ public class FollowController {
          * está siguiendo con soporte para paginación. Los seguidos se ordenan por
          * fecha de seguimiento (más recientes primero).
          * 
-         * @param currentUser Usuario autenticado que consulta los seguidos
-         * @param userId      ID del usuario cuyos seguidos se consultan
-         * @param pageable    Información de paginación (número de página, tamaño,
-         *                    ordenamiento)
+         * @param currentUser  Usuario autenticado que consulta los seguidos
+         * @param userId       ID del usuario cuyos seguidos se consultan
+         * @param cursor       Cursor devuelto por la página anterior (vacío para la
+         *                     primera)
+         * @param size         Número máximo de relaciones (1-100)
+         * @param includeState Si se incluye el estado de seguimiento con el
+         *                     usuario actual en cada fila
          * @return ResponseEntity con la página de seguidos
          */
         @GetMapping("/{userId}/followed")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(8)
         @Operation(summary = "Obtener seguidos de un usuario", description = "Recupera una lista paginada de usuarios que un usuario específico está siguiendo")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Seguidos obtenidos exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FollowResponse.class))),
                         @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación"),
                         @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
         })
-        public ResponseEntity<Page<FollowResponse>> getFollowing(
+        public ResponseEntity<FollowPage> getFollowing(
                         @AuthenticationPrincipal User currentUser,
                         @Parameter(description = "ID del usuario", example = "1") @PathVariable Long userId,
-                        @Parameter(description = "Parámetros de paginación", example = "page=0&size=20&sort=followDate,desc") @PageableDefault(size = 20) Pageable pageable) {
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Número máximo de relaciones (1-100)", example = "20") @RequestParam(defaultValue = "20") int size,
+                        @Parameter(description = "Incluir si el usuario actual sigue a cada usuario y si este le sigue") @RequestParam(defaultValue = "false") boolean includeState) {
 
-                log.debug("Obteniendo seguidos para usuario ID: {}, página: {}", userId, pageable.getPageNumber());
+                log.debug("Obteniendo seguidos para usuario ID: {}, cursor: {}", userId, cursor);
 
-                User user = userService.findByIdOrThrow(userId);
+                userService.findByIdOrThrow(userId);
 
-                Page<com.mindhub.api.model.follow.Follow> follows = followService.getFollowsByFollower(user,
-                                pageable);
+                FollowPage response = followService.getFollowing(userId, cursor, size);
 
-                Page<FollowResponse> response = follows.map(followMapper::toResponse);
+                if (includeState) {
+                        withFollowState(response.follows(), currentUser, FollowResponse::getFollowedId);
+                }
 
-                log.debug("Seguidos obtenidos: {} para usuario ID: {}", response.getContent().size(), userId);
+                log.debug("Seguidos obtenidos: {} para usuario ID: {}", response.follows().size(), userId);
 
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Obtiene sugerencias de cuentas a seguir para el usuario actual.
+         * 
+         * Se sugieren cuentas seguidas por las cuentas que sigue el usuario y
+         * seguidores a los que aún no sigue, ordenadas por seguidos en común e
+         * intereses compartidos.
+         * 
+         * @param currentUser Usuario autenticado
+         * @param size        Número máximo de sugerencias
+         * @return ResponseEntity con la lista de sugerencias
+         */
+        @GetMapping("/suggestions")
+        @PreAuthorize("isAuthenticated()")
+        @QueryBudget(8)
+        @Operation(summary = "Sugerencias de seguimiento", description = "Obtiene cuentas sugeridas para seguir según seguidos en común e intereses")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas exitosamente"),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
+        })
+        public ResponseEntity<List<FollowSuggestionResponse>> getSuggestions(
+                        @AuthenticationPrincipal User currentUser,
+                        @Parameter(description = "Número máximo de sugerencias (1-50)", example = "10") @RequestParam(defaultValue = "10") int size) {
+
+                log.debug("Obteniendo sugerencias de seguimiento para el usuario ID: {}", currentUser.getId());
+
+                List<FollowSuggestionResponse> suggestions = followService.getSuggestions(currentUser, size);
+
+                return ResponseEntity.ok(suggestions);
+        }
+
+        /**
+         * Obtiene el estado de seguimiento entre el usuario actual y varios
+         * usuarios.
+         * 
+         * Sustituye a llamar a {@code /check/{userId}} por cada fila de una lista:
+         * devuelve para cada ID si el usuario actual lo sigue y si él sigue al
+         * usuario actual, resuelto con una sola consulta. Los IDs inexistentes se
+         * devuelven con ambos indicadores a false.
+         * 
+         * @param currentUser Usuario autenticado
+         * @param ids         IDs de los usuarios (como mucho 500)
+         * @return ResponseEntity con el estado de cada usuario en el orden recibido
+         */
+        @GetMapping("/states")
+        @PreAuthorize("isAuthenticated()")
+        @Operation(summary = "Estado de seguimiento en bloque", description = "Indica para varios usuarios si el usuario actual los sigue y si ellos le siguen")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Estados obtenidos exitosamente"),
+                        @ApiResponse(responseCode = "400", description = "Demasiados IDs en la consulta"),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
+        })
+        public ResponseEntity<List<FollowStateResponse>> getFollowStates(
+                        @AuthenticationPrincipal User currentUser,
+                        @Parameter(description = "IDs de los usuarios separados por comas", example = "1,2,3") @RequestParam List<Long> ids) {
+
+                log.debug("Consultando estado de seguimiento con {} usuarios", ids.size());
+
+                List<FollowStateResponse> states = followService.getFollowStates(currentUser, ids);
+
+                return ResponseEntity.ok(states);
+        }
+
         /**
          * Verifica si el usuario actual sigue a otro usuario específico.
          * 
@@ -297,30 +380,37 @@ public class FollowController {
          * con soporte para paginación. Los seguidores se ordenan por fecha de
          * seguimiento (más recientes primero).
          * 
-         * @param currentUser Usuario autenticado que consulta sus seguidores
-         * @param pageable    Información de paginación (número de página, tamaño,
-         *                    ordenamiento)
+         * @param currentUser  Usuario autenticado que consulta sus seguidores
+         * @param cursor       Cursor devuelto por la página anterior (vacío para la
+         *                     primera)
+         * @param size         Número máximo de relaciones (1-100)
+         * @param includeState Si se incluye el estado de seguimiento con el
+         *                     usuario actual en cada fila
          * @return ResponseEntity con la página de seguidores del usuario actual
          */
         @GetMapping("/my-followers")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(8)
         @Operation(summary = "Obtener mis seguidores", description = "Recupera una lista paginada de usuarios que siguen al usuario actual")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Seguidores obtenidos exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FollowResponse.class))),
                         @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
         })
-        public ResponseEntity<Page<FollowResponse>> getMyFollowers(
+        public ResponseEntity<FollowPage> getMyFollowers(
                         @AuthenticationPrincipal User currentUser,
-                        @Parameter(description = "Parámetros de paginación", example = "page=0&size=20&sort=followDate,desc") @PageableDefault(size = 20) Pageable pageable) {
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Número máximo de relaciones (1-100)", example = "20") @RequestParam(defaultValue = "20") int size,
+                        @Parameter(description = "Incluir si el usuario actual sigue a cada usuario y si este le sigue") @RequestParam(defaultValue = "false") boolean includeState) {
 
-                log.debug("Obteniendo seguidores del usuario actual, página: {}", pageable.getPageNumber());
+                log.debug("Obteniendo seguidores del usuario actual, cursor: {}", cursor);
 
-                Page<com.mindhub.api.model.follow.Follow> follows = followService.getFollowsByFollowed(currentUser,
-                                pageable);
+                FollowPage response = followService.getFollowers(currentUser.getId(), cursor, size);
 
-                Page<FollowResponse> response = follows.map(followMapper::toResponse);
+                if (includeState) {
+                        withFollowState(response.follows(), currentUser, FollowResponse::getFollowerId);
+                }
 
-                log.debug("Seguidores obtenidos: {} para usuario actual", response.getContent().size());
+                log.debug("Seguidores obtenidos: {} para usuario actual", response.follows().size());
 
                 return ResponseEntity.ok(response);
         }
@@ -332,32 +422,64 @@ public class FollowController {
          * que está siguiendo con soporte para paginación. Los seguidos se ordenan
          * por fecha de seguimiento (más recientes primero).
          * 
-         * @param currentUser Usuario autenticado que consulta sus seguidos
-         * @param pageable    Información de paginación (número de página, tamaño,
-         *                    ordenamiento)
+         * @param currentUser  Usuario autenticado que consulta sus seguidos
+         * @param cursor       Cursor devuelto por la página anterior (vacío para la
+         *                     primera)
+         * @param size         Número máximo de relaciones (1-100)
+         * @param includeState Si se incluye el estado de seguimiento con el
+         *                     usuario actual en cada fila
          * @return ResponseEntity con la página de seguidos del usuario actual
          */
         @GetMapping("/my-following")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(8)
         @Operation(summary = "Obtener mis seguidos", description = "Recupera una lista paginada de usuarios que el usuario actual está siguiendo")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Seguidos obtenidos exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FollowResponse.class))),
                         @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
         })
-        public ResponseEntity<Page<FollowResponse>> getMyFollowing(
+        public ResponseEntity<FollowPage> getMyFollowing(
                         @AuthenticationPrincipal User currentUser,
-                        @Parameter(description = "Parámetros de paginación", example = "page=0&size=20&sort=followDate,desc") @PageableDefault(size = 20) Pageable pageable) {
+                        @Parameter(description = "Cursor de la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Número máximo de relaciones (1-100)", example = "20") @RequestParam(defaultValue = "20") int size,
+                        @Parameter(description = "Incluir si el usuario actual sigue a cada usuario y si este le sigue") @RequestParam(defaultValue = "false") boolean includeState) {
 
-                log.debug("Obteniendo seguidos del usuario actual, página: {}", pageable.getPageNumber());
+                log.debug("Obteniendo seguidos del usuario actual, cursor: {}", cursor);
 
-                Page<com.mindhub.api.model.follow.Follow> follows = followService.getFollowsByFollower(currentUser,
-                                pageable);
+                FollowPage response = followService.getFollowing(currentUser.getId(), cursor, size);
 
-                Page<FollowResponse> response = follows.map(followMapper::toResponse);
+                if (includeState) {
+                        withFollowState(response.follows(), currentUser, FollowResponse::getFollowedId);
+                }
 
-                log.debug("Seguidos obtenidos: {} para usuario actual", response.getContent().size());
+                log.debug("Seguidos obtenidos: {} para usuario actual", response.follows().size());
 
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Añade a cada fila el estado de seguimiento entre el usuario actual y el
+         * otro usuario de la relación, consultándolo en bloque.
+         * 
+         * @param follows     Relaciones ya convertidas
+         * @param currentUser Usuario autenticado
+         * @param otherUserId Función que obtiene el ID del otro usuario de la fila
+         */
+        private void withFollowState(List<FollowResponse> follows, User currentUser,
+                        Function<FollowResponse, Long> otherUserId) {
+                List<Long> ids = follows.stream().map(otherUserId).toList();
+
+                Map<Long, FollowStateResponse> states = new HashMap<>();
+                for (int from = 0; from < ids.size(); from += FollowService.MAX_FOLLOW_STATE_IDS) {
+                        List<Long> chunk = ids.subList(from, Math.min(from + FollowService.MAX_FOLLOW_STATE_IDS, ids.size()));
+                        followService.getFollowStates(currentUser, chunk)
+                                        .forEach(state -> states.put(state.userId(), state));
+                }
+
+                follows.forEach(response -> {
+                        FollowStateResponse state = states.get(otherUserId.apply(response));
+                        response.setFollows(state != null && state.follows());
+                        response.setFollowsYou(state != null && state.followsYou());
+                });
+        }
 }
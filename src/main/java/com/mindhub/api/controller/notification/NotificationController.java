@@ -11,10 +11,15 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.config.QueryBudget;
+import com.mindhub.api.dto.notification.NotificationPreferenceRequest;
+import com.mindhub.api.dto.notification.NotificationPreferenceResponse;
 import com.mindhub.api.dto.notification.NotificationResponse;
+import com.mindhub.api.service.notification.NotificationPreferenceService;
 import com.mindhub.api.service.notification.NotificationService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,8 +31,9 @@ import lombok.extern.slf4j.Slf4j;
  *
  * Proporciona endpoints para obtener notificaciones del usuario autenticado,
  * consultar notificaciones no leídas,
- * contar notificaciones no leídas, marcar notificaciones como leídas y marcar
- * todas las notificaciones como leídas.
+ * contar notificaciones no leídas, marcar notificaciones como leídas, marcar
+ * todas las notificaciones como leídas y gestionar las preferencias de
+ * notificación.
  *
  * Todos los endpoints requieren autenticación y están diseñados para garantizar
  * la privacidad de las notificaciones de cada usuario.
@@ -41,6 +47,7 @@ import lombok.extern.slf4j.Slf4j;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPreferenceService notificationPreferenceService;
 
     /**
      * Obtiene todas las notificaciones del usuario autenticado con paginación.
@@ -48,6 +55,7 @@ public class NotificationController {
      * @param pageable parámetros de paginación (page, size, sort)
      * @return ResponseEntity con la lista paginada de notificaciones
      */
+    @QueryBudget(8)
     @GetMapping
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Page<NotificationResponse>> getMyNotifications(
@@ -75,6 +83,7 @@ public class NotificationController {
      * @param pageable parámetros de paginación (page, size, sort)
      * @return ResponseEntity con la lista paginada de notificaciones no leídas
      */
+    @QueryBudget(8)
     @GetMapping("/unread")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Page<NotificationResponse>> getUnreadNotifications(
@@ -133,4 +142,32 @@ public class NotificationController {
         return ResponseEntity.ok(Map.of("message", "Todas las notificaciones marcadas como leídas"));
 
     }
+
+    /**
+     * Obtiene las preferencias de notificación del usuario autenticado.
+     *
+     * @return ResponseEntity con los tipos silenciados y el modo resumen diario
+     */
+    @GetMapping("/preferences")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<NotificationPreferenceResponse> getPreferences() {
+        log.info("Solicitando preferencias de notificación del usuario autenticado");
+
+        return ResponseEntity.ok(notificationPreferenceService.getCurrentUserPreferences());
+    }
+
+    /**
+     * Actualiza las preferencias de notificación del usuario autenticado.
+     *
+     * @param request tipos silenciados y modo resumen diario
+     * @return ResponseEntity con las preferencias actualizadas
+     */
+    @PutMapping("/preferences")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<NotificationPreferenceResponse> updatePreferences(
+            @RequestBody NotificationPreferenceRequest request) {
+        log.info("Actualizando preferencias de notificación del usuario autenticado");
+
+        return ResponseEntity.ok(notificationPreferenceService.updateCurrentUserPreferences(request));
+    }
 }
@@ -1,5 +1,6 @@
 package com.mindhub.api.controller.post;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
@@ -21,8 +22,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.config.QueryBudget;
 import com.mindhub.api.dto.post.PostCreateRequest;
 import com.mindhub.api.dto.post.PostResponse;
+import com.mindhub.api.dto.post.PostSearchPage;
+import com.mindhub.api.dto.post.TrendingTagResponse;
 import com.mindhub.api.model.enums.PrivacyType;
 import com.mindhub.api.model.user.User;
 import com.mindhub.api.service.post.PostService;
@@ -117,6 +121,7 @@ public class PostController {
          */
         @GetMapping("/feed")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(12)
         @Operation(summary = "Obtener feed personalizado", description = "Recupera el feed personalizado del usuario con publicaciones de usuarios seguidos y públicas")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Feed personalizado obtenido exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PostResponse.class))),
@@ -149,6 +154,7 @@ public class PostController {
          */
         @GetMapping("/public")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(12)
         @Operation(summary = "Obtener publicaciones públicas", description = "Recupera una lista de todas las publicaciones públicas de la plataforma")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Publicaciones públicas obtenidas exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PostResponse.class))),
@@ -178,6 +184,7 @@ public class PostController {
          */
         @GetMapping("/me")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(12)
         @Operation(summary = "Obtener mis publicaciones", description = "Recupera todas las publicaciones del usuario autenticado")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Publicaciones obtenidas exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PostResponse.class))),
@@ -208,6 +215,7 @@ public class PostController {
          */
         @GetMapping("/user/{userId}")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(12)
         @Operation(summary = "Obtener publicaciones de un usuario", description = "Recupera todas las publicaciones accesibles de un usuario específico")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Publicaciones del usuario obtenidas exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PostResponse.class))),
@@ -239,6 +247,7 @@ public class PostController {
          */
         @GetMapping("/reported")
         @PreAuthorize("hasRole('ADMIN')")
+        @QueryBudget(12)
         @Operation(summary = "Obtener publicaciones reportadas", description = "Recupera todas las publicaciones que han sido reportadas (solo administradores)")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Publicaciones reportadas obtenidas exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PostResponse.class))),
@@ -255,6 +264,131 @@ public class PostController {
                 return ResponseEntity.ok(posts);
         }
 
+        /**
+         * Busca publicaciones por texto completo.
+         * 
+         * Los resultados se ordenan por relevancia y solo incluyen publicaciones
+         * visibles para el usuario autenticado: las propias, las públicas de
+         * autores públicos y las públicas de los usuarios que sigue. Para cargar
+         * más resultados se envía el {@code nextCursor} recibido en el parámetro
+         * {@code cursor}.
+         * 
+         * @param q      Texto a buscar
+         * @param cursor Cursor de la página anterior (opcional)
+         * @param size   Número máximo de resultados por página
+         * @return ResponseEntity con la página de resultados
+         */
+        @GetMapping("/search")
+        @PreAuthorize("isAuthenticated()")
+        @QueryBudget(12)
+        @Operation(summary = "Buscar publicaciones", description = "Busca publicaciones visibles por texto completo ordenadas por relevancia y paginadas por cursor")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PostSearchPage.class))),
+                        @ApiResponse(responseCode = "400", description = "Texto de búsqueda o cursor inválido"),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
+        })
+        public ResponseEntity<PostSearchPage> searchPosts(
+                        @Parameter(description = "Texto a buscar", example = "vacaciones playa") @RequestParam String q,
+                        @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Número máximo de resultados (1-50)", example = "20") @RequestParam(defaultValue = "20") int size) {
+                log.debug("Buscando publicaciones con texto: {}", q);
+
+                PostSearchPage page = postService.searchPosts(q, cursor, size);
+
+                log.debug("Búsqueda de publicaciones completada: {} resultados", page.posts().size());
+                return ResponseEntity.ok(page);
+        }
+
+        /**
+         * Obtiene las publicaciones en tendencia.
+         * 
+         * Las publicaciones se ordenan por una puntuación de reacciones y
+         * comentarios que pierde la mitad de su valor cada pocas horas, de modo
+         * que priman las que reciben interacción reciente. Solo se incluyen
+         * publicaciones visibles para el usuario autenticado.
+         * 
+         * @param size Número máximo de publicaciones
+         * @return ResponseEntity con las publicaciones en tendencia
+         */
+        @GetMapping("/trending")
+        @PreAuthorize("isAuthenticated()")
+        @QueryBudget(12)
+        @Operation(summary = "Publicaciones en tendencia", description = "Obtiene las publicaciones visibles con más interacción reciente")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Tendencias obtenidas exitosamente"),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
+        })
+        public ResponseEntity<List<PostResponse>> getTrendingPosts(
+                        @Parameter(description = "Número máximo de publicaciones (1-50)", example = "20") @RequestParam(defaultValue = "20") int size) {
+                log.debug("Obteniendo publicaciones en tendencia");
+
+                List<PostResponse> posts = postService.getTrendingPosts(size);
+
+                return ResponseEntity.ok(posts);
+        }
+
+        /**
+         * Obtiene las publicaciones con un hashtag o una mención.
+         * 
+         * Las etiquetas que empiezan por {@code @} se buscan como menciones y el
+         * resto como hashtags. Solo se incluyen publicaciones visibles para el
+         * usuario autenticado, de la más reciente a la más antigua. Para cargar
+         * más resultados se envía el {@code nextCursor} recibido en el parámetro
+         * {@code cursor}.
+         * 
+         * @param tag    Hashtag o mención
+         * @param cursor Cursor de la página anterior (opcional)
+         * @param size   Número máximo de resultados por página
+         * @return ResponseEntity con la página de publicaciones
+         */
+        @GetMapping("/tag/{tag}")
+        @PreAuthorize("isAuthenticated()")
+        @QueryBudget(12)
+        @Operation(summary = "Publicaciones por etiqueta", description = "Obtiene las publicaciones visibles con un hashtag o una mención, paginadas por cursor")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Publicaciones obtenidas exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PostSearchPage.class))),
+                        @ApiResponse(responseCode = "400", description = "Etiqueta o cursor inválido"),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
+        })
+        public ResponseEntity<PostSearchPage> getPostsByTag(
+                        @Parameter(description = "Hashtag o mención, con o sin prefijo", example = "vacaciones") @PathVariable String tag,
+                        @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Número máximo de resultados (1-50)", example = "20") @RequestParam(defaultValue = "20") int size) {
+                log.debug("Obteniendo publicaciones con la etiqueta: {}", tag);
+
+                PostSearchPage page = postService.getPostsByTag(tag, cursor, size);
+
+                log.debug("Publicaciones con la etiqueta {} obtenidas: {}", tag, page.posts().size());
+                return ResponseEntity.ok(page);
+        }
+
+        /**
+         * Obtiene los hashtags en tendencia.
+         * 
+         * La frecuencia de cada hashtag es una estimación sobre las publicaciones
+         * públicas de la ventana indicada, de una hora a una semana.
+         * 
+         * @param hours Horas de la ventana
+         * @param limit Número máximo de hashtags
+         * @return ResponseEntity con los hashtags ordenados por frecuencia
+         */
+        @GetMapping("/tags/trending")
+        @PreAuthorize("isAuthenticated()")
+        @Operation(summary = "Hashtags en tendencia", description = "Obtiene los hashtags más usados en publicaciones públicas durante las últimas horas")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Tendencias obtenidas exitosamente"),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
+        })
+        public ResponseEntity<List<TrendingTagResponse>> getTrendingTags(
+                        @Parameter(description = "Horas de la ventana (1-168)", example = "24") @RequestParam(defaultValue = "24") int hours,
+                        @Parameter(description = "Número máximo de hashtags (1-50)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+                log.debug("Obteniendo hashtags en tendencia de las últimas {} horas", hours);
+
+                List<TrendingTagResponse> trending = postService.getTrendingTags(hours, limit);
+
+                return ResponseEntity.ok(trending);
+        }
+
         /**
          * Obtiene una publicación específica por su ID.
          * 
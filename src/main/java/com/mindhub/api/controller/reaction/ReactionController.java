@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.config.QueryBudget;
 import com.mindhub.api.dto.reaction.ReactionRequest;
 import com.mindhub.api.dto.reaction.ReactionResponse;
 import com.mindhub.api.model.enums.ReactionType;
@@ -157,6 +158,7 @@ public class ReactionController {
          */
         @GetMapping("/posts/{postId}")
         @PreAuthorize("isAuthenticated()")
+        @QueryBudget(8)
         @Operation(summary = "Obtener reacciones de una publicación", description = "Recupera todas las reacciones de una publicación específica con paginación")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Reacciones obtenidas exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReactionResponse.class))),
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.config.QueryBudget;
 import com.mindhub.api.dto.report.ReportRequest;
 import com.mindhub.api.dto.report.ReportResponse;
 import com.mindhub.api.model.enums.ReportStatus;
@@ -128,6 +129,7 @@ public class ReportController {
          */
         @GetMapping("/pending")
         @PreAuthorize("hasRole('ADMIN')")
+        @QueryBudget(8)
         @Operation(summary = "Obtener reportes pendientes", description = "Recupera todos los reportes pendientes de revisión (solo administradores)")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Reportes pendientes obtenidos exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReportResponse.class))),
@@ -160,6 +162,7 @@ public class ReportController {
          */
         @GetMapping("/post/{postId}")
         @PreAuthorize("hasRole('ADMIN')")
+        @QueryBudget(8)
         @Operation(summary = "Obtener reportes de una publicación", description = "Recupera todos los reportes de una publicación específica (solo administradores)")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Reportes de la publicación obtenidos exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReportResponse.class))),
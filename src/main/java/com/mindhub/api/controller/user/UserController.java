@@ -1,12 +1,16 @@
 package com.mindhub.api.controller.user;
 
+import java.util.List;
+
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,17 +22,21 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.mindhub.api.config.QueryBudget;
 import com.mindhub.api.dto.auth.UserRegisterRequest;
 import com.mindhub.api.dto.auth.UserResponse;
 import com.mindhub.api.dto.follow.FollowStatsResponse;
 import com.mindhub.api.dto.user.AdminUserUpdateRequest;
+import com.mindhub.api.dto.user.ProfilePageResponse;
 import com.mindhub.api.dto.user.UserProfileRequest;
 import com.mindhub.api.dto.user.UserProfileResponse;
 import com.mindhub.api.dto.user.UserUpdateRequest;
+import com.mindhub.api.dto.user.UsernameSuggestion;
 import com.mindhub.api.mapper.follow.FollowMapper;
 import com.mindhub.api.model.enums.PrivacyType;
 import com.mindhub.api.model.user.User;
 import com.mindhub.api.service.follow.FollowService;
+import com.mindhub.api.service.user.ProfilePageService;
 import com.mindhub.api.service.user.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -74,6 +82,7 @@ public class UserController {
         private final UserService userService;
         private final FollowService followService;
         private final FollowMapper followMapper;
+        private final ProfilePageService profilePageService;
 
         /**
          * Obtiene la información del usuario autenticado actual.
@@ -164,6 +173,42 @@ public class UserController {
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Obtiene en una sola respuesta los datos que muestra la página de
+         * perfil de un usuario.
+         * 
+         * Sustituye a consultar por separado {@code /api/users/{id}},
+         * {@code /api/users/{id}/follow-stats} y {@code /api/posts/user/{id}}: las
+         * tres consultas se resuelven a la vez en el servidor.
+         * 
+         * @param currentUser Usuario autenticado que consulta el perfil
+         * @param id          ID del usuario del perfil
+         * @param pageable    Paginación de las publicaciones del perfil
+         * @return ResponseEntity con el usuario, sus estadísticas de seguimiento y
+         *         su primera página de publicaciones
+         */
+        @GetMapping("/{id}/page")
+        @QueryBudget(12)
+        @PreAuthorize("isAuthenticated()")
+        @Operation(summary = "Obtener página de perfil", description = "Recupera el usuario, sus estadísticas de seguimiento y sus publicaciones en una sola petición")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de perfil obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProfilePageResponse.class))),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación"),
+                        @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+        })
+        public ResponseEntity<ProfilePageResponse> getProfilePage(
+                        @AuthenticationPrincipal User currentUser,
+                        @Parameter(description = "ID del usuario", example = "1") @PathVariable Long id,
+                        @Parameter(description = "Paginación de las publicaciones", example = "page=0&size=10") @PageableDefault(size = 10, sort = "creationDate", direction = Sort.Direction.DESC) Pageable pageable) {
+                log.debug("Obteniendo página de perfil para usuario ID: {}", id);
+
+                ProfilePageResponse response = profilePageService.getProfilePage(currentUser, id, pageable);
+
+                log.debug("Página de perfil obtenida exitosamente para usuario ID: {}", id);
+
+                return ResponseEntity.ok(response);
+        }
+
         /**
          * Busca usuarios públicos en la plataforma.
          * 
@@ -176,6 +221,7 @@ public class UserController {
          *                 ordenamiento)
          * @return ResponseEntity con la página de usuarios encontrados
          */
+        @QueryBudget(8)
         @GetMapping("/search")
         @PreAuthorize("isAuthenticated()")
         @Operation(summary = "Buscar usuarios", description = "Busca usuarios públicos en la plataforma usando un término de búsqueda")
@@ -195,6 +241,32 @@ public class UserController {
                 return ResponseEntity.ok(users);
         }
 
+        /**
+         * Sugiere nombres de usuario a partir de un prefijo.
+         * 
+         * Este endpoint alimenta el autocompletado de menciones (@usuario) y de
+         * las cajas de búsqueda. Solo sugiere usuarios públicos y activos; las
+         * sugerencias más cortas aparecen primero.
+         * 
+         * @param prefix Prefijo del nombre de usuario
+         * @param limit  Número máximo de sugerencias (máximo 20)
+         * @return ResponseEntity con la lista de sugerencias
+         */
+        @GetMapping("/autocomplete")
+        @PreAuthorize("isAuthenticated()")
+        @Operation(summary = "Autocompletar nombres de usuario", description = "Sugiere nombres de usuario públicos que empiezan por el prefijo indicado")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UsernameSuggestion.class))),
+                        @ApiResponse(responseCode = "401", description = "No autorizado - Se requiere autenticación")
+        })
+        public ResponseEntity<List<UsernameSuggestion>> autocompleteUsernames(
+                        @Parameter(description = "Prefijo del nombre de usuario", example = "jo") @RequestParam String prefix,
+                        @Parameter(description = "Número máximo de sugerencias", example = "10") @RequestParam(defaultValue = "10") int limit) {
+                log.debug("Autocompletando nombres de usuario con prefijo: '{}'", prefix);
+
+                return ResponseEntity.ok(userService.autocompleteUsernames(prefix, limit));
+        }
+
         /**
          * Obtiene todos los usuarios de la plataforma (solo administradores).
          * 
@@ -0,0 +1,15 @@
+package com.mindhub.api.dto.admin;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO que representa el valor de una métrica en un intervalo de una serie
+ * temporal del dashboard.
+ *
+ * @param bucketStart inicio del intervalo (hora o día)
+ * @param value       valor agregado de la métrica en el intervalo
+ */
+public record TimeSeriesPoint(
+        LocalDateTime bucketStart,
+        long value) {
+}
@@ -0,0 +1,22 @@
+package com.mindhub.api.dto.admin;
+
+import java.util.List;
+
+import com.mindhub.api.model.enums.StatsGrain;
+import com.mindhub.api.model.enums.StatsMetric;
+
+/**
+ * DTO de respuesta con una serie temporal del dashboard de administración.
+ *
+ * Incluye un punto por cada intervalo del rango pedido, con valor cero en
+ * los intervalos sin actividad.
+ *
+ * @param metric métrica consultada
+ * @param grain  granularidad de los intervalos
+ * @param points puntos de la serie ordenados cronológicamente
+ */
+public record TimeSeriesResponse(
+        StatsMetric metric,
+        StatsGrain grain,
+        List<TimeSeriesPoint> points) {
+}
@@ -0,0 +1,15 @@
+package com.mindhub.api.dto.auth;
+
+/**
+ * DTO de respuesta con la disponibilidad de un nombre de usuario y/o email
+ * durante el registro.
+ *
+ * Cada campo es null cuando el valor correspondiente no se ha consultado.
+ *
+ * @param usernameAvailable indica si el nombre de usuario está libre
+ * @param emailAvailable    indica si el email está libre
+ */
+public record AvailabilityResponse(
+        Boolean usernameAvailable,
+        Boolean emailAvailable) {
+}
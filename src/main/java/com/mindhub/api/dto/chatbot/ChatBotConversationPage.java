@@ -0,0 +1,22 @@
+package com.mindhub.api.dto.chatbot;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con una página del historial de conversación con el
+ * chatbot, paginada por cursor.
+ *
+ * Los mensajes se devuelven en orden cronológico dentro de la página. Para
+ * obtener mensajes más antiguos se vuelve a consultar pasando
+ * {@code nextCursor} como parámetro {@code before}.
+ *
+ * @param messages   mensajes de la página en orden cronológico
+ * @param nextCursor id a usar como cursor para la página anterior,
+ *                   null si no hay más mensajes
+ * @param hasMore    indica si existen mensajes más antiguos
+ */
+public record ChatBotConversationPage(
+        List<ChatBotMessageResponse> messages,
+        Long nextCursor,
+        boolean hasMore) {
+}
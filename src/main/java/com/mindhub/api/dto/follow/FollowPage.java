@@ -0,0 +1,22 @@
+package com.mindhub.api.dto.follow;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con una página de relaciones de seguimiento paginada por
+ * cursor.
+ *
+ * Las relaciones se devuelven de la más reciente a la más antigua. Para
+ * obtener la página siguiente se vuelve a consultar pasando
+ * {@code nextCursor} como parámetro {@code cursor}.
+ *
+ * @param follows    relaciones de seguimiento de la página
+ * @param nextCursor cursor opaco para la página siguiente, null si no hay
+ *                   más resultados
+ * @param hasMore    indica si existen más resultados
+ */
+public record FollowPage(
+        List<FollowResponse> follows,
+        String nextCursor,
+        boolean hasMore) {
+}
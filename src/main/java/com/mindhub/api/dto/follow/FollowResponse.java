@@ -27,6 +27,12 @@ import java.time.LocalDate;
  * @param followedProfilePicture URL de la foto de perfil del seguido
  * @param followDate             fecha en la que se estableció la relación de
  *                               seguimiento
+ * @param follows                indica si el usuario actual sigue al otro
+ *                               usuario de la fila (solo si se solicita el
+ *                               estado de seguimiento, null en otro caso)
+ * @param followsYou             indica si el otro usuario de la fila sigue al
+ *                               usuario actual (solo si se solicita el estado
+ *                               de seguimiento, null en otro caso)
  */
 @Data
 @NoArgsConstructor
@@ -44,4 +50,6 @@ public class FollowResponse {
     private String followedName;
     private String followedProfilePicture;
     private LocalDate followDate;
+    private Boolean follows;
+    private Boolean followsYou;
 }
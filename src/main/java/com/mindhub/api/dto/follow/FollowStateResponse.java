@@ -0,0 +1,15 @@
+package com.mindhub.api.dto.follow;
+
+/**
+ * DTO de respuesta con el estado de seguimiento entre el usuario actual y
+ * otro usuario.
+ *
+ * @param userId     identificador del otro usuario
+ * @param follows    indica si el usuario actual lo sigue
+ * @param followsYou indica si él sigue al usuario actual
+ */
+public record FollowStateResponse(
+        Long userId,
+        boolean follows,
+        boolean followsYou) {
+}
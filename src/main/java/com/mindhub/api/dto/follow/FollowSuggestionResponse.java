@@ -0,0 +1,24 @@
+package com.mindhub.api.dto.follow;
+
+/**
+ * DTO de respuesta con una cuenta sugerida para seguir.
+ *
+ * @param userId          identificador del usuario sugerido
+ * @param username        nombre de usuario
+ * @param name            nombre completo
+ * @param profilePicture  URL de la foto de perfil
+ * @param mutualFollows   número de cuentas seguidas por el usuario actual que
+ *                        también siguen a la sugerida
+ * @param followsYou      indica si la cuenta sugerida ya sigue al usuario
+ *                        actual
+ * @param sharedInterests número de intereses del perfil en común
+ */
+public record FollowSuggestionResponse(
+        Long userId,
+        String username,
+        String name,
+        String profilePicture,
+        long mutualFollows,
+        boolean followsYou,
+        int sharedInterests) {
+}
@@ -0,0 +1,21 @@
+package com.mindhub.api.dto.notification;
+
+import java.util.Set;
+
+import com.mindhub.api.model.enums.NotificationType;
+
+/**
+ * DTO de request que representa las preferencias de notificación que un
+ * usuario puede modificar.
+ *
+ * Los campos nulos conservan el valor actual de la preferencia.
+ *
+ * @param mutedTypes  tipos de notificación que no se desean recibir
+ *                    (solo COMMENT, REACTION y FOLLOW son configurables)
+ * @param dailyDigest indica si las notificaciones configurables se agrupan
+ *                    en un resumen diario en lugar de enviarse una a una
+ */
+public record NotificationPreferenceRequest(
+        Set<NotificationType> mutedTypes,
+        Boolean dailyDigest) {
+}
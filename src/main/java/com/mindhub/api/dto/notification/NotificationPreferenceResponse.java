@@ -0,0 +1,17 @@
+package com.mindhub.api.dto.notification;
+
+import java.util.Set;
+
+import com.mindhub.api.model.enums.NotificationType;
+
+/**
+ * DTO de respuesta que representa las preferencias de notificación
+ * del usuario autenticado.
+ *
+ * @param mutedTypes  tipos de notificación silenciados
+ * @param dailyDigest indica si el modo resumen diario está activado
+ */
+public record NotificationPreferenceResponse(
+        Set<NotificationType> mutedTypes,
+        Boolean dailyDigest) {
+}
@@ -30,6 +30,9 @@ import com.mindhub.api.model.enums.NotificationType;
  *                         notificación (ej. id de post, comentario, reporte)
  * @param referenciaTabla  nombre de la tabla o entidad relacionada con la
  *                         notificación (ej. "posts", "comments", "reports")
+ * @param actorCount       número de usuarios distintos agregados en la notificación
+ * @param lastActors       nombres de los actores más recientes, separados por
+ *                         comas (puede ser null en notificaciones no agregadas)
  */
 public record NotificationResponse(
         Long id,
@@ -40,5 +43,7 @@ public record NotificationResponse(
         LocalDate creationDate,
         LocalDate readDate,
         Long referenciaId,
-        String referenciaTabla) {
+        String referenciaTabla,
+        Integer actorCount,
+        String lastActors) {
 }
@@ -12,7 +12,7 @@ import com.mindhub.api.model.enums.PrivacyType;
  *
  * Este record se utiliza para devolver los datos de una publicación,
  * incluyendo su contenido, metadatos, autor y estadísticas básicas
- * de interacción (comentarios y likes).
+ * de interacción (comentarios, likes y visualizaciones).
  *
  * Se emplea en endpoints relacionados con la visualización de posts,
  * tanto en feeds públicos como privados, respetando el nivel de
@@ -29,6 +29,8 @@ import com.mindhub.api.model.enums.PrivacyType;
  * @param author       información del autor del post ({@link UserResponse})
  * @param commentCount número total de comentarios asociados al post
  * @param likeCount    número total de reacciones positivas (likes) en el post
+ * @param viewCount    número total de visualizaciones del post
+ * @param uniqueViewers número estimado de usuarios distintos que lo han visto
  *
  */
 public record PostResponse(
@@ -40,5 +42,7 @@ public record PostResponse(
         LocalDate updateDate,
         UserResponse author,
         Integer commentCount,
-        Integer likeCount) {
+        Integer likeCount,
+        Long viewCount,
+        Long uniqueViewers) {
 }
@@ -0,0 +1,23 @@
+package com.mindhub.api.dto.post;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con una página de publicaciones paginada por cursor,
+ * usada por la búsqueda de texto completo y por el listado por etiqueta.
+ *
+ * En la búsqueda los posts se ordenan por relevancia descendente y en las
+ * etiquetas del más reciente al más antiguo. Para obtener la página
+ * siguiente se vuelve a consultar pasando {@code nextCursor} como parámetro
+ * {@code cursor}.
+ *
+ * @param posts      publicaciones de la página
+ * @param nextCursor cursor opaco para la página siguiente, null si no hay
+ *                   más resultados
+ * @param hasMore    indica si existen más resultados
+ */
+public record PostSearchPage(
+        List<PostResponse> posts,
+        String nextCursor,
+        boolean hasMore) {
+}
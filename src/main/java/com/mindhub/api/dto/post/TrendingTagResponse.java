@@ -0,0 +1,13 @@
+package com.mindhub.api.dto.post;
+
+/**
+ * DTO de respuesta con un hashtag en tendencia.
+ *
+ * @param tag   hashtag normalizado, sin el prefijo {@code #}
+ * @param count número estimado de publicaciones públicas que lo usan en la
+ *              ventana consultada
+ */
+public record TrendingTagResponse(
+        String tag,
+        long count) {
+}
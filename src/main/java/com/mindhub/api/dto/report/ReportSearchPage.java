@@ -0,0 +1,22 @@
+package com.mindhub.api.dto.report;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta con una página del listado filtrado de reportes del panel
+ * de administración, paginada por cursor.
+ *
+ * Los reportes se devuelven del más reciente al más antiguo. Para obtener la
+ * página siguiente se vuelve a consultar con los mismos filtros pasando
+ * {@code nextCursor} como parámetro {@code cursor}.
+ *
+ * @param reports    reportes de la página ordenados por fecha descendente
+ * @param nextCursor cursor opaco para la página siguiente, null si no hay
+ *                   más reportes
+ * @param hasMore    indica si existen más reportes
+ */
+public record ReportSearchPage(
+        List<ReportResponse> reports,
+        String nextCursor,
+        boolean hasMore) {
+}
@@ -0,0 +1,21 @@
+package com.mindhub.api.dto.user;
+
+import org.springframework.data.domain.Page;
+
+import com.mindhub.api.dto.auth.UserResponse;
+import com.mindhub.api.dto.follow.FollowStatsResponse;
+import com.mindhub.api.dto.post.PostResponse;
+
+/**
+ * DTO de respuesta con todo lo necesario para mostrar el perfil de un
+ * usuario en una sola petición.
+ *
+ * @param user        datos del usuario
+ * @param followStats estadísticas de seguimiento respecto al usuario actual
+ * @param posts       primera página de publicaciones visibles del usuario
+ */
+public record ProfilePageResponse(
+        UserResponse user,
+        FollowStatsResponse followStats,
+        Page<PostResponse> posts) {
+}
@@ -0,0 +1,15 @@
+package com.mindhub.api.dto.user;
+
+/**
+ * DTO de respuesta con una sugerencia de autocompletado de nombre de usuario.
+ *
+ * Se utiliza en las menciones (@usuario) y en las cajas de búsqueda para
+ * completar nombres de usuario públicos a partir de un prefijo.
+ *
+ * @param id       identificador del usuario sugerido
+ * @param username nombre de usuario sugerido
+ */
+public record UsernameSuggestion(
+        Long id,
+        String username) {
+}
@@ -0,0 +1,15 @@
+package com.mindhub.api.event;
+
+/**
+ * Evento de dominio publicado cuando un usuario empieza o deja de seguir a
+ * otro.
+ *
+ * @param followerId identificador del usuario que sigue
+ * @param followedId identificador del usuario seguido
+ * @param following  true al seguir, false al dejar de seguir
+ */
+public record FollowChangedEvent(
+        Long followerId,
+        Long followedId,
+        boolean following) {
+}
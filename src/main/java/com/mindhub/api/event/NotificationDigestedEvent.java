@@ -0,0 +1,15 @@
+package com.mindhub.api.event;
+
+import com.mindhub.api.model.enums.NotificationType;
+
+/**
+ * Evento de dominio publicado cuando una notificación se acumula en el
+ * resumen diario del destinatario en lugar de persistirse.
+ *
+ * @param userId identificador del usuario destinatario
+ * @param type   tipo de la notificación acumulada
+ */
+public record NotificationDigestedEvent(
+        Long userId,
+        NotificationType type) {
+}
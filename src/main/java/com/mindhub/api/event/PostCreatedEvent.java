@@ -0,0 +1,12 @@
+package com.mindhub.api.event;
+
+/**
+ * Evento de dominio publicado cuando se crea una publicación.
+ *
+ * @param postId   identificador de la publicación
+ * @param authorId identificador del autor
+ */
+public record PostCreatedEvent(
+        Long postId,
+        Long authorId) {
+}
@@ -0,0 +1,13 @@
+package com.mindhub.api.event;
+
+/**
+ * Evento de dominio publicado cuando se elimina una publicación, ya sea por
+ * su autor o por un administrador.
+ *
+ * @param postId   identificador de la publicación eliminada
+ * @param authorId identificador del autor
+ */
+public record PostDeletedEvent(
+        Long postId,
+        Long authorId) {
+}
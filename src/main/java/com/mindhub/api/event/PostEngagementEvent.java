@@ -0,0 +1,36 @@
+package com.mindhub.api.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Evento de dominio publicado cuando cambia la interacción con una
+ * publicación: se añade o se quita una reacción o un comentario.
+ *
+ * @param postId       identificador de la publicación
+ * @param kind         tipo de interacción
+ * @param engagementId identificador de la reacción o del comentario
+ * @param delta        +1 al añadirla, -1 al quitarla
+ * @param occurredAt   momento de la interacción (al quitarla, el inicio del
+ *                     día de su creación, que es lo único que se guarda)
+ */
+public record PostEngagementEvent(
+        Long postId,
+        Kind kind,
+        Long engagementId,
+        int delta,
+        LocalDateTime occurredAt) {
+
+    public enum Kind {
+        REACTION,
+        COMMENT
+    }
+
+    public static PostEngagementEvent added(Long postId, Kind kind, Long engagementId) {
+        return new PostEngagementEvent(postId, kind, engagementId, 1, LocalDateTime.now());
+    }
+
+    public static PostEngagementEvent removed(Long postId, Kind kind, Long engagementId, LocalDate createdOn) {
+        return new PostEngagementEvent(postId, kind, engagementId, -1, createdOn.atStartOfDay());
+    }
+}
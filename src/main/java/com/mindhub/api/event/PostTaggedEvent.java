@@ -0,0 +1,22 @@
+package com.mindhub.api.event;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import com.mindhub.api.model.enums.PrivacyType;
+
+/**
+ * Evento de dominio publicado cuando se añaden hashtags a una publicación,
+ * al crearla o al editar su contenido.
+ *
+ * @param postId      identificador de la publicación
+ * @param privacyType privacidad de la publicación en ese momento
+ * @param hashtags    hashtags nuevos, normalizados
+ * @param taggedAt    momento en que se añadieron
+ */
+public record PostTaggedEvent(
+        Long postId,
+        PrivacyType privacyType,
+        Set<String> hashtags,
+        LocalDateTime taggedAt) {
+}
@@ -0,0 +1,17 @@
+package com.mindhub.api.event;
+
+import com.mindhub.api.model.enums.ReportStatus;
+
+/**
+ * Evento de dominio publicado cuando se crea un reporte o cambia su estado
+ * tras la revisión de un administrador.
+ *
+ * @param reportId       identificador del reporte
+ * @param previousStatus estado anterior, null si el reporte se acaba de crear
+ * @param status         estado actual
+ */
+public record ReportStatusChangedEvent(
+        Long reportId,
+        ReportStatus previousStatus,
+        ReportStatus status) {
+}
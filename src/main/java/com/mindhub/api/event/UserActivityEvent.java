@@ -0,0 +1,18 @@
+package com.mindhub.api.event;
+
+import java.time.LocalDate;
+
+/**
+ * Evento de dominio publicado cuando un usuario realiza una acción que
+ * cuenta como actividad (publicar, comentar, reaccionar, reportar).
+ *
+ * @param userId             identificador del usuario
+ * @param date               día de la actividad
+ * @param firstActivityOfDay true si es la primera actividad registrada del
+ *                           usuario en ese día
+ */
+public record UserActivityEvent(
+        Long userId,
+        LocalDate date,
+        boolean firstActivityOfDay) {
+}
@@ -0,0 +1,42 @@
+package com.mindhub.api.event;
+
+import com.mindhub.api.model.enums.PrivacyType;
+import com.mindhub.api.model.user.User;
+
+/**
+ * Evento de dominio publicado cuando cambian los datos indexables de un
+ * usuario: alta, edición, cambio de privacidad, activación o eliminación.
+ *
+ * Lleva una copia de los campos relevantes para que los índices en memoria
+ * se actualicen tras confirmar la transacción sin volver a consultar la
+ * base de datos.
+ *
+ * @param userId       identificador del usuario
+ * @param username     nombre de usuario
+ * @param email        correo electrónico
+ * @param firstName    nombre
+ * @param lastName     apellidos
+ * @param privacyType  tipo de privacidad del perfil
+ * @param active       indica si la cuenta está activa
+ * @param deleted      indica si el usuario ha sido eliminado
+ */
+public record UserChangedEvent(
+        Long userId,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        PrivacyType privacyType,
+        boolean active,
+        boolean deleted) {
+
+    public static UserChangedEvent updated(User user) {
+        return new UserChangedEvent(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+                user.getLastName(), user.getPrivacyType(), Boolean.TRUE.equals(user.getActive()), false);
+    }
+
+    public static UserChangedEvent deleted(User user) {
+        return new UserChangedEvent(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+                user.getLastName(), user.getPrivacyType(), false, true);
+    }
+}
@@ -0,0 +1,18 @@
+package com.mindhub.api.event;
+
+/**
+ * Evento de dominio publicado cuando un usuario completa el registro público.
+ *
+ * Se procesa tras confirmar la transacción de registro, de forma que las
+ * tareas derivadas (como notificar a los administradores) no alargan la
+ * latencia del alta ni se ejecutan si esta se revierte.
+ *
+ * @param userId   identificador del usuario registrado
+ * @param username nombre de usuario del usuario registrado
+ * @param fullName nombre completo del usuario registrado
+ */
+public record UserRegisteredEvent(
+        Long userId,
+        String username,
+        String fullName) {
+}
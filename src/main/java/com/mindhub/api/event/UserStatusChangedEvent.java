@@ -0,0 +1,31 @@
+package com.mindhub.api.event;
+
+/**
+ * Evento de dominio publicado cuando un usuario se crea, cambia de estado
+ * (activo/inactivo) o se elimina.
+ *
+ * Un estado null indica que el usuario no existía antes (alta) o que ya no
+ * existe después (eliminación), de forma que los contadores derivados pueden
+ * aplicar el cambio sin consultar la base de datos.
+ *
+ * @param userId         identificador del usuario
+ * @param previousActive estado anterior, null si el usuario se acaba de crear
+ * @param active         estado actual, null si el usuario se ha eliminado
+ */
+public record UserStatusChangedEvent(
+        Long userId,
+        Boolean previousActive,
+        Boolean active) {
+
+    public static UserStatusChangedEvent created(Long userId, boolean active) {
+        return new UserStatusChangedEvent(userId, null, active);
+    }
+
+    public static UserStatusChangedEvent activeChanged(Long userId, boolean active) {
+        return new UserStatusChangedEvent(userId, !active, active);
+    }
+
+    public static UserStatusChangedEvent deleted(Long userId, boolean wasActive) {
+        return new UserStatusChangedEvent(userId, wasActive, null);
+    }
+}
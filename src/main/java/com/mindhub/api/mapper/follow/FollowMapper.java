@@ -1,5 +1,7 @@
 package com.mindhub.api.mapper.follow;
 
+import java.time.LocalDate;
+
 import org.springframework.stereotype.Component;
 
 import com.mindhub.api.dto.follow.FollowResponse;
@@ -48,6 +50,31 @@ public class FollowMapper {
                 .build();
     }
 
+    /**
+     * Convierte una fila de las consultas de listados de seguimiento en un
+     * DTO FollowResponse.
+     *
+     * @param row Array [id, followerId, followerUsername, followerFirstName,
+     *            followerLastName, followerProfilePicture, followedId,
+     *            followedUsername, followedFirstName, followedLastName,
+     *            followedProfilePicture, followDate].
+     * @return DTO con los datos del seguimiento.
+     */
+    public FollowResponse toResponse(Object[] row) {
+        return FollowResponse.builder()
+                .id((Long) row[0])
+                .followerId((Long) row[1])
+                .followerUsername((String) row[2])
+                .followerName(row[3] + " " + row[4])
+                .followerProfilePicture((String) row[5])
+                .followedId((Long) row[6])
+                .followedUsername((String) row[7])
+                .followedName(row[8] + " " + row[9])
+                .followedProfilePicture((String) row[10])
+                .followDate((LocalDate) row[11])
+                .build();
+    }
+
     /**
      * Convierte un User en un DTO FollowStatsResponse,
      * incluyendo estadísticas de seguidores y seguidos.
@@ -2,6 +2,7 @@ package com.mindhub.api.mapper.notification;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import com.mindhub.api.dto.notification.NotificationResponse;
 import com.mindhub.api.model.notification.Notification;
@@ -23,7 +24,8 @@ public interface NotificationMapper {
      *
      * El campo type se transforma en notificationType, el campo referenceId se
      * asigna a referenciaId,
-     * y el campo referenceTable se mapea a referenciaTabla.
+     * y el campo referenceTable se mapea a referenciaTabla. Los actores
+     * recientes se devuelven separados por comas.
      *
      * @param notification entidad Notification a convertir
      * @return NotificationResponse con los datos de la notificación
@@ -31,6 +33,20 @@ public interface NotificationMapper {
     @Mapping(source = "type", target = "notificationType")
     @Mapping(source = "referenceId", target = "referenciaId")
     @Mapping(source = "referenceTable", target = "referenciaTabla")
+    @Mapping(source = "lastActors", target = "lastActors", qualifiedByName = "actorList")
     NotificationResponse toResponse(Notification notification);
 
+    /**
+     * Convierte la lista de actores guardada en la lista separada por comas
+     * de la respuesta.
+     *
+     * @param lastActors lista guardada, separada por
+     *                   {@link Notification#ACTOR_SEPARATOR}
+     * @return nombres separados por comas, o null si no hay lista
+     */
+    @Named("actorList")
+    default String actorList(String lastActors) {
+        return lastActors == null ? null : String.join(", ", Notification.splitActors(lastActors));
+    }
+
 }
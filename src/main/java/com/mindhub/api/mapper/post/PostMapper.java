@@ -29,7 +29,7 @@ public interface PostMapper {
      * Convierte un DTO PostCreateRequest en una entidad Post.
      *
      * Se ignoran campos como id, creationDate, updateDate, author, comments,
-     * reactions y reports, ya que son gestionados automáticamente o asignados
+     * reactions, reports y tags, ya que son gestionados automáticamente o asignados
      * en la lógica de negocio. El campo privacyType se mapea directamente.
      *
      * @param request DTO con los datos de creación del post
@@ -42,14 +42,15 @@ public interface PostMapper {
     @Mapping(target = "comments", ignore = true)
     @Mapping(target = "reactions", ignore = true)
     @Mapping(target = "reports", ignore = true)
+    @Mapping(target = "tags", ignore = true)
     @Mapping(source = "privacyType", target = "privacyType")
     Post toEntity(PostCreateRequest request);
 
     /**
      * Convierte una entidad Post en un DTO PostResponse.
      *
-     * El campo privacyType se mapea directamente. Los campos commentCount y
-     * likeCount se inicializan en 0,
+     * El campo privacyType se mapea directamente. Los campos commentCount,
+     * likeCount, viewCount y uniqueViewers se inicializan en 0,
      * ya que se espera que sean calculados posteriormente en la lógica de negocio.
      * El campo author se transforma utilizando UserMapper.
      *
@@ -59,6 +60,8 @@ public interface PostMapper {
     @Mapping(source = "privacyType", target = "privacyType")
     @Mapping(target = "commentCount", constant = "0")
     @Mapping(target = "likeCount", constant = "0")
+    @Mapping(target = "viewCount", constant = "0L")
+    @Mapping(target = "uniqueViewers", constant = "0L")
     @Mapping(source = "author", target = "author")
     PostResponse toResponse(Post post);
 
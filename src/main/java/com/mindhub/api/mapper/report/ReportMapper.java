@@ -10,7 +10,6 @@ import com.mindhub.api.dto.report.ReportResponse;
 import com.mindhub.api.mapper.user.UserMapper;
 import com.mindhub.api.model.post.Post;
 import com.mindhub.api.model.report.Report;
-import com.mindhub.api.repository.post.PostRepository;
 
 /**
  * Mapper encargado de transformar entidades Report en sus DTOs asociados.
@@ -31,18 +30,14 @@ import com.mindhub.api.repository.post.PostRepository;
 public class ReportMapper {
 
     private final UserMapper userMapper;
-    private final PostRepository postRepository;
 
     /**
      * Constructor con inyección de dependencias.
      *
-     * @param userMapper     mapper de usuarios para convertir autores y reporteros
-     * @param postRepository repositorio de posts para verificar existencia de
-     *                       publicaciones
+     * @param userMapper mapper de usuarios para convertir autores y reporteros
      */
-    public ReportMapper(UserMapper userMapper, PostRepository postRepository) {
+    public ReportMapper(UserMapper userMapper) {
         this.userMapper = userMapper;
-        this.postRepository = postRepository;
     }
 
     /**
@@ -99,13 +94,12 @@ public class ReportMapper {
                     false);
         }
 
-        boolean postExists = postRepository.existsById(postId);
-
+        // Al eliminar un post se desvinculan sus reportes: si hay post, existe
         return new PostSummaryResponse(
                 reportedPost.getId(),
                 reportedPost.getContent(),
                 userMapper.toResponse(reportedPost.getAuthor()),
-                postExists);
+                true);
     }
 
     /**
@@ -7,6 +7,7 @@ import org.mapstruct.ReportingPolicy;
 import com.mindhub.api.dto.auth.UserRegisterRequest;
 import com.mindhub.api.dto.auth.UserResponse;
 import com.mindhub.api.model.user.User;
+import com.mindhub.api.model.userProfile.UserProfile;
 
 /**
  * Mapper de MapStruct encargado de transformar entre entidades User y los DTOs
@@ -39,7 +40,6 @@ public interface UserMapper {
     @Mapping(target = "comments", ignore = true)
     @Mapping(target = "reactions", ignore = true)
     @Mapping(target = "reports", ignore = true)
-    @Mapping(target = "profile", ignore = true)
     @Mapping(target = "notifications", ignore = true)
     @Mapping(target = "chatBotMessages", ignore = true)
     @Mapping(target = "active", ignore = true)
@@ -47,14 +47,28 @@ public interface UserMapper {
     User toEntity(UserRegisterRequest request);
 
     /**
-     * Convierte una entidad User en un DTO de respuesta.
+     * Convierte una entidad User en un DTO de respuesta sin los datos del
+     * perfil extendido.
      *
-     * Se extraen datos anidados desde el objeto profile para exponer
-     * información adicional del usuario.
+     * Es la conversión de los listados y de los autores anidados en
+     * publicaciones, comentarios o reportes, que no consultan el perfil.
      *
      * @param user entidad User a convertir
      * @return DTO UserResponse con los datos públicos del usuario
      */
+    UserResponse toResponse(User user);
+
+    /**
+     * Convierte una entidad User y su perfil en un DTO de respuesta.
+     *
+     * Se extraen datos desde el perfil para exponer información adicional
+     * del usuario.
+     *
+     * @param user    entidad User a convertir
+     * @param profile perfil extendido del usuario (puede ser null)
+     * @return DTO UserResponse con los datos públicos del usuario
+     */
+    @Mapping(source = "user.id", target = "id")
     @Mapping(source = "profile.birthDate", target = "birthDate")
     @Mapping(source = "profile.occupation", target = "occupation")
     @Mapping(source = "profile.interests", target = "interests")
@@ -63,6 +77,6 @@ public interface UserMapper {
     @Mapping(source = "profile.socialMedia", target = "socialMedia")
     @Mapping(source = "profile.education", target = "education")
     @Mapping(source = "profile.workplace", target = "company")
-    UserResponse toResponse(User user);
+    UserResponse toResponse(User user, UserProfile profile);
 
 }
@@ -28,7 +28,8 @@ import com.mindhub.api.model.user.User;
         @Index(name = "idx_chatbot_messages_user", columnList = "user_id"),
         @Index(name = "idx_chatbot_messages_session", columnList = "sessionId"),
         @Index(name = "idx_chatbot_messages_date", columnList = "creationDate"),
-        @Index(name = "idx_chatbot_messages_user_session", columnList = "user_id, sessionId")
+        @Index(name = "idx_chatbot_messages_user_session", columnList = "user_id, sessionId"),
+        @Index(name = "idx_chatbot_messages_user_session_id", columnList = "user_id, sessionId, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -38,11 +39,14 @@ import com.mindhub.api.model.user.User;
 @Builder
 public class ChatBotMessage {
 
+    /** Longitud máxima del contenido de un mensaje. */
+    public static final int MAX_CONTENT_LENGTH = 2000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, length = 2000)
+    @Column(nullable = false, length = MAX_CONTENT_LENGTH)
     private String content;
 
     @Enumerated(EnumType.STRING)
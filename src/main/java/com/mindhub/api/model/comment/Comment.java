@@ -30,6 +30,7 @@ import java.time.LocalDate;
         @Index(name = "idx_comments_date", columnList = "creationDate"),
         @Index(name = "idx_comments_post_date", columnList = "post_id, creationDate")
 })
+@NamedEntityGraph(name = Comment.WITH_AUTHOR, attributeNodes = @NamedAttributeNode(value = "author", subgraph = "author"), subgraphs = @NamedSubgraph(name = "author", attributeNodes = @NamedAttributeNode("role")))
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -38,6 +39,8 @@ import java.time.LocalDate;
 @Builder
 public class Comment {
 
+    public static final String WITH_AUTHOR = "Comment.withAuthor";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -39,5 +39,11 @@ public enum NotificationType {
      * Notificación generada por una acción administrativa,
      * como la activación, desactivación o eliminación de un usuario o contenido.
      */
-    ADMIN_ACTION
+    ADMIN_ACTION,
+
+    /**
+     * Resumen diario que agrupa las notificaciones de los usuarios
+     * que han activado el modo resumen.
+     */
+    DIGEST
 }
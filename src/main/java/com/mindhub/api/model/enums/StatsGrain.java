@@ -0,0 +1,48 @@
+package com.mindhub.api.model.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Enum que define la granularidad de los agregados de las series temporales
+ * del dashboard de administración.
+ */
+
+public enum StatsGrain {
+
+    /**
+     * Agregado por hora.
+     */
+    HOUR(ChronoUnit.HOURS),
+
+    /**
+     * Agregado por día natural.
+     */
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    StatsGrain(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Devuelve el inicio del intervalo que contiene el instante indicado.
+     *
+     * @param time instante a agrupar
+     * @return inicio del intervalo
+     */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Devuelve el inicio del intervalo siguiente.
+     *
+     * @param bucketStart inicio de un intervalo
+     * @return inicio del intervalo siguiente
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+}
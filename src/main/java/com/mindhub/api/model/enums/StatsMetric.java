@@ -0,0 +1,31 @@
+package com.mindhub.api.model.enums;
+
+/**
+ * Enum que define las métricas agregadas por intervalos de tiempo que se
+ * muestran en las series temporales del dashboard de administración.
+ */
+
+public enum StatsMetric {
+
+    /**
+     * Publicaciones creadas en el intervalo.
+     */
+    POSTS,
+
+    /**
+     * Usuarios registrados en el intervalo.
+     */
+    SIGNUPS,
+
+    /**
+     * Reportes creados en el intervalo.
+     */
+    REPORTS,
+
+    /**
+     * Usuarios distintos con peticiones autenticadas o acciones de escritura
+     * en el día, estimados con los mismos sketches que la cifra de usuarios
+     * activos diarios del dashboard. Solo existe a granularidad diaria.
+     */
+    ACTIVE_USERS
+}
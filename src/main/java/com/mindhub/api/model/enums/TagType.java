@@ -0,0 +1,19 @@
+package com.mindhub.api.model.enums;
+
+/**
+ * Enum que define los tipos de etiqueta que se extraen del contenido de
+ * una publicación.
+ */
+
+public enum TagType {
+
+    /**
+     * Etiqueta temática escrita como {@code #etiqueta}.
+     */
+    HASHTAG,
+
+    /**
+     * Mención a un usuario escrita como {@code @usuario}.
+     */
+    MENTION
+}
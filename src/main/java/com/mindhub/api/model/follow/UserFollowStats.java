@@ -0,0 +1,41 @@
+package com.mindhub.api.model.follow;
+
+import jakarta.persistence.*;
+
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Entidad que guarda los contadores de seguimiento de un usuario.
+ *
+ * Copia desnormalizada del número de seguidores y seguidos, mantenida por
+ * volcados periódicos desde memoria y corregida por una reconciliación con
+ * la tabla {@code follows}. Se guarda aparte de {@code users} para que
+ * guardar un usuario no sobrescriba los contadores y para que los volcados
+ * no bloqueen su fila.
+ */
+
+@Entity
+@Table(name = "user_follow_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserFollowStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Builder.Default
+    @Column(name = "followers_count", nullable = false)
+    private Long followersCount = 0L;
+
+    @Builder.Default
+    @Column(name = "following_count", nullable = false)
+    private Long followingCount = 0L;
+}
@@ -14,12 +14,17 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Entidad que representa una notificación del sistema.
  *
  * Incluye título, mensaje, tipo, estado de lectura, referencias opcionales
  * a otros objetos y la auditoría de fechas de creación y actualización.
+ *
+ * Las notificaciones de interacciones sobre una misma entidad (reacciones,
+ * comentarios) se agregan en una única fila que acumula el número de actores
+ * y los nombres de los más recientes.
  */
 
 @Entity
@@ -29,7 +34,8 @@ import java.time.LocalDate;
         @Index(name = "idx_notifications_date", columnList = "creationDate"),
         @Index(name = "idx_notifications_type", columnList = "type"),
         @Index(name = "idx_notifications_user_read", columnList = "user_id, read"),
-        @Index(name = "idx_notifications_user_date", columnList = "user_id, creationDate")
+        @Index(name = "idx_notifications_user_date", columnList = "user_id, creationDate"),
+        @Index(name = "idx_notifications_aggregate", columnList = "user_id, type, referenceId")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -39,6 +45,12 @@ import java.time.LocalDate;
 @Builder
 public class Notification {
 
+    /**
+     * Separador de {@link #lastActors}: un carácter de control que no puede
+     * aparecer en un nombre, a diferencia de la coma.
+     */
+    public static final String ACTOR_SEPARATOR = "\u001F";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -70,7 +82,27 @@ public class Notification {
     @Column(nullable = true, length = 100)
     private String referenceTable;
 
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "INTEGER DEFAULT 1")
+    private Integer actorCount = 1;
+
+    @Column(nullable = true, length = 500)
+    private String lastActors;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    /**
+     * Separa una lista de actores recientes guardada en {@link #lastActors}.
+     * 
+     * @param lastActors Lista guardada (puede ser null)
+     * @return Nombres de los actores, del más reciente al más antiguo
+     */
+    public static List<String> splitActors(String lastActors) {
+        if (lastActors == null || lastActors.isBlank()) {
+            return List.of();
+        }
+        return List.of(lastActors.split(ACTOR_SEPARATOR));
+    }
 }
@@ -0,0 +1,47 @@
+package com.mindhub.api.model.notification;
+
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Entidad que registra qué usuarios han participado en una notificación
+ * agregada.
+ *
+ * La restricción única por (notificación, actor) permite saber con una sola
+ * inserción si una interacción procede de un actor nuevo, de modo que el
+ * contador de la notificación cuenta personas distintas y no interacciones.
+ * Las filas se eliminan en cascada junto con su notificación.
+ */
+
+@Entity
+@Table(name = "notification_actors", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_actors_notification_actor", columnNames = { "notification_id",
+                "actor_id" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationActor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "notification_id", nullable = false)
+    private Notification notification;
+
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId;
+}
@@ -0,0 +1,46 @@
+package com.mindhub.api.model.notification;
+
+import jakarta.persistence.*;
+
+import com.mindhub.api.model.enums.NotificationType;
+
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Entidad que acumula las notificaciones pendientes del resumen diario de un
+ * usuario, por tipo.
+ *
+ * Las filas se incrementan cuando se confirma la transacción que generó la
+ * notificación y se consumen al enviar el resumen, de modo que los resúmenes
+ * pendientes sobreviven a un reinicio.
+ */
+
+@Entity
+@Table(name = "notification_digest_counts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_digest_counts_user_type", columnNames = { "user_id", "type" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationDigestCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private Integer count;
+}
@@ -0,0 +1,66 @@
+package com.mindhub.api.model.notification;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.mindhub.api.model.enums.NotificationType;
+import com.mindhub.api.model.user.User;
+
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Entidad que representa las preferencias de notificación de un usuario.
+ *
+ * Define los tipos de notificación silenciados, que nunca se persisten,
+ * y si el usuario prefiere recibir un resumen diario en lugar de una
+ * notificación por cada evento.
+ */
+
+@Entity
+@Table(name = "notification_preferences", indexes = {
+        @Index(name = "idx_notification_preferences_user", columnList = "user_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationPreference {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Builder.Default
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "notification_preference_muted_types", joinColumns = @JoinColumn(name = "preference_id"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private Set<NotificationType> mutedTypes = new HashSet<>();
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean dailyDigest = false;
+
+    @LastModifiedDate
+    @Column(nullable = true)
+    private LocalDate updateDate;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+}
@@ -12,6 +12,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -25,8 +26,11 @@ import com.mindhub.api.model.user.User;
  * Entidad que representa un post dentro del sistema.
  *
  * Incluye el contenido, la configuración de privacidad, el autor
- * y las relaciones con comentarios, reacciones y reportes,
+ * y las relaciones con comentarios, reacciones, reportes y etiquetas,
  * además de la auditoría de fechas de creación y actualización.
+ *
+ * El grafo {@code Post.withAuthor} es el plan de carga de los listados:
+ * trae el autor y su rol en la misma consulta que los posts.
  */
 
 @Entity
@@ -38,6 +42,7 @@ import com.mindhub.api.model.user.User;
         @Index(name = "idx_posts_author_privacy", columnList = "author_id, privacyType"),
         @Index(name = "idx_posts_privacy_date", columnList = "privacyType, creationDate")
 })
+@NamedEntityGraph(name = Post.WITH_AUTHOR, attributeNodes = @NamedAttributeNode(value = "author", subgraph = "author"), subgraphs = @NamedSubgraph(name = "author", attributeNodes = @NamedAttributeNode("role")))
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -46,6 +51,8 @@ import com.mindhub.api.model.user.User;
 @Builder
 public class Post {
 
+    public static final String WITH_AUTHOR = "Post.withAuthor";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -85,6 +92,11 @@ public class Post {
     @JsonIgnore
     private List<Report> reports;
 
+    @Builder.Default
+    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore
+    private List<PostTag> tags = new ArrayList<>();
+
     @PreRemove
     public void preRemove() {
         if (reports != null) {
@@ -0,0 +1,55 @@
+package com.mindhub.api.model.post;
+
+import jakarta.persistence.*;
+
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+import com.mindhub.api.model.enums.TagType;
+
+/**
+ * Entidad que relaciona una publicación con un hashtag o una mención
+ * extraídos de su contenido.
+ *
+ * Las etiquetas se guardan normalizadas en minúsculas. El índice por
+ * (tipo, etiqueta, post) permite listar las publicaciones de una etiqueta
+ * paginando por ID sin recorrer la tabla de posts.
+ */
+
+@Entity
+@Table(name = "post_tags", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_tags_post_type_tag", columnNames = { "post_id", "type", "tag" })
+}, indexes = {
+        @Index(name = "idx_post_tags_type_tag_post", columnList = "type, tag, post_id"),
+        @Index(name = "idx_post_tags_created", columnList = "createdAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostTag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private Post post;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TagType type;
+
+    @Column(nullable = false, length = 50)
+    private String tag;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package com.mindhub.api.model.post;
+
+import jakarta.persistence.*;
+
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Entidad que guarda las estadísticas de visualización de un post.
+ *
+ * Incluye el total de visualizaciones, la estimación de espectadores únicos
+ * y el sketch HyperLogLog serializado del que se obtiene esa estimación.
+ * Se mantiene en una tabla aparte para que cargar posts no arrastre el
+ * sketch y para que las escrituras periódicas no bloqueen la fila del post.
+ */
+
+@Entity
+@Table(name = "post_view_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostViewStats {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Builder.Default
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount = 0L;
+
+    @Builder.Default
+    @Column(name = "unique_viewers", nullable = false)
+    private Long uniqueViewers = 0L;
+
+    @Column(name = "viewer_sketch")
+    private byte[] viewerSketch;
+}
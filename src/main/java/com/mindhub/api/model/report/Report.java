@@ -16,6 +16,10 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Entidad que representa un reporte de usuario sobre un post.
@@ -23,6 +27,10 @@ import java.time.LocalDateTime;
  * Incluye la razón, una descripción opcional, el estado del reporte
  * y las fechas de creación y revisión, además de las referencias
  * al usuario que lo emite y al post afectado.
+ *
+ * Guarda además un documento de búsqueda precalculado (razón, descripción y
+ * datos del reportero en minúsculas) indexado por trigramas, que usa el
+ * filtro de reportes del panel de administración.
  */
 
 @Entity
@@ -37,6 +45,13 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_reports_post_date", columnList = "post_id, reportDate"),
                 @Index(name = "idx_reports_status_date", columnList = "status, reportDate")
 })
+@NamedEntityGraph(name = Report.WITH_REPORTER_AND_POST, attributeNodes = {
+        @NamedAttributeNode(value = "reporter", subgraph = "user"),
+        @NamedAttributeNode(value = "post", subgraph = "post")
+}, subgraphs = {
+        @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role")),
+        @NamedSubgraph(name = "post", attributeNodes = @NamedAttributeNode(value = "author", subgraph = "user"))
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -45,6 +60,8 @@ import java.time.LocalDateTime;
 @Builder
 public class Report {
 
+        public static final String WITH_REPORTER_AND_POST = "Report.withReporterAndPost";
+
         @Id
         @GeneratedValue(strategy = GenerationType.IDENTITY)
         private Long id;
@@ -74,4 +91,26 @@ public class Report {
         @ManyToOne(fetch = FetchType.LAZY)
         @JoinColumn(name = "post_id")
         private Post post;
+
+        @Column(name = "search_document", length = 2000)
+        private String searchDocument;
+
+        /**
+         * Construye el documento de búsqueda al crear el reporte.
+         *
+         * Debe coincidir con la expresión SQL usada para rellenar y refrescar
+         * la columna: {@code lower(concat_ws(' ', reason, description,
+         * username, first_name, last_name))}.
+         */
+        @PrePersist
+        void buildSearchDocument() {
+                String username = reporter != null ? reporter.getUsername() : null;
+                String firstName = reporter != null ? reporter.getFirstName() : null;
+                String lastName = reporter != null ? reporter.getLastName() : null;
+
+                searchDocument = Stream.of(reason, description, username, firstName, lastName)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.joining(" "))
+                                .toLowerCase(Locale.ROOT);
+        }
 }
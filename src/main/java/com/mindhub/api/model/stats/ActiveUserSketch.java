@@ -0,0 +1,40 @@
+package com.mindhub.api.model.stats;
+
+import jakarta.persistence.*;
+
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Entidad que guarda el sketch HyperLogLog de los usuarios activos de un día.
+ *
+ * Los registros se almacenan serializados (unos 16 KB por día) y se unen en
+ * memoria para estimar los usuarios activos de cualquier ventana de días.
+ */
+
+@Entity
+@Table(name = "active_user_sketches", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_active_user_sketches_day", columnNames = { "day" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActiveUserSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private byte[] registers;
+}
@@ -0,0 +1,54 @@
+package com.mindhub.api.model.stats;
+
+import jakarta.persistence.*;
+
+import com.mindhub.api.model.enums.StatsGrain;
+import com.mindhub.api.model.enums.StatsMetric;
+
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que representa el valor agregado de una métrica en un intervalo
+ * de tiempo (una hora o un día).
+ *
+ * Las filas se mantienen de forma incremental a partir de los eventos de
+ * dominio y se recalculan desde las tablas de origen con el proceso de
+ * relleno, de modo que las series temporales del dashboard se leen sin
+ * agrupar sobre las tablas de publicaciones, usuarios o reportes.
+ */
+
+@Entity
+@Table(name = "stats_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stats_rollups_bucket", columnNames = { "metric", "grain", "bucket_start" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatsMetric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatsGrain grain;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private Long total;
+}
@@ -29,7 +29,6 @@ import com.mindhub.api.model.post.Post;
 import com.mindhub.api.model.reaction.Reaction;
 import com.mindhub.api.model.report.Report;
 import com.mindhub.api.model.role.Role;
-import com.mindhub.api.model.userProfile.UserProfile;
 
 /**
  * Entidad que representa a un usuario del sistema.
@@ -129,10 +128,6 @@ public class User implements UserDetails {
     @JsonIgnore
     private List<Report> reports;
 
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
-    @JsonIgnore
-    private UserProfile profile;
-
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
     private List<Notification> notifications;
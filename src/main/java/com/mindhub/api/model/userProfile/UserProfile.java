@@ -22,11 +22,14 @@ import com.mindhub.api.model.user.User;
  * Incluye información adicional como fecha de nacimiento, ocupación,
  * intereses, sitio web, ubicación, redes sociales, educación,
  * lugar de trabajo y auditoría de fechas de creación y actualización.
+ *
+ * Comparte la clave primaria con su usuario ({@code user_id}): la relación
+ * solo se navega desde el perfil y el perfil de un usuario se obtiene por su
+ * ID, de modo que cargar usuarios no consulta {@code user_profiles}.
  */
 
 @Entity
 @Table(name = "user_profiles", indexes = {
-        @Index(name = "idx_user_profiles_user", columnList = "user_id"),
         @Index(name = "idx_user_profiles_birth_date", columnList = "birth_date"),
         @Index(name = "idx_user_profiles_location", columnList = "location"),
         @Index(name = "idx_user_profiles_occupation", columnList = "occupation"),
@@ -41,7 +44,6 @@ import com.mindhub.api.model.user.User;
 public class UserProfile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(name = "birth_date")
@@ -76,8 +78,9 @@ public class UserProfile {
     @Column(name = "update_date")
     private LocalDate updateDate;
 
-    @OneToOne(fetch = FetchType.EAGER)
-    @JoinColumn(name = "user_id", nullable = false)
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "user_id")
     @JsonIgnore
     private User user;
 }
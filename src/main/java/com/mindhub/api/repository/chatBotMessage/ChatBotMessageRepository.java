@@ -1,12 +1,14 @@
 package com.mindhub.api.repository.chatBotMessage;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mindhub.api.model.chatbot.ChatBotMessage;
-import com.mindhub.api.model.user.User;
 
 import java.util.List;
 
@@ -21,21 +23,55 @@ import java.util.List;
 public interface ChatBotMessageRepository extends JpaRepository<ChatBotMessage, Long> {
 
     /**
-     * Busca mensajes del chatbot por usuario y sesión.
+     * Busca los mensajes más recientes de una conversación.
      * 
-     * Retorna todos los mensajes de una conversación específica
-     * ordenados por fecha de creación ascendente (cronológicamente).
+     * Retorna los mensajes ordenados del más nuevo al más antiguo, limitados
+     * por el tamaño del {@link Pageable}. El id se usa como orden porque la
+     * fecha de creación solo tiene precisión de día.
      * 
      * 
-     * @param user      Usuario propietario de los mensajes
+     * @param userId    ID del usuario propietario de los mensajes
      * @param sessionId Identificador de la sesión de conversación
-     * @return Lista de mensajes de la conversación ordenados cronológicamente
+     * @param pageable  Límite de mensajes a recuperar
+     * @return Lista de mensajes ordenados del más reciente al más antiguo
      * 
      * @see ChatBotMessage
-     * @see User
      */
-    @Query("SELECT m FROM ChatBotMessage m WHERE m.user = :user AND m.sessionId = :sessionId ORDER BY m.creationDate ASC")
-    List<ChatBotMessage> findByUserAndSessionIdOrderByCreationDateAsc(@Param("user") User user,
-            @Param("sessionId") String sessionId);
+    @Query("SELECT m FROM ChatBotMessage m WHERE m.user.id = :userId AND m.sessionId = :sessionId ORDER BY m.id DESC")
+    List<ChatBotMessage> findLatestBySession(@Param("userId") Long userId,
+            @Param("sessionId") String sessionId, Pageable pageable);
+
+    /**
+     * Busca los mensajes de una conversación anteriores a un cursor.
+     * 
+     * Paginación por cursor sobre el id: retorna los mensajes con id menor
+     * que {@code beforeId}, del más reciente al más antiguo.
+     * 
+     * 
+     * @param userId    ID del usuario propietario de los mensajes
+     * @param sessionId Identificador de la sesión de conversación
+     * @param beforeId  Id del mensaje más antiguo ya entregado (exclusivo)
+     * @param pageable  Límite de mensajes a recuperar
+     * @return Lista de mensajes ordenados del más reciente al más antiguo
+     * 
+     * @see ChatBotMessage
+     */
+    @Query("SELECT m FROM ChatBotMessage m WHERE m.user.id = :userId AND m.sessionId = :sessionId " +
+            "AND m.id < :beforeId ORDER BY m.id DESC")
+    List<ChatBotMessage> findBySessionBefore(@Param("userId") Long userId,
+            @Param("sessionId") String sessionId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    /**
+     * Elimina todos los mensajes de una conversación en una sola sentencia.
+     * 
+     * 
+     * @param userId    ID del usuario propietario de los mensajes
+     * @param sessionId Identificador de la sesión de conversación
+     * @return Número de mensajes eliminados
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChatBotMessage m WHERE m.user.id = :userId AND m.sessionId = :sessionId")
+    int deleteBySession(@Param("userId") Long userId, @Param("sessionId") String sessionId);
 
 }
@@ -2,6 +2,7 @@ package com.mindhub.api.repository.comment;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,6 +35,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @see Comment
      * @see Post
      */
+    @EntityGraph(Comment.WITH_AUTHOR)
     @Query("SELECT c FROM Comment c WHERE c.post = :post ORDER BY c.creationDate ASC")
     Page<Comment> findByPostOrderByCreationDateAsc(@Param("post") Post post, Pageable pageable);
 
@@ -1,7 +1,6 @@
 package com.mindhub.api.repository.follow;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +9,8 @@ import org.springframework.stereotype.Repository;
 import com.mindhub.api.model.follow.Follow;
 import com.mindhub.api.model.user.User;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,13 +55,11 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
      * sin cargar todos los datos de las relaciones.
      * 
      * 
-     * @param user Usuario del cual contar los seguidores
+     * @param userId ID del usuario del cual contar los seguidores
      * @return Número total de seguidores del usuario
-     * 
-     * @see User
      */
-    @Query("SELECT COUNT(f) FROM Follow f WHERE f.followed = :user")
-    long countFollowers(@Param("user") User user);
+    @Query("SELECT COUNT(f) FROM Follow f WHERE f.followed.id = :userId")
+    long countFollowersByUserId(@Param("userId") Long userId);
 
     /**
      * Cuenta el número de usuarios que sigue un usuario.
@@ -69,39 +68,65 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
      * sin cargar todos los datos de las relaciones.
      * 
      * 
-     * @param user Usuario del cual contar los seguidos
+     * @param userId ID del usuario del cual contar los seguidos
      * @return Número total de usuarios que sigue
-     * 
-     * @see User
      */
-    @Query("SELECT COUNT(f) FROM Follow f WHERE f.follower = :user")
-    long countFollowed(@Param("user") User user);
+    @Query("SELECT COUNT(f) FROM Follow f WHERE f.follower.id = :userId")
+    long countFollowingByUserId(@Param("userId") Long userId);
 
     /**
-     * Busca las relaciones de seguimiento donde el usuario es seguido.
-     * 
-     * @param user     Usuario que es seguido
-     * @param pageable Configuración de paginación
-     * @return Página de relaciones de seguimiento ordenadas por fecha
-     * 
-     * @see User
-     * @see Follow
+     * Obtiene una página de seguidores de un usuario con los datos que
+     * necesita {@code FollowResponse}, sin cargar entidades.
+     * 
+     * La paginación es por cursor sobre (followDate, id) en orden
+     * descendente: se devuelven las relaciones estrictamente anteriores a
+     * {@code afterDate}/{@code afterId}, recorriendo el índice
+     * (followed_id, followDate).
+     * 
+     * @param userId    ID del usuario seguido
+     * @param afterDate Fecha de la última relación recibida
+     * @param afterId   ID de la última relación recibida
+     * @param limit     Número máximo de filas
+     * @return Lista de arrays [id, followerId, followerUsername,
+     *         followerFirstName, followerLastName, followerProfilePicture,
+     *         followedId, followedUsername, followedFirstName,
+     *         followedLastName, followedProfilePicture, followDate]
      */
-    @Query("SELECT f FROM Follow f WHERE f.followed = :user ORDER BY f.followDate DESC")
-    Page<Follow> findFollowsByFollowed(@Param("user") User user, Pageable pageable);
+    @Query("SELECT f.id, fr.id, fr.username, fr.firstName, fr.lastName, fr.profilePicture, " +
+            "fd.id, fd.username, fd.firstName, fd.lastName, fd.profilePicture, f.followDate " +
+            "FROM Follow f JOIN f.follower fr JOIN f.followed fd " +
+            "WHERE f.followed.id = :userId " +
+            "AND (f.followDate < :afterDate OR (f.followDate = :afterDate AND f.id < :afterId)) " +
+            "ORDER BY f.followDate DESC, f.id DESC")
+    List<Object[]> findFollowerRows(@Param("userId") Long userId,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Limit limit);
 
     /**
-     * Busca las relaciones de seguimiento donde el usuario es el seguidor.
-     * 
-     * @param user     Usuario que sigue
-     * @param pageable Configuración de paginación
-     * @return Página de relaciones de seguimiento ordenadas por fecha
-     * 
-     * @see User
-     * @see Follow
+     * Obtiene una página de seguidos de un usuario con los datos que
+     * necesita {@code FollowResponse}, sin cargar entidades.
+     * 
+     * Misma paginación que {@link #findFollowerRows}, recorriendo el índice
+     * (follower_id, followDate).
+     * 
+     * @param userId    ID del usuario seguidor
+     * @param afterDate Fecha de la última relación recibida
+     * @param afterId   ID de la última relación recibida
+     * @param limit     Número máximo de filas
+     * @return Lista de arrays con las mismas columnas que
+     *         {@link #findFollowerRows}
      */
-    @Query("SELECT f FROM Follow f WHERE f.follower = :user ORDER BY f.followDate DESC")
-    Page<Follow> findFollowsByFollower(@Param("user") User user, Pageable pageable);
+    @Query("SELECT f.id, fr.id, fr.username, fr.firstName, fr.lastName, fr.profilePicture, " +
+            "fd.id, fd.username, fd.firstName, fd.lastName, fd.profilePicture, f.followDate " +
+            "FROM Follow f JOIN f.follower fr JOIN f.followed fd " +
+            "WHERE f.follower.id = :userId " +
+            "AND (f.followDate < :afterDate OR (f.followDate = :afterDate AND f.id < :afterId)) " +
+            "ORDER BY f.followDate DESC, f.id DESC")
+    List<Object[]> findFollowingRows(@Param("userId") Long userId,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            Limit limit);
 
     /**
      * Obtiene los IDs de los usuarios que sigue un usuario específico.
@@ -118,4 +143,78 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query("SELECT f.followed.id FROM Follow f WHERE f.follower = :user")
     List<Long> findFollowedIdsByUser(@Param("user") User user);
 
+    /**
+     * Obtiene en una sola consulta las relaciones de seguimiento en ambos
+     * sentidos entre un usuario y un conjunto de usuarios.
+     *
+     * @param userId  ID del usuario actual
+     * @param userIds IDs de los otros usuarios
+     * @return Lista de arrays [followerId, followedId] de las relaciones
+     *         existentes
+     */
+    @Query("SELECT f.follower.id, f.followed.id FROM Follow f " +
+            "WHERE (f.follower.id = :userId AND f.followed.id IN :userIds) " +
+            "OR (f.followed.id = :userId AND f.follower.id IN :userIds)")
+    List<Object[]> findFollowPairs(@Param("userId") Long userId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Busca candidatos a sugerencia a dos saltos: usuarios seguidos por los
+     * usuarios que sigue {@code userId} y que este aún no sigue.
+     *
+     * El recorrido está acotado para que el coste no dependa de cuántas
+     * cuentas siga el usuario: se toman solo sus {@code maxFollowed} seguidos
+     * más recientes y, de cada uno, sus {@code fanout} seguidos más recientes,
+     * ambos por el índice (follower_id, followDate).
+     *
+     * @param userId        ID del usuario
+     * @param maxFollowed   Máximo de seguidos del usuario que se recorren
+     * @param fanout        Máximo de seguidos de cada uno que se recorren
+     * @param maxCandidates Máximo de candidatos devueltos
+     * @return Lista de arrays [candidateId, mutualCount] por número de
+     *         seguidos en común descendente
+     */
+    @Query(value = "SELECT hop.followed_id, COUNT(*) AS mutuals " +
+            "FROM (SELECT f.followed_id FROM follows f WHERE f.follower_id = :userId " +
+            "      ORDER BY f.follow_date DESC LIMIT :maxFollowed) mine " +
+            "CROSS JOIN LATERAL (SELECT f2.followed_id FROM follows f2 WHERE f2.follower_id = mine.followed_id " +
+            "      ORDER BY f2.follow_date DESC LIMIT :fanout) hop " +
+            "WHERE hop.followed_id <> :userId " +
+            "AND NOT EXISTS (SELECT 1 FROM follows x WHERE x.follower_id = :userId AND x.followed_id = hop.followed_id) " +
+            "GROUP BY hop.followed_id " +
+            "ORDER BY mutuals DESC, hop.followed_id DESC " +
+            "LIMIT :maxCandidates", nativeQuery = true)
+    List<Object[]> findTwoHopCandidates(@Param("userId") Long userId,
+            @Param("maxFollowed") int maxFollowed,
+            @Param("fanout") int fanout,
+            @Param("maxCandidates") int maxCandidates);
+
+    /**
+     * Obtiene los seguidores más recientes de un usuario a los que este no
+     * sigue de vuelta.
+     *
+     * @param userId ID del usuario
+     * @param limit  Número máximo de seguidores
+     * @return Lista de IDs de seguidores
+     */
+    @Query(value = "SELECT f.follower_id FROM follows f " +
+            "WHERE f.followed_id = :userId " +
+            "AND NOT EXISTS (SELECT 1 FROM follows x WHERE x.follower_id = :userId AND x.followed_id = f.follower_id) " +
+            "ORDER BY f.follow_date DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findFollowersNotFollowedBack(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Obtiene los datos de presentación e intereses de los candidatos a
+     * sugerencia que siguen activos y no son administradores, sin cargar las
+     * entidades de usuario.
+     *
+     * @param ids IDs de los candidatos
+     * @return Lista de arrays [id, username, firstName, lastName,
+     *         profilePicture, interests]
+     */
+    @Query(value = "SELECT u.id, u.username, u.first_name, u.last_name, u.profile_picture, p.interests " +
+            "FROM users u " +
+            "JOIN roles r ON r.id = u.role_id " +
+            "LEFT JOIN user_profiles p ON p.user_id = u.id " +
+            "WHERE u.id IN (:ids) AND u.active = TRUE AND r.name <> 'ADMIN'", nativeQuery = true)
+    List<Object[]> findSuggestionCandidates(@Param("ids") List<Long> ids);
 }
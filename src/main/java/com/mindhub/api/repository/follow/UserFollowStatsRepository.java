@@ -0,0 +1,85 @@
+package com.mindhub.api.repository.follow;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mindhub.api.model.follow.UserFollowStats;
+
+/**
+ * Repositorio para los contadores desnormalizados de seguimiento.
+ */
+
+@Repository
+public interface UserFollowStatsRepository extends JpaRepository<UserFollowStats, Long> {
+
+       /**
+        * Suma variaciones a los contadores de un usuario.
+        * 
+        * Si el usuario aún no tiene fila se crea contando sus relaciones en
+        * {@code follows}, que ya incluyen las variaciones.
+        * 
+        * @param userId          ID del usuario
+        * @param followersDelta  Variación del número de seguidores
+        * @param followingDelta  Variación del número de seguidos
+        */
+       @Modifying
+       @Query(value = "INSERT INTO user_follow_stats (user_id, followers_count, following_count) " +
+                     "VALUES (:userId, " +
+                     "(SELECT COUNT(*) FROM follows f WHERE f.followed_id = :userId), " +
+                     "(SELECT COUNT(*) FROM follows f WHERE f.follower_id = :userId)) " +
+                     "ON CONFLICT (user_id) DO UPDATE SET " +
+                     "followers_count = user_follow_stats.followers_count + :followersDelta, " +
+                     "following_count = user_follow_stats.following_count + :followingDelta", nativeQuery = true)
+       void addCounts(@Param("userId") Long userId,
+                     @Param("followersDelta") long followersDelta,
+                     @Param("followingDelta") long followingDelta);
+
+       /**
+        * Sustituye los contadores de un usuario.
+        * 
+        * @param userId    ID del usuario
+        * @param followers Número de seguidores
+        * @param following Número de seguidos
+        */
+       @Modifying
+       @Query(value = "INSERT INTO user_follow_stats (user_id, followers_count, following_count) " +
+                     "VALUES (:userId, :followers, :following) " +
+                     "ON CONFLICT (user_id) DO UPDATE SET " +
+                     "followers_count = EXCLUDED.followers_count, following_count = EXCLUDED.following_count", nativeQuery = true)
+       void setCounts(@Param("userId") Long userId,
+                     @Param("followers") long followers,
+                     @Param("following") long following);
+
+       /**
+        * Compara los contadores guardados con los reales para un tramo de
+        * usuarios, recorridos por ID.
+        * 
+        * @param afterId ID del último usuario revisado
+        * @param limit   Número máximo de usuarios
+        * @return Lista de arrays [userId, followersGuardados, seguidosGuardados,
+        *         followersReales, seguidosReales]; los guardados son 0 si el
+        *         usuario no tiene fila
+        */
+       @Query(value = "SELECT u.id, COALESCE(s.followers_count, 0), COALESCE(s.following_count, 0), " +
+                     "(SELECT COUNT(*) FROM follows f WHERE f.followed_id = u.id), " +
+                     "(SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id) " +
+                     "FROM users u LEFT JOIN user_follow_stats s ON s.user_id = u.id " +
+                     "WHERE u.id > :afterId ORDER BY u.id LIMIT :limit", nativeQuery = true)
+       List<Object[]> findStoredAndActualCounts(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+       /**
+        * Elimina los contadores de un usuario eliminado.
+        * 
+        * @param userId ID del usuario
+        */
+       @Modifying
+       @Transactional
+       @Query("DELETE FROM UserFollowStats s WHERE s.userId = :userId")
+       void deleteByUserId(@Param("userId") Long userId);
+}
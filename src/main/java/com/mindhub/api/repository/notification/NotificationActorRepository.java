@@ -0,0 +1,29 @@
+package com.mindhub.api.repository.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mindhub.api.model.notification.NotificationActor;
+
+/**
+ * Repositorio de los actores de las notificaciones agregadas.
+ */
+
+@Repository
+public interface NotificationActorRepository extends JpaRepository<NotificationActor, Long> {
+
+    /**
+     * Registra a un actor en una notificación si todavía no figuraba en ella.
+     * 
+     * @param notificationId ID de la notificación agregada
+     * @param actorId        ID del usuario que interactúa
+     * @return 1 si el actor es nuevo en la notificación, 0 si ya estaba
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_actors (notification_id, actor_id) VALUES (:notificationId, :actorId) " +
+            "ON CONFLICT (notification_id, actor_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("notificationId") Long notificationId, @Param("actorId") Long actorId);
+}
@@ -0,0 +1,47 @@
+package com.mindhub.api.repository.notification;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+import com.mindhub.api.model.notification.NotificationDigestCount;
+
+/**
+ * Repositorio de los contadores pendientes del resumen diario de
+ * notificaciones.
+ */
+
+@Repository
+public interface NotificationDigestCountRepository extends JpaRepository<NotificationDigestCount, Long> {
+
+    /**
+     * Suma una notificación al resumen pendiente de un usuario.
+     * 
+     * @param userId ID del usuario destinatario
+     * @param type   Nombre del tipo de notificación
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_digest_counts (user_id, type, count) VALUES (:userId, :type, 1) " +
+            "ON CONFLICT (user_id, type) DO UPDATE SET count = notification_digest_counts.count + 1",
+            nativeQuery = true)
+    void increment(@Param("userId") Long userId, @Param("type") String type);
+
+    /**
+     * Obtiene y bloquea todos los contadores pendientes.
+     * 
+     * El bloqueo hace que los incrementos concurrentes esperen a que el
+     * resumen se envíe y se inserten después como una fila nueva.
+     * 
+     * @return Contadores pendientes
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM NotificationDigestCount c")
+    List<NotificationDigestCount> findAllPending();
+}
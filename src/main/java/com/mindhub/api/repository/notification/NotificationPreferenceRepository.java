@@ -0,0 +1,34 @@
+package com.mindhub.api.repository.notification;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mindhub.api.model.notification.NotificationPreference;
+
+/**
+ * Repositorio para la gestión de las preferencias de notificación.
+ *
+ * Proporciona métodos para consultar la configuración de silenciado
+ * y resumen diario de cada usuario.
+ */
+
+@Repository
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, Long> {
+
+    /**
+     * Busca las preferencias de notificación de un usuario.
+     * 
+     * @param userId ID del usuario propietario de las preferencias
+     * @return Optional con las preferencias, o vacío si el usuario
+     *         mantiene la configuración por defecto
+     * 
+     * @see NotificationPreference
+     */
+    @Query("SELECT p FROM NotificationPreference p WHERE p.user.id = :userId")
+    Optional<NotificationPreference> findByUserId(@Param("userId") Long userId);
+
+}
@@ -1,5 +1,8 @@
 package com.mindhub.api.repository.notification;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.mindhub.api.model.enums.NotificationType;
 import com.mindhub.api.model.notification.Notification;
 import com.mindhub.api.model.user.User;
 
@@ -84,4 +88,86 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("UPDATE Notification n SET n.read = true, n.readDate = CURRENT_DATE WHERE n.user.id = :userId AND n.read = false")
     void markAllAsReadForUser(@Param("userId") Long userId);
 
+    /**
+     * Obtiene la notificación agregada sin leer de un usuario sobre una
+     * entidad, creándola si no existe.
+     * 
+     * Usa el índice único parcial {@code uq_notifications_open_aggregate}
+     * (creado por SearchIndexInitializer): con interacciones simultáneas solo
+     * una inserción gana y el resto actualiza esa misma fila. En ambos casos
+     * la fila queda bloqueada hasta el final de la transacción. La fila nueva
+     * nace sin actores; {@link #registerActor} completa contador y mensaje.
+     * 
+     * 
+     * @param userId         ID del usuario destinatario
+     * @param title          Título de la notificación
+     * @param type           Tipo de notificación
+     * @param referenceId    ID de la entidad referenciada
+     * @param referenceTable Tabla de la entidad referenciada
+     * @return Una fila [id, actorCount, lastActors] con los valores actuales
+     */
+    @Query(value = "INSERT INTO notifications (user_id, title, message, type, read, creation_date, " +
+            "reference_id, reference_table, actor_count) " +
+            "VALUES (:userId, :title, '', :type, false, CURRENT_DATE, :referenceId, :referenceTable, 0) " +
+            "ON CONFLICT (user_id, type, reference_id, reference_table) " +
+            "WHERE read = false AND type IN ('REACTION', 'COMMENT') " +
+            "DO UPDATE SET creation_date = CURRENT_DATE " +
+            "RETURNING id, actor_count, last_actors", nativeQuery = true)
+    List<Object[]> upsertAggregate(@Param("userId") Long userId,
+            @Param("title") String title,
+            @Param("type") String type,
+            @Param("referenceId") Long referenceId,
+            @Param("referenceTable") String referenceTable);
+
+    /**
+     * Registra una nueva interacción en una notificación agregada.
+     * 
+     * Debe llamarse en la misma transacción que {@link #upsertAggregate}, que
+     * mantiene la fila bloqueada: los valores se calculan a partir de los que
+     * devolvió y nadie más puede haberlos cambiado.
+     * 
+     * 
+     * @param id         ID de la notificación agregada
+     * @param actorCount Número de actores distintos
+     * @param message    Mensaje recalculado
+     * @param lastActors Lista actualizada de actores recientes
+     * @return Número de filas actualizadas
+     */
+    @Modifying
+    @Query(value = "UPDATE notifications SET actor_count = :actorCount, message = :message, " +
+            "last_actors = :lastActors WHERE id = :id", nativeQuery = true)
+    int registerActor(@Param("id") Long id,
+            @Param("actorCount") int actorCount,
+            @Param("message") String message,
+            @Param("lastActors") String lastActors);
+
+    /**
+     * Inserta la misma notificación para varios usuarios en una sola sentencia.
+     * 
+     * Genera una fila por cada ID recibido mediante un único INSERT ... SELECT,
+     * de forma que el coste de la difusión no depende del número de
+     * destinatarios en idas y vueltas a la base de datos.
+     * 
+     * 
+     * @param userIds        IDs de los usuarios destinatarios
+     * @param title          Título de la notificación
+     * @param message        Mensaje de la notificación
+     * @param type           Tipo de notificación
+     * @param referenceId    ID de la entidad referenciada
+     * @param referenceTable Tabla de la entidad referenciada
+     * @return Número de notificaciones insertadas
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO notifications (title, message, type, read, creation_date, reference_id, " +
+            "reference_table, actor_count, user_id) " +
+            "SELECT :title, :message, :type, false, CURRENT_DATE, :referenceId, :referenceTable, 1, u.id " +
+            "FROM users u WHERE u.id IN (:userIds)", nativeQuery = true)
+    int insertForUsers(@Param("userIds") Collection<Long> userIds,
+            @Param("title") String title,
+            @Param("message") String message,
+            @Param("type") String type,
+            @Param("referenceId") Long referenceId,
+            @Param("referenceTable") String referenceTable);
+
 }
@@ -2,6 +2,7 @@ package com.mindhub.api.repository.post;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,7 @@ import com.mindhub.api.model.enums.PrivacyType;
 import com.mindhub.api.model.post.Post;
 import com.mindhub.api.model.user.User;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -24,6 +26,16 @@ import java.util.List;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+       /**
+        * Carga varios posts por ID junto con su autor y el rol del autor.
+        * 
+        * @param ids IDs de los posts
+        * @return Posts encontrados, sin orden garantizado
+        */
+       @Override
+       @EntityGraph(Post.WITH_AUTHOR)
+       List<Post> findAllById(Iterable<Long> ids);
+
        /**
         * Busca posts de un autor con paginación.
         * 
@@ -38,6 +50,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         * @see Post
         * @see User
         */
+       @EntityGraph(Post.WITH_AUTHOR)
        @Query("SELECT p FROM Post p WHERE p.author = :author")
        Page<Post> findByAuthorOrderByCreationDateDesc(@Param("author") User author, Pageable pageable);
 
@@ -56,6 +69,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         * @see User
         * @see PrivacyType
         */
+       @EntityGraph(Post.WITH_AUTHOR)
        @Query("SELECT p FROM Post p WHERE p.author = :author AND p.privacyType = 'PUBLIC'")
        Page<Post> findPublicPostsByAuthorOrderByCreationDateDesc(@Param("author") User author, Pageable pageable);
 
@@ -74,6 +88,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         * @see Post
         * @see PrivacyType
         */
+       @EntityGraph(Post.WITH_AUTHOR)
        @Query("SELECT p FROM Post p WHERE p.author.privacyType = :userPrivacy AND p.privacyType = :postPrivacy " +
                      "ORDER BY p.creationDate DESC")
        Page<Post> findAllPublicPosts(@Param("userPrivacy") PrivacyType userPrivacy,
@@ -93,6 +108,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         * @see Post
         * @see Report
         */
+       @EntityGraph(Post.WITH_AUTHOR)
        @Query("SELECT p FROM Post p JOIN p.reports r WHERE r.status = 'PENDING' " +
                      "ORDER BY r.reportDate DESC")
        Page<Post> findPostsWithPendingReports(Pageable pageable);
@@ -191,6 +207,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         * del usuario autenticado además de las publicaciones públicas de los
         * que sigue.
         */
+       @EntityGraph(Post.WITH_AUTHOR)
        @Query("SELECT p FROM Post p WHERE (p.author.id IN :authorIds AND p.privacyType = :postPrivacy) " +
                      "OR p.author.id = :currentUserId " +
                      "ORDER BY p.creationDate DESC, p.id DESC")
@@ -198,4 +215,74 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                      @Param("postPrivacy") PrivacyType postPrivacy,
                      @Param("currentUserId") Long currentUserId,
                      Pageable pageable);
+
+       /**
+        * Busca posts por texto completo ordenados por relevancia.
+        *
+        * Usa la columna calculada {@code search_vector} y su índice GIN
+        * (creados por SearchIndexInitializer). Solo devuelve posts visibles
+        * para el usuario: los propios, los públicos de autores públicos y los
+        * públicos de autores seguidos; los administradores ven todos.
+        *
+        * La paginación es por cursor sobre (relevancia, id): se devuelven los
+        * posts estrictamente posteriores a {@code afterRank}/{@code afterId}.
+        *
+        * @param query     texto de búsqueda (sintaxis websearch de PostgreSQL)
+        * @param userId    ID del usuario que busca
+        * @param admin     true si el usuario es administrador
+        * @param afterRank relevancia del último resultado recibido
+        * @param afterId   ID del último resultado recibido
+        * @param limit     número máximo de filas
+        * @return Lista de arrays [postId, rank] ordenada por relevancia
+        */
+       @Query(value = "SELECT p.id, ts_rank(p.search_vector, q.query) AS rank " +
+                     "FROM posts p " +
+                     "JOIN users u ON u.id = p.author_id " +
+                     "CROSS JOIN websearch_to_tsquery('spanish', :query) AS q(query) " +
+                     "WHERE p.search_vector @@ q.query " +
+                     "AND (:admin = TRUE OR p.author_id = :userId " +
+                     "     OR (p.privacy_type = 'PUBLIC' AND (u.privacy_type = 'PUBLIC' " +
+                     "         OR EXISTS (SELECT 1 FROM follows f WHERE f.follower_id = :userId AND f.followed_id = p.author_id)))) " +
+                     "AND (ts_rank(p.search_vector, q.query) < CAST(:afterRank AS real) " +
+                     "     OR (ts_rank(p.search_vector, q.query) = CAST(:afterRank AS real) AND p.id < :afterId)) " +
+                     "ORDER BY rank DESC, p.id DESC " +
+                     "LIMIT :limit", nativeQuery = true)
+       List<Object[]> searchVisiblePostIds(@Param("query") String query,
+                     @Param("userId") Long userId,
+                     @Param("admin") boolean admin,
+                     @Param("afterRank") float afterRank,
+                     @Param("afterId") long afterId,
+                     @Param("limit") int limit);
+
+       /**
+        * Obtiene las publicaciones creadas desde una fecha, para reconstruir
+        * el ranking de tendencias al arrancar.
+        *
+        * @param since Fecha desde la que se cargan
+        * @return Lista de arrays [postId, creationDate]
+        */
+       @Query("SELECT p.id, p.creationDate FROM Post p WHERE p.creationDate >= :since")
+       List<Object[]> findIdsAndCreationDatesSince(@Param("since") LocalDate since);
+
+       /**
+        * Cuenta los comentarios por publicación y día desde una fecha, para
+        * reconstruir el ranking de tendencias al arrancar.
+        *
+        * @param since Fecha desde la que se cuentan
+        * @return Lista de arrays [postId, creationDate, count]
+        */
+       @Query("SELECT c.post.id, c.creationDate, COUNT(c) FROM Comment c " +
+                     "WHERE c.creationDate >= :since GROUP BY c.post.id, c.creationDate")
+       List<Object[]> countCommentsPerPostAndDaySince(@Param("since") LocalDate since);
+
+       /**
+        * Cuenta las reacciones por publicación y día desde una fecha, para
+        * reconstruir el ranking de tendencias al arrancar.
+        *
+        * @param since Fecha desde la que se cuentan
+        * @return Lista de arrays [postId, creationDate, count]
+        */
+       @Query("SELECT r.post.id, r.creationDate, COUNT(r) FROM Reaction r " +
+                     "WHERE r.creationDate >= :since GROUP BY r.post.id, r.creationDate")
+       List<Object[]> countReactionsPerPostAndDaySince(@Param("since") LocalDate since);
 }
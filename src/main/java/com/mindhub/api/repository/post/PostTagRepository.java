@@ -0,0 +1,82 @@
+package com.mindhub.api.repository.post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mindhub.api.model.post.PostTag;
+
+/**
+ * Repositorio para el índice de hashtags y menciones de publicaciones.
+ */
+
+@Repository
+public interface PostTagRepository extends JpaRepository<PostTag, Long> {
+
+       /**
+        * Obtiene los IDs de las publicaciones con una etiqueta que el usuario
+        * puede ver, del más reciente al más antiguo.
+        *
+        * Se aplican las mismas reglas de visibilidad que en la búsqueda: las
+        * propias, las públicas de autores públicos y las públicas de autores
+        * seguidos; los administradores ven todas. La paginación es por cursor
+        * sobre el ID del post y recorre el índice (tipo, etiqueta, post).
+        *
+        * @param type    tipo de etiqueta (HASHTAG o MENTION)
+        * @param tag     etiqueta normalizada
+        * @param userId  ID del usuario que consulta
+        * @param admin   true si el usuario es administrador
+        * @param afterId ID del último post recibido
+        * @param limit   número máximo de filas
+        * @return Lista de IDs de posts en orden descendente
+        */
+       @Query(value = "SELECT t.post_id FROM post_tags t " +
+                     "JOIN posts p ON p.id = t.post_id " +
+                     "JOIN users u ON u.id = p.author_id " +
+                     "WHERE t.type = :type AND t.tag = :tag AND t.post_id < :afterId " +
+                     "AND (:admin = TRUE OR p.author_id = :userId " +
+                     "     OR (p.privacy_type = 'PUBLIC' AND (u.privacy_type = 'PUBLIC' " +
+                     "         OR EXISTS (SELECT 1 FROM follows f WHERE f.follower_id = :userId AND f.followed_id = p.author_id)))) " +
+                     "ORDER BY t.post_id DESC " +
+                     "LIMIT :limit", nativeQuery = true)
+       List<Long> findVisiblePostIdsByTag(@Param("type") String type,
+                     @Param("tag") String tag,
+                     @Param("userId") Long userId,
+                     @Param("admin") boolean admin,
+                     @Param("afterId") long afterId,
+                     @Param("limit") int limit);
+
+       /**
+        * Obtiene los hashtags de publicaciones públicas añadidos desde una
+        * fecha, para reconstruir los sketches de tendencias al arrancar.
+        *
+        * @param since Fecha desde la que se cargan
+        * @return Lista de arrays [tag, createdAt]
+        */
+       @Query("SELECT t.tag, t.createdAt FROM PostTag t " +
+                     "WHERE t.type = com.mindhub.api.model.enums.TagType.HASHTAG " +
+                     "AND t.createdAt >= :since " +
+                     "AND t.post.privacyType = com.mindhub.api.model.enums.PrivacyType.PUBLIC")
+       List<Object[]> findPublicHashtagsSince(@Param("since") LocalDateTime since);
+
+       /**
+        * Obtiene, por tramos, los IDs de las publicaciones que mencionan algún
+        * {@code #} o {@code @} y no tienen ninguna fila en el índice de
+        * etiquetas, para rellenar las anteriores a su creación.
+        *
+        * @param afterId ID del último post procesado
+        * @param limit   número máximo de filas
+        * @return Lista de IDs de posts en orden ascendente
+        */
+       @Query(value = "SELECT p.id FROM posts p " +
+                     "WHERE p.id > :afterId " +
+                     "AND (p.content LIKE '%#%' OR p.content LIKE '%@%') " +
+                     "AND NOT EXISTS (SELECT 1 FROM post_tags t WHERE t.post_id = p.id) " +
+                     "ORDER BY p.id " +
+                     "LIMIT :limit", nativeQuery = true)
+       List<Long> findUntaggedPostIds(@Param("afterId") long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,62 @@
+package com.mindhub.api.repository.post;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mindhub.api.model.post.PostViewStats;
+
+/**
+ * Repositorio para las estadísticas de visualización de publicaciones.
+ */
+
+@Repository
+public interface PostViewStatsRepository extends JpaRepository<PostViewStats, Long> {
+
+       /**
+        * Obtiene los contadores de visualización de varios posts sin cargar
+        * sus sketches.
+        * 
+        * @param postIds Lista de IDs de posts
+        * @return Lista de arrays [postId, viewCount, uniqueViewers]
+        */
+       @Query("SELECT s.postId, s.viewCount, s.uniqueViewers FROM PostViewStats s WHERE s.postId IN :postIds")
+       List<Object[]> findCountsByPostIds(@Param("postIds") List<Long> postIds);
+
+       /**
+        * Suma visualizaciones a un post y sustituye su sketch de espectadores.
+        *
+        * Solo escribe si el post sigue existiendo, y bloquea su fila hasta el
+        * commit: un volcado concurrente con el borrado del post no puede
+        * recrear la fila de estadísticas después de que se haya eliminado.
+        * 
+        * @param postId        ID del post
+        * @param views         Visualizaciones a sumar
+        * @param uniqueViewers Estimación actualizada de espectadores únicos
+        * @param sketch        Sketch serializado ya unido con el anterior
+        */
+       @Modifying
+       @Query(value = "INSERT INTO post_view_stats (post_id, view_count, unique_viewers, viewer_sketch) " +
+                     "SELECT p.id, :views, :uniqueViewers, :sketch FROM posts p WHERE p.id = :postId FOR KEY SHARE " +
+                     "ON CONFLICT (post_id) DO UPDATE SET view_count = post_view_stats.view_count + EXCLUDED.view_count, " +
+                     "unique_viewers = EXCLUDED.unique_viewers, viewer_sketch = EXCLUDED.viewer_sketch", nativeQuery = true)
+       void addViews(@Param("postId") Long postId,
+                     @Param("views") long views,
+                     @Param("uniqueViewers") long uniqueViewers,
+                     @Param("sketch") byte[] sketch);
+
+       /**
+        * Elimina las estadísticas de un post eliminado.
+        * 
+        * @param postId ID del post
+        */
+       @Modifying
+       @Transactional
+       @Query("DELETE FROM PostViewStats s WHERE s.postId = :postId")
+       void deleteByPostId(@Param("postId") Long postId);
+}
@@ -2,10 +2,13 @@ package com.mindhub.api.repository.report;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mindhub.api.model.enums.ReportStatus;
 import com.mindhub.api.model.post.Post;
@@ -21,7 +24,7 @@ import com.mindhub.api.model.user.User;
  */
 
 @Repository
-public interface ReportRepository extends JpaRepository<Report, Long> {
+public interface ReportRepository extends JpaRepository<Report, Long>, ReportSearchRepository {
 
        /**
         * Busca reportes pendientes con paginación.
@@ -37,6 +40,7 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
         * @see Report
         * @see ReportStatus
         */
+       @EntityGraph(Report.WITH_REPORTER_AND_POST)
        @Query("SELECT r FROM Report r WHERE r.status = :status ORDER BY r.reportDate DESC")
        Page<Report> findPendingReports(@Param("status") ReportStatus status, Pageable pageable);
 
@@ -68,6 +72,7 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
         * @see Report
         * @see Post
         */
+       @EntityGraph(Report.WITH_REPORTER_AND_POST)
        @Query("SELECT r FROM Report r WHERE r.post = :post ORDER BY r.reportDate DESC")
        Page<Report> findByPostOrderByReportDateDesc(@Param("post") Post post, Pageable pageable);
 
@@ -112,30 +117,25 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
        long countResolvedReports();
 
        /**
-        * Busca reportes con filtros avanzados.
+        * Recalcula el documento de búsqueda de los reportes de un usuario.
         * 
-        * Retorna reportes filtrados por estado y búsqueda en texto,
-        * incluyendo búsqueda en razón, descripción y datos del reportero.
+        * Se usa cuando cambian el nombre de usuario, el nombre o los apellidos
+        * del reportero, que forman parte del documento.
         * 
         * 
-        * @param status   Estado del reporte (opcional)
-        * @param search   Término de búsqueda (opcional)
-        * @param pageable Configuración de paginación
-        * @return Página de reportes filtrados ordenados por fecha
-        * 
-        * @see Report
-        * @see ReportStatus
+        * @param reporterId ID del usuario que realizó los reportes
+        * @param username   Nombre de usuario actual
+        * @param firstName  Nombre actual
+        * @param lastName   Apellidos actuales
+        * @return Número de reportes actualizados
         */
-       @Query("SELECT r FROM Report r WHERE " +
-                     "(:status IS NULL OR r.status = :status) AND " +
-                     "(:search IS NULL OR :search = '' OR " +
-                     "LOWER(r.reason) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-                     "LOWER(r.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-                     "LOWER(r.reporter.username) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-                     "LOWER(r.reporter.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-                     "LOWER(r.reporter.lastName) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-                     "ORDER BY r.reportDate DESC")
-       Page<Report> findReportsWithFilters(@Param("status") String status,
-                     @Param("search") String search,
-                     Pageable pageable);
+       @Modifying
+       @Transactional
+       @Query(value = "UPDATE reports SET search_document = lower(concat_ws(' ', reason, description, " +
+                     "CAST(:username AS text), CAST(:firstName AS text), CAST(:lastName AS text))) " +
+                     "WHERE reporter_id = :reporterId", nativeQuery = true)
+       int refreshSearchDocuments(@Param("reporterId") Long reporterId,
+                     @Param("username") String username,
+                     @Param("firstName") String firstName,
+                     @Param("lastName") String lastName);
 }
@@ -0,0 +1,32 @@
+package com.mindhub.api.repository.report;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.mindhub.api.model.enums.ReportStatus;
+import com.mindhub.api.model.report.Report;
+
+/**
+ * Fragmento de repositorio con la búsqueda de reportes del panel de
+ * administración.
+ *
+ * Se implementa a mano porque la consulta se compone según los filtros
+ * presentes: así el estado llega como literal (y PostgreSQL puede usar el
+ * índice parcial de ese estado) y el filtro de texto solo aparece cuando hay
+ * término de búsqueda (y usa el índice de trigramas).
+ */
+public interface ReportSearchRepository {
+
+    /**
+     * Busca reportes por estado y texto, ordenados por fecha de reporte
+     * descendente y paginados por cursor sobre (fecha, id).
+     *
+     * @param status    estado del reporte (null para todos)
+     * @param search    término de búsqueda (null o vacío para no filtrar)
+     * @param afterDate fecha del último reporte recibido (null en la primera página)
+     * @param afterId   id del último reporte recibido (null en la primera página)
+     * @param limit     número máximo de reportes
+     * @return reportes de la página
+     */
+    List<Report> searchReports(ReportStatus status, String search, LocalDateTime afterDate, Long afterId, int limit);
+}
@@ -0,0 +1,87 @@
+package com.mindhub.api.repository.report;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.mindhub.api.model.enums.ReportStatus;
+import com.mindhub.api.model.report.Report;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Implementación de {@link ReportSearchRepository} con SQL nativo.
+ *
+ * El estado se inserta como literal a partir del enum (nunca del texto del
+ * usuario); el resto de valores se enlazan como parámetros.
+ *
+ * La consulta nativa solo obtiene los IDs de la página; los reportes se
+ * cargan después con el grafo {@link Report#WITH_REPORTER_AND_POST}, de modo
+ * que el reportero, el post y su autor llegan en una sola consulta.
+ */
+public class ReportSearchRepositoryImpl implements ReportSearchRepository {
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Report> searchReports(ReportStatus status, String search, LocalDateTime afterDate, Long afterId,
+            int limit) {
+        StringBuilder sql = new StringBuilder("SELECT r.id FROM reports r WHERE 1 = 1");
+
+        if (status != null) {
+            sql.append(" AND r.status = '").append(status.name()).append('\'');
+        }
+
+        boolean hasSearch = search != null && !search.isBlank();
+        if (hasSearch) {
+            sql.append(" AND r.search_document ILIKE :pattern ESCAPE '\\'");
+        }
+
+        boolean hasCursor = afterDate != null && afterId != null;
+        if (hasCursor) {
+            sql.append(" AND (r.report_date < :afterDate OR (r.report_date = :afterDate AND r.id < :afterId))");
+        }
+
+        sql.append(" ORDER BY r.report_date DESC, r.id DESC LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Long.class);
+        if (hasSearch) {
+            query.setParameter("pattern", "%" + escapeLike(search.strip()) + "%");
+        }
+        if (hasCursor) {
+            query.setParameter("afterDate", afterDate);
+            query.setParameter("afterId", afterId);
+        }
+        query.setParameter("limit", limit);
+
+        List<Long> ids = query.getResultList().stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Report> reportsById = new HashMap<>();
+        entityManager.createQuery("SELECT r FROM Report r WHERE r.id IN :ids", Report.class)
+                .setParameter("ids", ids)
+                .setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(Report.WITH_REPORTER_AND_POST))
+                .getResultList()
+                .forEach(report -> reportsById.put(report.getId(), report));
+
+        return ids.stream()
+                .map(reportsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
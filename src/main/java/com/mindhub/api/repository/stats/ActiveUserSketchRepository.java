@@ -0,0 +1,41 @@
+package com.mindhub.api.repository.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mindhub.api.model.stats.ActiveUserSketch;
+
+/**
+ * Repositorio para los sketches diarios de usuarios activos.
+ */
+
+@Repository
+public interface ActiveUserSketchRepository extends JpaRepository<ActiveUserSketch, Long> {
+
+       /**
+        * Obtiene los sketches de un rango de días.
+        * 
+        * @param from Primer día (incluido)
+        * @param to   Último día (incluido)
+        * @return Sketches existentes del rango
+        */
+       @Query("SELECT s FROM ActiveUserSketch s WHERE s.day BETWEEN :from AND :to")
+       List<ActiveUserSketch> findRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+       /**
+        * Guarda el sketch de un día, sustituyendo el anterior si existe.
+        * 
+        * @param day       Día del sketch
+        * @param registers Sketch serializado
+        */
+       @Modifying
+       @Query(value = "INSERT INTO active_user_sketches (day, registers) VALUES (:day, :registers) " +
+                     "ON CONFLICT (day) DO UPDATE SET registers = EXCLUDED.registers", nativeQuery = true)
+       void upsert(@Param("day") LocalDate day, @Param("registers") byte[] registers);
+}
@@ -0,0 +1,108 @@
+package com.mindhub.api.repository.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mindhub.api.model.enums.StatsGrain;
+import com.mindhub.api.model.enums.StatsMetric;
+import com.mindhub.api.model.stats.StatsRollup;
+
+/**
+ * Repositorio para los agregados por intervalo de las series temporales.
+ *
+ * Incluye la suma incremental de deltas (upsert) y las consultas de
+ * relleno que recalculan los agregados desde las tablas de origen.
+ */
+
+@Repository
+public interface StatsRollupRepository extends JpaRepository<StatsRollup, Long> {
+
+       /**
+        * Obtiene los agregados de una métrica en un rango de intervalos.
+        * 
+        * @param metric Métrica
+        * @param grain  Granularidad
+        * @param from   Inicio del primer intervalo (incluido)
+        * @param to     Inicio del último intervalo (incluido)
+        * @return Agregados existentes ordenados por intervalo
+        */
+       @Query("SELECT s FROM StatsRollup s WHERE s.metric = :metric AND s.grain = :grain " +
+                     "AND s.bucketStart BETWEEN :from AND :to ORDER BY s.bucketStart")
+       List<StatsRollup> findRange(@Param("metric") StatsMetric metric,
+                     @Param("grain") StatsGrain grain,
+                     @Param("from") LocalDateTime from,
+                     @Param("to") LocalDateTime to);
+
+       /**
+        * Suma un delta al agregado de un intervalo, creándolo si no existe.
+        * 
+        * @param metric      Nombre de la métrica
+        * @param grain       Nombre de la granularidad
+        * @param bucketStart Inicio del intervalo
+        * @param delta       Cantidad a sumar
+        */
+       @Modifying
+       @Query(value = "INSERT INTO stats_rollups (metric, grain, bucket_start, total) " +
+                     "VALUES (:metric, :grain, :bucketStart, :delta) " +
+                     "ON CONFLICT (metric, grain, bucket_start) " +
+                     "DO UPDATE SET total = stats_rollups.total + EXCLUDED.total", nativeQuery = true)
+       void addToBucket(@Param("metric") String metric,
+                     @Param("grain") String grain,
+                     @Param("bucketStart") LocalDateTime bucketStart,
+                     @Param("delta") long delta);
+
+       /**
+        * Elimina los agregados de una métrica en un rango antes de recalcularlo.
+        * 
+        * @param metric Nombre de la métrica
+        * @param grain  Nombre de la granularidad
+        * @param from   Inicio del rango (incluido)
+        * @param to     Fin del rango (excluido)
+        */
+       @Modifying
+       @Query(value = "DELETE FROM stats_rollups WHERE metric = :metric AND grain = :grain " +
+                     "AND bucket_start >= :from AND bucket_start < :to", nativeQuery = true)
+       void deleteRange(@Param("metric") String metric,
+                     @Param("grain") String grain,
+                     @Param("from") LocalDateTime from,
+                     @Param("to") LocalDateTime to);
+
+       /**
+        * Recalcula las publicaciones por día desde la tabla de publicaciones.
+        */
+       @Modifying
+       @Query(value = "INSERT INTO stats_rollups (metric, grain, bucket_start, total) " +
+                     "SELECT 'POSTS', 'DAY', CAST(p.creation_date AS timestamp), COUNT(*) FROM posts p " +
+                     "WHERE p.creation_date BETWEEN :from AND :to GROUP BY p.creation_date", nativeQuery = true)
+       int backfillDailyPosts(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+       /**
+        * Recalcula los registros por día desde la tabla de usuarios.
+        */
+       @Modifying
+       @Query(value = "INSERT INTO stats_rollups (metric, grain, bucket_start, total) " +
+                     "SELECT 'SIGNUPS', 'DAY', CAST(u.registration_date AS timestamp), COUNT(*) FROM users u " +
+                     "WHERE u.registration_date BETWEEN :from AND :to GROUP BY u.registration_date", nativeQuery = true)
+       int backfillDailySignups(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+       /**
+        * Recalcula los reportes por intervalo desde la tabla de reportes.
+        * 
+        * @param grain Granularidad en formato de {@code date_trunc} ('hour' o 'day')
+        */
+       @Modifying
+       @Query(value = "INSERT INTO stats_rollups (metric, grain, bucket_start, total) " +
+                     "SELECT 'REPORTS', UPPER(:grain), date_trunc(:grain, r.report_date), COUNT(*) FROM reports r " +
+                     "WHERE r.report_date >= :from AND r.report_date < :to " +
+                     "GROUP BY 2, 3", nativeQuery = true)
+       int backfillReports(@Param("grain") String grain,
+                     @Param("from") LocalDateTime from,
+                     @Param("to") LocalDateTime to);
+}
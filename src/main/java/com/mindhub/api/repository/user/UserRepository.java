@@ -1,7 +1,5 @@
 package com.mindhub.api.repository.user;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -54,44 +52,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
         boolean existsByEmail(String email);
 
         /**
-         * Busca usuarios públicos por nombre o apellido.
+         * Obtiene los datos necesarios para construir el índice de búsqueda
+         * de usuarios.
          * 
-         * Retorna usuarios públicos activos que coincidan con la búsqueda
-         * en nombre, apellido o nombre completo.
+         * Cada fila contiene: id, nombre, apellidos, tipo de privacidad y
+         * estado activo.
          * 
-         * 
-         * @param search   Término de búsqueda
-         * @param pageable Configuración de paginación
-         * @return Página de usuarios públicos que coincidan con la búsqueda
+         * @return Lista de filas con los campos indexables de cada usuario
          * 
          * @see User
-         * @see PrivacyType
          */
-        @Query("SELECT u FROM User u WHERE u.privacyType = 'PUBLIC' AND u.active = true AND " +
-                        "(LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-                        "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-                        "LOWER(CONCAT(u.firstName, ' ', u.lastName)) LIKE LOWER(CONCAT('%', :search, '%')))")
-        Page<User> findPublicUsersByFirstNameOrLastName(@Param("search") String search, Pageable pageable);
-
-        /**
-         * Busca usuarios por nombre o apellido sin restricción de privacidad (para
-         * admin).
-         * 
-         * Retorna usuarios que coincidan con la búsqueda en nombre, apellido o nombre
-         * completo,
-         * sin importar su tipo de privacidad. Usado exclusivamente por administradores.
-         * 
-         * @param search   Término de búsqueda
-         * @param pageable Configuración de paginación
-         * @return Página de usuarios que coincidan con la búsqueda
-         * 
-         * @see User
-         */
-        @Query("SELECT u FROM User u WHERE " +
-                        "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-                        "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-                        "LOWER(CONCAT(u.firstName, ' ', u.lastName)) LIKE LOWER(CONCAT('%', :search, '%'))")
-        Page<User> findUsersByFirstNameOrLastName(@Param("search") String search, Pageable pageable);
+        @Query("SELECT u.id, u.firstName, u.lastName, u.privacyType, u.active FROM User u")
+        java.util.List<Object[]> findSearchIndexRows();
 
         /**
          * Cuenta el número total de usuarios activos.
@@ -155,4 +127,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
          */
         @Query("SELECT u FROM User u WHERE u.role = :role AND u.active = true")
         java.util.List<User> findByRoleAndActiveTrue(@Param("role") Role role);
+
+        /**
+         * Obtiene los IDs de los administradores activos.
+         *
+         * Método optimizado que evita cargar las entidades de usuario
+         * y su rol cuando solo se necesita el conjunto de destinatarios.
+         *
+         * @return Lista de IDs de administradores activos
+         * @see User
+         */
+        @Query("SELECT u.id FROM User u WHERE u.role.name = 'ADMIN' AND u.active = true")
+        java.util.List<Long> findActiveAdminIds();
+
+        /**
+         * Filtra una colección de IDs dejando solo los de usuarios existentes.
+         *
+         * @param ids IDs de usuario a comprobar
+         * @return Lista con los IDs que siguen existiendo
+         * @see User
+         */
+        @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+        java.util.List<Long> findExistingIds(@Param("ids") java.util.Collection<Long> ids);
+
+        /**
+         * Obtiene los datos necesarios para construir el directorio de nombres
+         * de usuario y emails.
+         *
+         * Cada fila contiene: id, nombre de usuario, email, tipo de privacidad
+         * y estado activo.
+         *
+         * @return Lista de filas con los campos de cada usuario
+         * @see User
+         */
+        @Query("SELECT u.id, u.username, u.email, u.privacyType, u.active FROM User u")
+        java.util.List<Object[]> findDirectoryRows();
 }
@@ -1,6 +1,7 @@
 package com.mindhub.api.repository.userProfile;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,4 +36,13 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
      */
     @Query("SELECT p FROM UserProfile p WHERE p.user = :user")
     Optional<UserProfile> findByUser(@Param("user") User user);
+
+    /**
+     * Elimina el perfil de un usuario.
+     * 
+     * @param userId ID del usuario
+     */
+    @Modifying
+    @Query("DELETE FROM UserProfile p WHERE p.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
 }
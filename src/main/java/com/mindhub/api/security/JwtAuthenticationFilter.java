@@ -14,6 +14,9 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.mindhub.api.model.user.User;
+import com.mindhub.api.service.stats.ActiveUserEstimator;
+
 import java.io.IOException;
 
 /**
@@ -40,6 +43,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     /** Servicio personalizado para cargar usuarios desde la base de datos. */
     private final CustomUserDetailsService userDetailsService;
+    /** Estimador de usuarios activos alimentado con cada petición autenticada. */
+    private final ActiveUserEstimator activeUserEstimator;
 
     /**
      * Lógica principal del filtro JWT.
@@ -110,6 +115,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     SecurityContextHolder.getContext().setAuthentication(authToken);
 
+                    if (userDetails instanceof User user) {
+                        activeUserEstimator.record(user.getId());
+                    }
+
                 } else {
                     log.warn("“Token JWT no válido para el usuario: {}", username);
                 }
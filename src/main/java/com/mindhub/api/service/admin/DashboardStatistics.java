@@ -0,0 +1,162 @@
+package com.mindhub.api.service.admin;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.event.PostCreatedEvent;
+import com.mindhub.api.event.PostDeletedEvent;
+import com.mindhub.api.event.ReportStatusChangedEvent;
+import com.mindhub.api.event.UserStatusChangedEvent;
+import com.mindhub.api.model.enums.ReportStatus;
+import com.mindhub.api.repository.post.PostRepository;
+import com.mindhub.api.repository.report.ReportRepository;
+import com.mindhub.api.repository.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contadores en memoria del dashboard de administración.
+ *
+ * Se cargan de la base de datos al arrancar y después se actualizan con los
+ * eventos de dominio de usuarios, publicaciones y reportes una vez confirmada
+ * cada transacción, de modo que leer el dashboard no ejecuta consultas.
+ *
+ * Una reconciliación periódica vuelve a contar en la base de datos y corrige
+ * cualquier desviación (cambios hechos fuera de los servicios, borrados en
+ * cascada o eventos perdidos en un reinicio).
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardStatistics {
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final ReportRepository reportRepository;
+
+    private final AtomicLong totalUsers = new AtomicLong();
+    private final AtomicLong activeUsers = new AtomicLong();
+    private final AtomicLong inactiveUsers = new AtomicLong();
+    private final AtomicLong totalPosts = new AtomicLong();
+    private final AtomicLong pendingReports = new AtomicLong();
+    private final AtomicLong rejectedReports = new AtomicLong();
+    private final AtomicLong resolvedReports = new AtomicLong();
+
+    private volatile boolean loaded;
+
+    /**
+     * Devuelve los contadores actuales. Si aún no se han cargado (petición
+     * antes de terminar el arranque) se cargan en ese momento.
+     *
+     * @return copia de los contadores del dashboard
+     */
+    public Snapshot snapshot() {
+        if (!loaded) {
+            reconcile();
+        }
+
+        return new Snapshot(
+                totalUsers.get(),
+                activeUsers.get(),
+                inactiveUsers.get(),
+                totalPosts.get(),
+                pendingReports.get(),
+                rejectedReports.get(),
+                resolvedReports.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Vuelve a contar en la base de datos y sustituye los valores en memoria.
+     */
+    @Scheduled(fixedDelayString = "${app.admin.dashboard.reconcile-interval-ms:300000}", initialDelayString = "${app.admin.dashboard.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        Snapshot before = loaded ? snapshot() : null;
+
+        totalUsers.set(userRepository.count());
+        activeUsers.set(userRepository.countByActiveTrue());
+        inactiveUsers.set(userRepository.countByActiveFalse());
+        totalPosts.set(postRepository.count());
+        pendingReports.set(reportRepository.countPendingReports());
+        rejectedReports.set(reportRepository.countRejectedReports());
+        resolvedReports.set(reportRepository.countResolvedReports());
+        loaded = true;
+
+        Snapshot after = snapshot();
+        if (before == null) {
+            log.info("Contadores del dashboard cargados: {}", after);
+        } else if (!before.equals(after)) {
+            log.info("Contadores del dashboard corregidos en la reconciliación: {} -> {}", before, after);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        if (event.active() == null) {
+            // Al eliminar un usuario se borran en cascada sus publicaciones y reportes
+            reconcile();
+            return;
+        }
+
+        if (event.previousActive() == null) {
+            totalUsers.incrementAndGet();
+        } else {
+            counterFor(event.previousActive()).decrementAndGet();
+        }
+        counterFor(event.active()).incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        totalPosts.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        totalPosts.decrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportStatusChanged(ReportStatusChangedEvent event) {
+        if (event.previousStatus() != null) {
+            counterFor(event.previousStatus()).decrementAndGet();
+        }
+        counterFor(event.status()).incrementAndGet();
+    }
+
+    private AtomicLong counterFor(boolean active) {
+        return active ? activeUsers : inactiveUsers;
+    }
+
+    private AtomicLong counterFor(ReportStatus status) {
+        return switch (status) {
+            case PENDING -> pendingReports;
+            case REJECTED -> rejectedReports;
+            case RESOLVED -> resolvedReports;
+        };
+    }
+
+    /**
+     * Copia inmutable de los contadores del dashboard.
+     */
+    public record Snapshot(
+            long totalUsers,
+            long activeUsers,
+            long inactiveUsers,
+            long totalPosts,
+            long pendingReports,
+            long rejectedReports,
+            long resolvedReports) {
+    }
+}
@@ -0,0 +1,394 @@
+package com.mindhub.api.service.chatbot;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import com.mindhub.api.model.chatbot.ChatBotMessage;
+import com.mindhub.api.repository.user.UserRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffer de escritura diferida para los mensajes del chatbot.
+ *
+ * Los mensajes de cada sesión se acumulan en memoria y una tarea programada
+ * los inserta en lote, con un único {@code INSERT} de varias filas por lote
+ * ({@code reWriteBatchedInserts}), de modo que el envío de un mensaje no
+ * espera a la base de datos.
+ *
+ * El volcado aparta los pendientes en un lote «en vuelo» bajo un cerrojo
+ * breve y los inserta fuera de él. Los mensajes en vuelo siguen siendo
+ * visibles para las lecturas del historial hasta que su transacción
+ * confirma; solo la confirmación y la retirada del lote se hacen en modo
+ * exclusivo, de modo que cada mensaje se ve exactamente una vez, en memoria
+ * o en base de datos, sin que las lecturas esperen a las inserciones.
+ *
+ * Si el lote falla se reintenta sesión a sesión, y una sesión que falla por
+ * un error no transitorio se inserta fila a fila descartando las filas que la
+ * base de datos rechaza, de modo que un mensaje inválido no bloquea el resto.
+ * El buffer está acotado: al llenarse se pide un volcado inmediato al
+ * planificador y el mensaje se rechaza.
+ *
+ * Los mensajes pendientes se vuelcan también al detener la aplicación.
+ */
+
+@Slf4j
+@Component
+public class ChatBotMessageBuffer {
+
+    private static final String INSERT_SQL = "INSERT INTO chatbot_messages "
+            + "(content, type, creation_date, session_id, user_id, chatbot_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskScheduler taskScheduler;
+    private final int maxPending;
+
+    /** Mensajes pendientes por sesión, en orden de llegada. */
+    private final Map<String, Deque<ChatBotMessage>> pending = new ConcurrentHashMap<>();
+
+    /** Mensajes apartados por el volcado en curso o por uno fallido, por sesión. */
+    private final Map<String, List<ChatBotMessage>> inFlight = new LinkedHashMap<>();
+
+    /** Sesiones descartadas mientras sus mensajes estaban en vuelo. */
+    private final Set<String> discardedInFlight = new HashSet<>();
+
+    /** Número total de mensajes pendientes y en vuelo en todas las sesiones. */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /** Lecturas en modo compartido; cambios del lote en vuelo en modo exclusivo. */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Un único volcado a la vez. */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    public ChatBotMessageBuffer(JdbcTemplate jdbcTemplate,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler,
+            @Value("${app.chatbot.buffer.max-pending:10000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.transactionManager = transactionManager;
+        this.taskScheduler = taskScheduler;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Añade un mensaje, aún sin persistir, al final de su sesión.
+     * 
+     * Si el buffer está lleno pide un volcado inmediato al planificador y
+     * rechaza el mensaje, de modo que los productores no avanzan más rápido
+     * que la base de datos ni el hilo de la petición hace el volcado.
+     * 
+     * @param message Mensaje sin id asignado
+     * @throws IllegalStateException si el buffer está lleno
+     */
+    public void append(ChatBotMessage message) {
+        if (pendingCount.get() >= maxPending) {
+            requestFlush();
+
+            log.warn("Buffer de mensajes del chatbot lleno ({} pendientes), mensaje rechazado", pendingCount.get());
+
+            throw new IllegalStateException(
+                    "El chatbot está recibiendo demasiados mensajes. Inténtalo de nuevo en unos segundos.");
+        }
+
+        pending.compute(message.getSessionId(), (sessionId, messages) -> {
+            Deque<ChatBotMessage> updated = messages != null ? messages : new ArrayDeque<>();
+            updated.addLast(message);
+            return updated;
+        });
+        pendingCount.incrementAndGet();
+    }
+
+    /**
+     * Ejecuta una lectura del historial combinándola con los mensajes no
+     * confirmados (en vuelo y pendientes).
+     * 
+     * El lector recibe los mensajes no confirmados de la sesión en orden
+     * cronológico y puede consultar la base de datos sin riesgo de duplicados
+     * ni huecos, ya que ningún volcado confirma mientras dura la lectura.
+     * 
+     * @param sessionId Sesión a consultar
+     * @param reader    Función que combina los pendientes con la consulta
+     * @return Resultado del lector
+     */
+    public <T> T read(String sessionId, Function<List<ChatBotMessage>, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(snapshot(sessionId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Descarta los mensajes no confirmados de una sesión.
+     * 
+     * Si el volcado en curso ya los está insertando, se borran de nuevo en
+     * su misma transacción antes de confirmarla.
+     * 
+     * @param sessionId Sesión a descartar
+     */
+    public void discard(String sessionId) {
+        lock.writeLock().lock();
+        try {
+            Deque<ChatBotMessage> removed = pending.remove(sessionId);
+            if (removed != null) {
+                pendingCount.addAndGet(-removed.size());
+            }
+            List<ChatBotMessage> flushing = inFlight.remove(sessionId);
+            if (flushing != null) {
+                pendingCount.addAndGet(-flushing.size());
+                discardedInFlight.add(sessionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserta en lote todos los mensajes pendientes.
+     * 
+     * Si la transacción falla por un error transitorio los mensajes
+     * permanecen en vuelo y se reintentan en el siguiente volcado. Los
+     * mensajes de usuarios eliminados desde que se enviaron se descartan.
+     */
+    @Scheduled(fixedDelayString = "${app.chatbot.buffer.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            Map<String, List<ChatBotMessage>> batches = takeBatches();
+            if (batches.isEmpty()) {
+                return;
+            }
+
+            Set<Long> userIds = new HashSet<>();
+            batches.values().forEach(messages -> messages.forEach(message -> userIds.add(message.getUser().getId())));
+            Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(userIds));
+
+            Map<String, List<ChatBotMessage>> toInsert = new LinkedHashMap<>();
+            List<ChatBotMessage> all = new ArrayList<>();
+            int total = 0;
+
+            for (Map.Entry<String, List<ChatBotMessage>> batch : batches.entrySet()) {
+                List<ChatBotMessage> sessionInsert = batch.getValue().stream()
+                        .filter(message -> existingUserIds.contains(message.getUser().getId()))
+                        .toList();
+                toInsert.put(batch.getKey(), sessionInsert);
+                all.addAll(sessionInsert);
+                total += batch.getValue().size();
+            }
+
+            Map<String, Integer> everything = new LinkedHashMap<>();
+            batches.forEach((sessionId, messages) -> everything.put(sessionId, messages.size()));
+
+            if (insert(all, everything) == null) {
+                if (all.size() < total) {
+                    log.warn("Descartados {} mensajes del chatbot de usuarios eliminados", total - all.size());
+                }
+                log.debug("Volcados {} mensajes del chatbot de {} sesiones", all.size(), batches.size());
+                return;
+            }
+
+            // Se reintenta sesión a sesión para que una fila inválida no bloquee al resto
+            batches.forEach((sessionId, messages) -> {
+                RuntimeException error = insert(toInsert.get(sessionId), Map.of(sessionId, messages.size()));
+
+                if (error instanceof NonTransientDataAccessException) {
+                    flushOneByOne(sessionId, messages, existingUserIds);
+                } else if (error != null) {
+                    log.error("Error al volcar {} mensajes del chatbot de la sesión {}, se reintentará",
+                            messages.size(), sessionId, error);
+                }
+            });
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Pide al planificador un volcado inmediato, salvo que ya haya uno pedido.
+     */
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /**
+     * Aparta los pendientes detrás de los mensajes que siguen en vuelo de un
+     * volcado fallido y devuelve una copia de todo el lote en vuelo.
+     */
+    private Map<String, List<ChatBotMessage>> takeBatches() {
+        lock.writeLock().lock();
+        try {
+            discardedInFlight.clear();
+            for (String sessionId : pending.keySet()) {
+                Deque<ChatBotMessage> messages = pending.remove(sessionId);
+                if (messages != null) {
+                    inFlight.computeIfAbsent(sessionId, id -> new ArrayList<>()).addAll(messages);
+                }
+            }
+
+            Map<String, List<ChatBotMessage>> batches = new LinkedHashMap<>();
+            inFlight.forEach((sessionId, messages) -> batches.put(sessionId, new ArrayList<>(messages)));
+            return batches;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserta los mensajes en una transacción. La confirmación se hace en
+     * modo exclusivo junto con la retirada de los mensajes del lote en vuelo.
+     * 
+     * @param messages Mensajes a insertar
+     * @param flushed  Mensajes que se retiran del principio de cada sesión al
+     *                 confirmar (incluye los descartados sin insertar)
+     * @return null si se confirmó, o el error que la revirtió
+     */
+    private RuntimeException insert(List<ChatBotMessage> messages, Map<String, Integer> flushed) {
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try {
+            if (!messages.isEmpty()) {
+                LocalDate today = LocalDate.now();
+                jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (statement, message) -> {
+                    statement.setString(1, message.getContent());
+                    statement.setString(2, message.getType().name());
+                    statement.setDate(3, Date.valueOf(
+                            message.getCreationDate() != null ? message.getCreationDate() : today));
+                    statement.setString(4, message.getSessionId());
+                    statement.setLong(5, message.getUser().getId());
+                    statement.setLong(6, message.getChatBot().getId());
+                });
+            }
+        } catch (RuntimeException e) {
+            transactionManager.rollback(status);
+            return e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (String sessionId : flushed.keySet()) {
+                if (discardedInFlight.contains(sessionId)) {
+                    // La conversación se eliminó mientras se insertaba
+                    jdbcTemplate.update("DELETE FROM chatbot_messages WHERE session_id = ?", sessionId);
+                }
+            }
+            transactionManager.commit(status);
+            flushed.forEach(this::removeFlushed);
+            return null;
+        } catch (RuntimeException e) {
+            if (!status.isCompleted()) {
+                transactionManager.rollback(status);
+            }
+            return e;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserta los mensajes de una sesión de uno en uno, descartando los que la
+     * base de datos rechaza.
+     * 
+     * Se detiene ante el primer error transitorio para reintentar el resto en
+     * el siguiente volcado.
+     */
+    private void flushOneByOne(String sessionId, List<ChatBotMessage> messages, Set<Long> existingUserIds) {
+        for (ChatBotMessage message : messages) {
+            List<ChatBotMessage> row = existingUserIds.contains(message.getUser().getId())
+                    ? List.of(message)
+                    : List.of();
+            RuntimeException error = insert(row, Map.of(sessionId, 1));
+
+            if (error != null && !(error instanceof NonTransientDataAccessException)) {
+                log.error("Error al volcar mensajes del chatbot de la sesión {}, se reintentará", sessionId,
+                        error);
+                return;
+            }
+            if (error != null) {
+                log.error("Descartado un mensaje del chatbot de la sesión {} rechazado por la base de datos: {}",
+                        sessionId, error.getMessage());
+                removeFlushedExclusively(sessionId);
+            }
+        }
+    }
+
+    private void removeFlushedExclusively(String sessionId) {
+        lock.writeLock().lock();
+        try {
+            removeFlushed(sessionId, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retira del principio de la sesión en vuelo los mensajes ya volcados o
+     * descartados. Debe llamarse en modo exclusivo.
+     */
+    private void removeFlushed(String sessionId, int count) {
+        List<ChatBotMessage> messages = inFlight.get(sessionId);
+        if (messages == null || count == 0) {
+            return;
+        }
+
+        int removed = Math.min(count, messages.size());
+        messages.subList(0, removed).clear();
+        if (messages.isEmpty()) {
+            inFlight.remove(sessionId);
+        }
+        pendingCount.addAndGet(-removed);
+    }
+
+    /**
+     * Mensajes no confirmados de una sesión: primero los en vuelo y después
+     * los pendientes. Debe llamarse con el cerrojo.
+     */
+    private List<ChatBotMessage> snapshot(String sessionId) {
+        List<ChatBotMessage> copy = new ArrayList<>(inFlight.getOrDefault(sessionId, List.of()));
+        pending.computeIfPresent(sessionId, (id, messages) -> {
+            copy.addAll(messages);
+            return messages;
+        });
+        return copy;
+    }
+}
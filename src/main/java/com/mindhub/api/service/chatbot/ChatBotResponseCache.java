@@ -0,0 +1,151 @@
+package com.mindhub.api.service.chatbot;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Caché acotada de respuestas del chatbot.
+ *
+ * La clave combina el mensaje normalizado (minúsculas y con los espacios
+ * colapsados) con el contexto de la conversación, de modo que las
+ * preguntas repetidas no vuelven a pasar por el matching de intenciones.
+ * Las entradas se expulsan por tamaño (LRU) y por antigüedad.
+ *
+ * Publica los aciertos, fallos, tamaño y tasa de aciertos como métricas.
+ */
+
+@Component
+public class ChatBotResponseCache {
+
+    private final long ttlMillis;
+    private final Map<String, Entry> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ChatBotResponseCache(MeterRegistry meterRegistry,
+            @Value("${app.chatbot.response-cache.max-size:1000}") int maxSize,
+            @Value("${app.chatbot.response-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        FunctionCounter.builder("chatbot.response.cache.hits", hits, AtomicLong::get)
+                .description("Respuestas del chatbot servidas desde caché")
+                .register(meterRegistry);
+        FunctionCounter.builder("chatbot.response.cache.misses", misses, AtomicLong::get)
+                .description("Respuestas del chatbot no encontradas en caché")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.response.cache.size", cache, Map::size)
+                .description("Entradas en la caché de respuestas del chatbot")
+                .register(meterRegistry);
+        Gauge.builder("chatbot.response.cache.hit.ratio", this, ChatBotResponseCache::hitRatio)
+                .description("Proporción de aciertos de la caché de respuestas del chatbot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Normaliza un mensaje para usarlo como parte de la clave.
+     *
+     * Equivale a {@code replaceAll("\\s+", " ").trim()} sobre el texto en
+     * minúsculas, pero en una sola pasada y sin copiar el texto cuando ya está
+     * normalizado, que es el caso habitual: se ejecuta en cada mensaje.
+     * 
+     * @param mensaje Mensaje original del usuario
+     * @return Mensaje en minúsculas y con espacios colapsados
+     */
+    public static String normalize(String mensaje) {
+        String lower = IntentMatcher.normalize(mensaje);
+        int start = 0;
+        int end = lower.length();
+        while (start < end && lower.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && lower.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        // El último carácter no es un espacio, así que tras un espacio siempre queda otro carácter
+        StringBuilder collapsed = null;
+        for (int i = start; i < end; i++) {
+            char c = lower.charAt(i);
+            if (isWhitespace(c) && (c != ' ' || isWhitespace(lower.charAt(i + 1)))) {
+                if (collapsed == null) {
+                    collapsed = new StringBuilder(end - start).append(lower, start, i);
+                }
+                collapsed.append(' ');
+                while (isWhitespace(lower.charAt(i + 1))) {
+                    i++;
+                }
+            } else if (collapsed != null) {
+                collapsed.append(c);
+            }
+        }
+        return collapsed != null ? collapsed.toString() : lower.substring(start, end);
+    }
+
+    /**
+     * Caracteres de la clase {@code \s} de las expresiones regulares.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Busca una respuesta vigente.
+     * 
+     * @param mensajeNormalizado Mensaje normalizado con {@link #normalize}
+     * @param contexto           Contexto de la conversación
+     * @return Respuesta cacheada, o null si no existe o ha caducado
+     */
+    public String get(String mensajeNormalizado, String contexto) {
+        String key = key(mensajeNormalizado, contexto);
+        Entry entry = cache.get(key);
+
+        if (entry == null || entry.expiresAt() < System.currentTimeMillis()) {
+            if (entry != null) {
+                cache.remove(key);
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        return entry.response();
+    }
+
+    /**
+     * Guarda una respuesta para un mensaje y contexto.
+     * 
+     * @param mensajeNormalizado Mensaje normalizado con {@link #normalize}
+     * @param contexto           Contexto de la conversación
+     * @param response           Respuesta generada
+     */
+    public void put(String mensajeNormalizado, String contexto, String response) {
+        cache.put(key(mensajeNormalizado, contexto), new Entry(response, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private double hitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    private static String key(String mensajeNormalizado, String contexto) {
+        return contexto + '\u0000' + mensajeNormalizado;
+    }
+
+    private record Entry(String response, long expiresAt) {
+    }
+}
@@ -1,7 +1,8 @@
 package com.mindhub.api.service.chatbot;
 
-import java.util.List;
+import java.util.concurrent.Future;
 
+import com.mindhub.api.dto.chatbot.ChatBotConversationPage;
 import com.mindhub.api.dto.chatbot.ChatBotMessageResponse;
 
 /**
@@ -23,11 +24,27 @@ public interface ChatBotService {
     ChatBotMessageResponse sendMessage(String message);
 
     /**
-     * Obtiene el historial completo de la conversación actual del usuario.
+     * Envía un mensaje al chatbot y emite la respuesta token a token.
      * 
-     * @return Lista de mensajes de la conversación actual
+     * La generación es asíncrona: el método retorna en cuanto la tarea se
+     * ha lanzado y el resultado llega a través del receptor. Cancelar la
+     * tarea devuelta detiene la generación sin guardar la respuesta.
+     * 
+     * @param message  Mensaje del usuario
+     * @param listener Receptor de los tokens y del mensaje final
+     * @return Tarea de generación
+     */
+    Future<?> streamMessage(String message, ChatStreamListener listener);
+
+    /**
+     * Obtiene una página del historial de la conversación actual del usuario.
+     * 
+     * @param before Id del mensaje más antiguo ya recibido, o null para
+     *               empezar por los más recientes
+     * @param size   Número máximo de mensajes de la página
+     * @return Página de mensajes con el cursor para la siguiente consulta
      */
-    List<ChatBotMessageResponse> getCurrentUserConversationHistory();
+    ChatBotConversationPage getCurrentUserConversationHistory(Long before, int size);
 
     /**
      * Elimina toda la conversación actual del usuario.
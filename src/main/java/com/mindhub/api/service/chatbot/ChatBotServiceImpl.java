@@ -1,10 +1,24 @@
 package com.mindhub.api.service.chatbot;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.mindhub.api.dto.chatbot.ChatBotConversationPage;
 import com.mindhub.api.dto.chatbot.ChatBotMessageResponse;
 import com.mindhub.api.mapper.chatBotMessage.ChatBotMessageMapper;
 import com.mindhub.api.model.chatbot.ChatBot;
@@ -15,7 +29,9 @@ import com.mindhub.api.repository.chatBotMessage.ChatBotMessageRepository;
 import com.mindhub.api.repository.chatbot.ChatBotRepository;
 import com.mindhub.api.service.user.UserService;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -23,98 +39,328 @@ import lombok.extern.slf4j.Slf4j;
  *
  * Gestiona las interacciones con el chatbot, incluyendo el envío de mensajes,
  * procesamiento de respuestas y gestión del historial de conversaciones.
+ *
+ * Las respuestas las genera el {@link ChatResponseProvider} configurado. Las
+ * respuestas por streaming se generan en hilos virtuales, con un límite de
+ * generaciones simultáneas por usuario.
  */
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class ChatBotServiceImpl implements ChatBotService {
 
+        private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
         private final ChatBotRepository chatBotRepository;
         private final ChatBotMessageRepository chatBotMessageRepository;
         private final ChatBotMessageMapper chatBotMessageMapper;
         private final UserService userService;
-        private final ChatBotResponseService chatBotResponseService;
+        private final ChatResponseProvider responseProvider;
+        private final ChatBotMessageBuffer messageBuffer;
+        private final int contextWindow;
+        private final int maxStreamsPerUser;
+        private final SimpleAsyncTaskExecutor streamExecutor;
+        private final Timer firstTokenTimer;
+        private final Timer streamTimer;
+
+        /** Generaciones por streaming en curso por usuario. */
+        private final Map<Long, Integer> activeStreams = new ConcurrentHashMap<>();
+
+        private volatile ChatBot activeChatBot;
+
+        public ChatBotServiceImpl(ChatBotRepository chatBotRepository,
+                        ChatBotMessageRepository chatBotMessageRepository,
+                        ChatBotMessageMapper chatBotMessageMapper,
+                        UserService userService,
+                        List<ChatResponseProvider> responseProviders,
+                        ChatBotMessageBuffer messageBuffer,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.chatbot.provider:rules}") String providerName,
+                        @Value("${app.chatbot.context-window:5}") int contextWindow,
+                        @Value("${app.chatbot.stream.max-concurrent-per-user:2}") int maxStreamsPerUser) {
+                this.chatBotRepository = chatBotRepository;
+                this.chatBotMessageRepository = chatBotMessageRepository;
+                this.chatBotMessageMapper = chatBotMessageMapper;
+                this.userService = userService;
+                this.messageBuffer = messageBuffer;
+                this.contextWindow = contextWindow;
+                this.maxStreamsPerUser = maxStreamsPerUser;
+
+                Map<String, ChatResponseProvider> providers = responseProviders.stream()
+                                .collect(Collectors.toMap(ChatResponseProvider::getName, Function.identity()));
+                this.responseProvider = providers.get(providerName);
+                if (responseProvider == null) {
+                        throw new IllegalStateException("Proveedor de respuestas del chatbot desconocido: "
+                                        + providerName + ". Disponibles: " + providers.keySet());
+                }
+                log.info("Proveedor de respuestas del chatbot: {}", providerName);
+
+                this.streamExecutor = new SimpleAsyncTaskExecutor("chatbot-stream-");
+                this.streamExecutor.setVirtualThreads(true);
+
+                this.firstTokenTimer = Timer.builder("chatbot.stream.first.token")
+                                .description("Tiempo hasta el primer token de una respuesta por streaming")
+                                .tag("provider", providerName)
+                                .register(meterRegistry);
+                this.streamTimer = Timer.builder("chatbot.stream.duration")
+                                .description("Duración total de una respuesta por streaming")
+                                .tag("provider", providerName)
+                                .register(meterRegistry);
+        }
 
         /**
          * Envía un mensaje al chatbot y obtiene la respuesta.
          * 
          * Procesa el mensaje del usuario, genera una respuesta contextual
-         * basada en el historial de conversación y guarda ambos mensajes.
+         * basada en los últimos mensajes de la conversación y encola ambos
+         * mensajes en el {@link ChatBotMessageBuffer}, que los persiste en
+         * lote. Solo se lee una ventana acotada del historial, por lo que
+         * el coste no crece con la longitud de la conversación.
          * 
          * @param message Mensaje del usuario a procesar
-         * @return Respuesta del chatbot
+         * @return Respuesta del chatbot (sin id hasta que se persiste)
          */
         @Override
+        @Transactional(readOnly = true)
         public ChatBotMessageResponse sendMessage(String message) {
+                validateMessage(message);
+
                 User currentUser = userService.getCurrentUser();
+                ChatBot chatBot = getActiveChatBot();
+
+                List<ChatBotMessage> historial = recordUserMessage(currentUser, chatBot, message);
+
+                String response = responseProvider.generate(message, historial);
+
+                return recordBotMessage(currentUser, chatBot, response);
+        }
 
-                String userSessionId = "user_" + currentUser.getId();
+        /**
+         * Envía un mensaje al chatbot y emite la respuesta token a token.
+         * 
+         * El usuario se resuelve en el hilo de la petición; la generación se
+         * ejecuta en un hilo virtual para no ocupar hilos del servidor mientras
+         * el proveedor responde. La respuesta completa se encola en el
+         * historial igual que en {@link #sendMessage(String)}.
+         * 
+         * Si la tarea se cancela (el cliente se desconecta o vence el plazo) el
+         * hilo se interrumpe, la generación se detiene en el siguiente token y
+         * la respuesta parcial se descarta.
+         * 
+         * @param message  Mensaje del usuario a procesar
+         * @param listener Receptor de los tokens y del mensaje final
+         * @return Tarea de generación
+         * @throws IllegalStateException si el usuario supera el límite de
+         *                               respuestas simultáneas
+         */
+        @Override
+        @Transactional(readOnly = true)
+        public Future<?> streamMessage(String message, ChatStreamListener listener) {
+                validateMessage(message);
 
+                User currentUser = userService.getCurrentUser();
                 ChatBot chatBot = getActiveChatBot();
 
-                log.debug("Usuario {} envía mensaje al chatbot: {}", currentUser.getId(), message);
+                acquireStream(currentUser.getId());
+
+                long start = System.nanoTime();
+                try {
+                        return streamExecutor.submit(() -> {
+                                try {
+                                        List<ChatBotMessage> historial = recordUserMessage(currentUser, chatBot,
+                                                        message);
+
+                                        StringBuilder response = new StringBuilder();
+                                        responseProvider.stream(message, historial, token -> {
+                                                checkNotCancelled();
+                                                if (response.isEmpty()) {
+                                                        firstTokenTimer.record(System.nanoTime() - start,
+                                                                        TimeUnit.NANOSECONDS);
+                                                }
+                                                response.append(token);
+                                                listener.onToken(token);
+                                        });
+                                        checkNotCancelled();
+
+                                        listener.onComplete(recordBotMessage(currentUser, chatBot,
+                                                        response.toString().trim()));
+                                } catch (CancellationException e) {
+                                        log.debug("Respuesta del chatbot cancelada para usuario {}",
+                                                        currentUser.getId());
+                                } catch (RuntimeException e) {
+                                        if (Thread.currentThread().isInterrupted()) {
+                                                log.debug("Respuesta del chatbot cancelada para usuario {}: {}",
+                                                                currentUser.getId(), e.getMessage());
+                                                return;
+                                        }
+                                        log.error("Error generando respuesta del chatbot para usuario {}",
+                                                        currentUser.getId(), e);
+                                        listener.onError(e);
+                                } finally {
+                                        streamTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                                        releaseStream(currentUser.getId());
+                                }
+                        });
+                } catch (RuntimeException e) {
+                        releaseStream(currentUser.getId());
+                        throw e;
+                }
+        }
+
+        private void checkNotCancelled() {
+                if (Thread.currentThread().isInterrupted()) {
+                        throw new CancellationException("Generación de respuesta cancelada");
+                }
+        }
+
+        /**
+         * Encola el mensaje del usuario y devuelve el contexto para responderle.
+         * 
+         * Solo se lee una ventana acotada del historial, por lo que el coste no
+         * crece con la longitud de la conversación.
+         * 
+         * @return Últimos mensajes de la conversación en orden cronológico,
+         *         incluido el recién enviado
+         */
+        private List<ChatBotMessage> recordUserMessage(User user, ChatBot chatBot, String message) {
+                String userSessionId = "user_" + user.getId();
+
+                log.debug("Usuario {} envía mensaje al chatbot: {}", user.getId(), message);
 
                 ChatBotMessage userMessage = ChatBotMessage.builder()
                                 .content(message)
                                 .type(MessageType.USER)
+                                .creationDate(LocalDate.now())
                                 .sessionId(userSessionId)
-                                .user(currentUser)
+                                .user(user)
                                 .chatBot(chatBot)
                                 .build();
 
-                chatBotMessageRepository.save(userMessage);
+                messageBuffer.append(userMessage);
 
-                log.info("Mensaje de usuario {} guardado en sesión {}", currentUser.getId(), userSessionId);
+                List<ChatBotMessage> historial = findLatestMessages(user.getId(), userSessionId, contextWindow);
+                Collections.reverse(historial);
+                return historial;
+        }
+
+        /**
+         * Comprueba que el mensaje del usuario cabe en la columna de contenido.
+         * 
+         * @throws IllegalStateException si el mensaje está vacío o es demasiado
+         *                               largo
+         */
+        private void validateMessage(String message) {
+                if (message == null || message.isBlank()) {
+                        throw new IllegalStateException("El mensaje no puede estar vacío");
+                }
+                if (message.length() > ChatBotMessage.MAX_CONTENT_LENGTH) {
+                        throw new IllegalStateException("El mensaje no puede superar los "
+                                        + ChatBotMessage.MAX_CONTENT_LENGTH + " caracteres");
+                }
+        }
 
-                List<ChatBotMessage> historial = chatBotMessageRepository
-                                .findByUserAndSessionIdOrderByCreationDateAsc(currentUser, userSessionId);
+        /**
+         * Encola la respuesta del chatbot y la convierte en DTO.
+         * 
+         * Las respuestas más largas que la columna de contenido se recortan.
+         */
+        private ChatBotMessageResponse recordBotMessage(User user, ChatBot chatBot, String response) {
+                String userSessionId = "user_" + user.getId();
 
-                String response = chatBotResponseService.generarRespuestaSimulada(message, historial);
+                if (response.length() > ChatBotMessage.MAX_CONTENT_LENGTH) {
+                        log.warn("Respuesta del chatbot de {} caracteres recortada para el usuario {}",
+                                        response.length(), user.getId());
+                        response = response.substring(0, ChatBotMessage.MAX_CONTENT_LENGTH);
+                }
 
                 ChatBotMessage botMessage = ChatBotMessage.builder()
                                 .content(response)
                                 .type(MessageType.CHATBOT)
+                                .creationDate(LocalDate.now())
                                 .sessionId(userSessionId)
-                                .user(currentUser)
+                                .user(user)
                                 .chatBot(chatBot)
                                 .build();
 
-                ChatBotMessage savedBotMessage = chatBotMessageRepository.save(botMessage);
+                messageBuffer.append(botMessage);
+
+                log.info("Mensajes del usuario {} encolados en sesión {}", user.getId(), userSessionId);
 
-                log.info("Respuesta del chatbot guardada para usuario {} en sesión {}", currentUser.getId(),
-                                userSessionId);
+                return chatBotMessageMapper.toResponse(botMessage);
+        }
 
-                return chatBotMessageMapper.toResponse(savedBotMessage);
+        private void acquireStream(Long userId) {
+                boolean[] acquired = { false };
+                activeStreams.compute(userId, (id, count) -> {
+                        int current = count != null ? count : 0;
+                        if (current >= maxStreamsPerUser) {
+                                return count;
+                        }
+                        acquired[0] = true;
+                        return current + 1;
+                });
+                if (!acquired[0]) {
+                        throw new IllegalStateException("Ya tienes " + maxStreamsPerUser
+                                        + " respuestas del chatbot en curso. Espera a que terminen.");
+                }
+        }
+
+        private void releaseStream(Long userId) {
+                activeStreams.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+
+        @PreDestroy
+        public void shutdownStreams() {
+                streamExecutor.close();
         }
 
         /**
-         * Obtiene el historial completo de la conversación actual del usuario.
+         * Obtiene una página del historial de la conversación actual del usuario.
+         * 
+         * Pagina por cursor sobre el id del mensaje: la primera página contiene
+         * los mensajes más recientes y cada página siguiente los anteriores al
+         * cursor recibido. Dentro de la página los mensajes van en orden
+         * cronológico.
          * 
-         * @return Lista de mensajes de la conversación actual ordenados por fecha de
-         *         creación ascendente
+         * La primera página incluye siempre todos los mensajes aún no
+         * persistidos (sin id), completada con los más recientes de la base
+         * de datos.
+         * 
+         * @param before Id del mensaje más antiguo ya recibido, o null para
+         *               empezar por los más recientes
+         * @param size   Número máximo de mensajes (entre 1 y 100)
+         * @return Página de mensajes con el cursor para la siguiente consulta
          */
         @Override
         @Transactional(readOnly = true)
-        public List<ChatBotMessageResponse> getCurrentUserConversationHistory() {
+        public ChatBotConversationPage getCurrentUserConversationHistory(Long before, int size) {
                 User currentUser = userService.getCurrentUser();
                 String sessionId = "user_" + currentUser.getId();
+                int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
 
-                log.debug("Consultando historial de conversación del usuario {} en sesión {}", currentUser.getId(),
-                                sessionId);
+                log.debug("Consultando historial de conversación del usuario {} en sesión {} antes de {}",
+                                currentUser.getId(), sessionId, before);
 
-                List<ChatBotMessage> messages = chatBotMessageRepository
-                                .findByUserAndSessionIdOrderByCreationDateAsc(currentUser, sessionId);
+                if (before != null) {
+                        return toPage(List.of(), chatBotMessageRepository.findBySessionBefore(currentUser.getId(),
+                                        sessionId, before, PageRequest.ofSize(pageSize + 1)), pageSize);
+                }
 
-                return chatBotMessageMapper.toResponseList(messages);
+                return messageBuffer.read(sessionId, unflushed -> {
+                        int dbSize = Math.max(pageSize - unflushed.size(), 0);
+                        List<ChatBotMessage> persisted = chatBotMessageRepository.findLatestBySession(
+                                        currentUser.getId(), sessionId, PageRequest.ofSize(dbSize + 1));
+                        return toPage(unflushed, persisted, dbSize);
+                });
         }
 
         /**
          * Elimina toda la conversación actual del usuario.
          * 
-         * Elimina todos los mensajes de la sesión actual del usuario,
-         * tanto del usuario como del chatbot.
+         * Descarta los mensajes aún no persistidos y elimina todos los de la
+         * sesión actual del usuario, tanto del usuario como del chatbot, con
+         * un único DELETE.
          */
         @Override
         public void clearCurrentUserConversation() {
@@ -124,24 +370,70 @@ public class ChatBotServiceImpl implements ChatBotService {
                 log.debug("Eliminando historial de conversación del usuario {} en sesión {}", currentUser.getId(),
                                 sessionId);
 
-                List<ChatBotMessage> messages = chatBotMessageRepository
-                                .findByUserAndSessionIdOrderByCreationDateAsc(currentUser, sessionId);
+                messageBuffer.discard(sessionId);
+                int deleted = chatBotMessageRepository.deleteBySession(currentUser.getId(), sessionId);
 
-                chatBotMessageRepository.deleteAll(messages);
+                log.info("Conversación del usuario {} eliminada correctamente ({} mensajes)", currentUser.getId(),
+                                deleted);
+        }
 
-                log.info("Conversación del usuario {} eliminada correctamente", currentUser.getId());
+        /**
+         * Obtiene los últimos mensajes de una sesión, del más reciente al más
+         * antiguo, combinando los pendientes de volcar con los persistidos.
+         */
+        private List<ChatBotMessage> findLatestMessages(Long userId, String sessionId, int limit) {
+                return messageBuffer.read(sessionId, unflushed -> {
+                        List<ChatBotMessage> latest = new ArrayList<>(limit);
+                        for (int i = unflushed.size() - 1; i >= 0 && latest.size() < limit; i--) {
+                                latest.add(unflushed.get(i));
+                        }
+                        if (latest.size() < limit) {
+                                latest.addAll(chatBotMessageRepository.findLatestBySession(userId, sessionId,
+                                                PageRequest.ofSize(limit - latest.size())));
+                        }
+                        return latest;
+                });
+        }
+
+        /**
+         * Construye una página a partir de los mensajes pendientes y de los
+         * persistidos (del más reciente al más antiguo, con un elemento extra
+         * para detectar si hay más).
+         */
+        private ChatBotConversationPage toPage(List<ChatBotMessage> unflushed, List<ChatBotMessage> persisted,
+                        int persistedSize) {
+                List<ChatBotMessage> messages = new ArrayList<>(persisted);
+                boolean hasMore = messages.size() > persistedSize;
+                if (hasMore) {
+                        messages.remove(messages.size() - 1);
+                }
+                Long nextCursor = null;
+                if (hasMore) {
+                        nextCursor = messages.isEmpty() ? Long.MAX_VALUE : messages.get(messages.size() - 1).getId();
+                }
+                Collections.reverse(messages);
+                messages.addAll(unflushed);
+
+                return new ChatBotConversationPage(chatBotMessageMapper.toResponseList(messages), nextCursor, hasMore);
         }
 
         /**
          * Obtiene el chatbot del sistema.
          * 
+         * Se consulta una sola vez y se reutiliza en los siguientes mensajes.
+         * 
          * @return Chatbot activo
          * @throws RuntimeException si no existe ningún chatbot
          */
         private ChatBot getActiveChatBot() {
-                return chatBotRepository.findByActiveTrue()
-                                .orElseThrow(() -> new RuntimeException(
-                                                "No se encontró un chatbot en el sistema. Reinicie la aplicación."));
+                ChatBot chatBot = activeChatBot;
+                if (chatBot == null) {
+                        chatBot = chatBotRepository.findByActiveTrue()
+                                        .orElseThrow(() -> new RuntimeException(
+                                                        "No se encontró un chatbot en el sistema. Reinicie la aplicación."));
+                        activeChatBot = chatBot;
+                }
+                return chatBot;
         }
 
 }
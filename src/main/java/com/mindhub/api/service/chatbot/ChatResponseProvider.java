@@ -0,0 +1,58 @@
+package com.mindhub.api.service.chatbot;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.mindhub.api.model.chatbot.ChatBotMessage;
+
+/**
+ * Proveedor de respuestas del chatbot.
+ *
+ * Punto de extensión para sustituir el motor que genera las respuestas.
+ * El proveedor activo se elige con la propiedad {@code app.chatbot.provider}
+ * comparándola con {@link #getName()}.
+ *
+ * Los proveedores que generan la respuesta de una vez solo necesitan
+ * implementar {@link #generate}; la emisión por tokens se deriva troceando
+ * el texto por palabras.
+ */
+
+public interface ChatResponseProvider {
+
+    Pattern TOKEN = Pattern.compile("\\s*\\S+");
+
+    /**
+     * Nombre con el que se selecciona el proveedor en la configuración.
+     * 
+     * @return Nombre del proveedor
+     */
+    String getName();
+
+    /**
+     * Genera la respuesta completa a un mensaje.
+     * 
+     * @param mensaje   Mensaje del usuario
+     * @param historial Últimos mensajes de la conversación en orden cronológico
+     * @return Respuesta del chatbot
+     */
+    String generate(String mensaje, List<ChatBotMessage> historial);
+
+    /**
+     * Genera la respuesta entregándola token a token.
+     * 
+     * Cada token incluye el espacio que lo precede, de modo que la
+     * concatenación de todos ellos reproduce la respuesta completa.
+     * 
+     * @param mensaje   Mensaje del usuario
+     * @param historial Últimos mensajes de la conversación en orden cronológico
+     * @param onToken   Receptor de cada token generado
+     */
+    default void stream(String mensaje, List<ChatBotMessage> historial, Consumer<String> onToken) {
+        Matcher matcher = TOKEN.matcher(generate(mensaje, historial));
+        while (matcher.find()) {
+            onToken.accept(matcher.group());
+        }
+    }
+}
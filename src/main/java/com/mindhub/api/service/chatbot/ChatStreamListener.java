@@ -0,0 +1,34 @@
+package com.mindhub.api.service.chatbot;
+
+import com.mindhub.api.dto.chatbot.ChatBotMessageResponse;
+
+/**
+ * Receptor de una respuesta del chatbot emitida por streaming.
+ *
+ * Los métodos se invocan desde el hilo de generación, nunca desde el hilo
+ * de la petición HTTP.
+ */
+
+public interface ChatStreamListener {
+
+    /**
+     * Recibe el siguiente fragmento de la respuesta.
+     * 
+     * @param token Fragmento de texto generado
+     */
+    void onToken(String token);
+
+    /**
+     * Notifica que la respuesta ha terminado.
+     * 
+     * @param response Mensaje completo del chatbot
+     */
+    void onComplete(ChatBotMessageResponse response);
+
+    /**
+     * Notifica un error durante la generación.
+     * 
+     * @param error Causa del fallo
+     */
+    void onError(Throwable error);
+}
@@ -0,0 +1,213 @@
+package com.mindhub.api.service.chatbot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Autómata Aho-Corasick que localiza en una sola pasada todas las palabras
+ * clave de las intenciones del chatbot presentes en un mensaje.
+ *
+ * Las palabras clave y el texto de entrada se pasan a minúsculas. Las tildes
+ * se conservan, igual que en la antigua cadena de comprobaciones: quitarlas
+ * haría que "cómo funciona la privacidad" activara "como funciona" antes que
+ * "privacidad".
+ * Cuando varias intenciones coinciden gana la de menor prioridad, replicando
+ * el orden de evaluación de la antigua cadena de comprobaciones.
+ *
+ * Al construirse el trie se compila en un autómata determinista sobre
+ * arrays: cada carácter del mensaje cuesta un único acceso a la tabla de
+ * transiciones, sin seguir enlaces de fallo ni cajas de {@code Character}.
+ *
+ * Instancias inmutables tras la construcción; seguras para uso concurrente.
+ *
+ * @param <T> tipo asociado a cada palabra clave
+ */
+public final class IntentMatcher<T> {
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    /** Clase de cada carácter del alfabeto de las palabras clave; 0 si no aparece en ninguna. */
+    private final int[] charClass;
+
+    /** Número de clases, incluida la 0: ancho de cada fila de {@link #delta}. */
+    private final int width;
+
+    /** Transición de cada estado por cada clase de carácter. */
+    private final int[] delta;
+
+    private final int[] bestPriority;
+    private final Object[] bestValue;
+
+    private IntentMatcher(int[] charClass, int width, int[] delta, int[] bestPriority, Object[] bestValue) {
+        this.charClass = charClass;
+        this.width = width;
+        this.delta = delta;
+        this.bestPriority = bestPriority;
+        this.bestValue = bestValue;
+    }
+
+    /**
+     * Normaliza un texto para el matching: minúsculas.
+     */
+    public static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Recorre el texto una vez y devuelve el valor de la palabra clave con
+     * menor prioridad encontrada, o {@code null} si no hay coincidencias.
+     */
+    @SuppressWarnings("unchecked")
+    public T match(String text) {
+        String normalized = normalize(text);
+        int state = 0;
+        int priority = NO_MATCH;
+        int best = -1;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            int cls = c < charClass.length ? charClass[c] : 0;
+            state = delta[state * width + cls];
+
+            if (bestPriority[state] < priority) {
+                priority = bestPriority[state];
+                best = state;
+            }
+        }
+        return best >= 0 ? (T) bestValue[best] : null;
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+        private final List<Integer> failure = new ArrayList<>();
+        private final List<Integer> bestPriority = new ArrayList<>();
+        private final List<T> bestValue = new ArrayList<>();
+
+        private Builder() {
+            newNode();
+        }
+
+        public Builder<T> add(String keyword, T value, int priority) {
+            insert(keyword, value, priority);
+            return this;
+        }
+
+        public IntentMatcher<T> build() {
+            List<Integer> order = buildFailureLinks();
+            return compile(order);
+        }
+
+        private int newNode() {
+            transitions.add(new HashMap<>());
+            failure.add(0);
+            bestPriority.add(NO_MATCH);
+            bestValue.add(null);
+            return transitions.size() - 1;
+        }
+
+        private void insert(String keyword, T value, int priority) {
+            int state = 0;
+            for (char c : normalize(keyword).toCharArray()) {
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = newNode();
+                    transitions.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (state == 0) {
+                throw new IllegalStateException("Palabra clave vacía en la tabla de intenciones");
+            }
+            if (priority < bestPriority.get(state)) {
+                bestPriority.set(state, priority);
+                bestValue.set(state, value);
+            }
+        }
+
+        /**
+         * Calcula los enlaces de fallo en anchura y propaga a cada nodo la
+         * mejor salida alcanzable por su cadena de sufijos.
+         *
+         * @return Estados en orden de anchura, empezando por la raíz
+         */
+        private List<Integer> buildFailureLinks() {
+            List<Integer> order = new ArrayList<>();
+            order.add(0);
+            Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                order.add(state);
+                for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                    char c = edge.getKey();
+                    int child = edge.getValue();
+
+                    int fallback = failure.get(state);
+                    while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                        fallback = failure.get(fallback);
+                    }
+                    Integer target = transitions.get(fallback).get(c);
+                    int childFailure = target != null && target != child ? target : 0;
+                    failure.set(child, childFailure);
+
+                    if (bestPriority.get(childFailure) < bestPriority.get(child)) {
+                        bestPriority.set(child, bestPriority.get(childFailure));
+                        bestValue.set(child, bestValue.get(childFailure));
+                    }
+                    queue.add(child);
+                }
+            }
+            return order;
+        }
+
+        /**
+         * Convierte el trie con enlaces de fallo en la tabla de transiciones
+         * completa. Los estados se recorren en anchura, de modo que la fila
+         * del enlace de fallo de cada estado ya está calculada.
+         */
+        private IntentMatcher<T> compile(List<Integer> order) {
+            TreeSet<Character> alphabet = new TreeSet<>();
+            transitions.forEach(edges -> alphabet.addAll(edges.keySet()));
+
+            int[] charClass = new int[alphabet.isEmpty() ? 0 : alphabet.last() + 1];
+            int width = 1;
+            for (char c : alphabet) {
+                charClass[c] = width++;
+            }
+
+            int states = transitions.size();
+            int[] delta = new int[states * width];
+            for (int state : order) {
+                Map<Character, Integer> edges = transitions.get(state);
+                for (char c : alphabet) {
+                    Integer next = edges.get(c);
+                    int cls = charClass[c];
+                    if (next != null) {
+                        delta[state * width + cls] = next;
+                    } else if (state != 0) {
+                        delta[state * width + cls] = delta[failure.get(state) * width + cls];
+                    }
+                }
+            }
+
+            int[] priorities = new int[states];
+            Object[] values = new Object[states];
+            for (int state = 0; state < states; state++) {
+                priorities[state] = bestPriority.get(state);
+                values[state] = bestValue.get(state);
+            }
+            return new IntentMatcher<>(charClass, width, delta, priorities, values);
+        }
+    }
+}
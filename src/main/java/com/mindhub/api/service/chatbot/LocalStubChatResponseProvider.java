@@ -0,0 +1,55 @@
+package com.mindhub.api.service.chatbot;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.mindhub.api.model.chatbot.ChatBotMessage;
+
+/**
+ * Proveedor de respuestas simulado que imita a un modelo local lento.
+ *
+ * Devuelve un eco determinista del mensaje y, al emitir por tokens, espera
+ * un retardo configurable entre cada uno. Pensado para pruebas y para medir
+ * el tiempo hasta el primer byte sin depender del motor de reglas. Solo se
+ * registra cuando {@code app.chatbot.provider=stub}.
+ */
+
+@Component
+@ConditionalOnProperty(name = "app.chatbot.provider", havingValue = "stub")
+public class LocalStubChatResponseProvider implements ChatResponseProvider {
+
+    private final long tokenDelayMs;
+
+    public LocalStubChatResponseProvider(@Value("${app.chatbot.stub.token-delay-ms:50}") long tokenDelayMs) {
+        this.tokenDelayMs = tokenDelayMs;
+    }
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public String generate(String mensaje, List<ChatBotMessage> historial) {
+        return "Respuesta simulada a: " + mensaje.trim() + " (" + historial.size() + " mensajes de contexto)";
+    }
+
+    @Override
+    public void stream(String mensaje, List<ChatBotMessage> historial, Consumer<String> onToken) {
+        Matcher matcher = TOKEN.matcher(generate(mensaje, historial));
+        while (matcher.find()) {
+            try {
+                Thread.sleep(tokenDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Generación de respuesta interrumpida", e);
+            }
+            onToken.accept(matcher.group());
+        }
+    }
+}
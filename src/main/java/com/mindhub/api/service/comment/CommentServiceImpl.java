@@ -1,5 +1,6 @@
 package com.mindhub.api.service.comment;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -7,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.mindhub.api.dto.comment.CommentRequest;
 import com.mindhub.api.dto.comment.CommentResponse;
+import com.mindhub.api.event.PostEngagementEvent;
 import com.mindhub.api.exception.CommentNotAllowedException;
 import com.mindhub.api.exception.CommentNotFoundException;
 import com.mindhub.api.exception.CommentViewNotAllowedException;
@@ -44,13 +46,15 @@ public class CommentServiceImpl extends GenericServiceImpl<Comment, Long> implem
     private final UserService userService;
     private final NotificationService notificationService;
     private final com.mindhub.api.service.follow.FollowService followService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentServiceImpl(CommentRepository commentRepository,
             PostRepository postRepository,
             CommentMapper commentMapper,
             UserService userService,
             NotificationService notificationService,
-            com.mindhub.api.service.follow.FollowService followService) {
+            com.mindhub.api.service.follow.FollowService followService,
+            ApplicationEventPublisher eventPublisher) {
         super(commentRepository);
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
@@ -58,6 +62,7 @@ public class CommentServiceImpl extends GenericServiceImpl<Comment, Long> implem
         this.userService = userService;
         this.notificationService = notificationService;
         this.followService = followService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -87,11 +92,13 @@ public class CommentServiceImpl extends GenericServiceImpl<Comment, Long> implem
         Comment savedComment = save(comment);
         userService.updateLastActivity(currentUser.getId());
 
-        notificationService.createNotificationWithReference(
+        eventPublisher.publishEvent(PostEngagementEvent.added(post.getId(), PostEngagementEvent.Kind.COMMENT,
+                savedComment.getId()));
+
+        notificationService.createAggregatedNotification(
                 post.getAuthor(),
+                currentUser,
                 "Nuevo comentario",
-                currentUser.getFirstName() + " " + currentUser.getLastName() +
-                        " ha comentado en tu publicación",
                 NotificationType.COMMENT,
                 post.getId(),
                 "posts");
@@ -197,6 +204,9 @@ public class CommentServiceImpl extends GenericServiceImpl<Comment, Long> implem
         log.info("Comentario {} eliminado por usuario {}", id, currentUser.getId());
 
         commentRepository.delete(comment);
+
+        eventPublisher.publishEvent(PostEngagementEvent.removed(comment.getPost().getId(),
+                PostEngagementEvent.Kind.COMMENT, comment.getId(), comment.getCreationDate()));
     }
 
     /**
@@ -0,0 +1,299 @@
+package com.mindhub.api.service.follow;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mindhub.api.event.FollowChangedEvent;
+import com.mindhub.api.event.UserChangedEvent;
+import com.mindhub.api.repository.follow.FollowRepository;
+import com.mindhub.api.repository.follow.UserFollowStatsRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contadores de seguidores y seguidos de cada usuario.
+ *
+ * Seguir o dejar de seguir suma en memoria a un {@link LongAdder} por usuario
+ * y sentido, repartido en celdas para que miles de seguimientos simultáneos
+ * a una misma cuenta no compitan. Un proceso periódico vuelca las
+ * variaciones acumuladas a {@code user_follow_stats} con una escritura por
+ * usuario y volcado, por lo que la fila de una cuenta muy seguida no se
+ * convierte en un punto caliente.
+ *
+ * Los valores persistidos se guardan en una caché acotada; el contador que se
+ * devuelve es ese valor más las variaciones aún no volcadas. Una
+ * reconciliación periódica recorre los usuarios por tramos, vuelve a contar
+ * en {@code follows} y corrige las desviaciones (borrados en cascada al
+ * eliminar usuarios o variaciones perdidas en un reinicio).
+ */
+
+@Slf4j
+@Component
+public class FollowCounters {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final UserFollowStatsRepository userFollowStatsRepository;
+    private final FollowRepository followRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxCachedUsers;
+
+    private final Map<Long, Counts> stored = new ConcurrentHashMap<>();
+    private final Map<Long, PendingCounts> pending = new ConcurrentHashMap<>();
+
+    public FollowCounters(UserFollowStatsRepository userFollowStatsRepository,
+            FollowRepository followRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.follows.counters.cache-max-entries:50000}") int maxCachedUsers) {
+        this.userFollowStatsRepository = userFollowStatsRepository;
+        this.followRepository = followRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxCachedUsers = maxCachedUsers;
+    }
+
+    /**
+     * Devuelve los contadores de seguimiento de un usuario.
+     *
+     * @param userId ID del usuario
+     * @return número de seguidores y seguidos
+     */
+    public Counts get(Long userId) {
+        Counts base = stored.get(userId);
+        if (base == null) {
+            base = load(userId);
+        }
+
+        PendingCounts delta = pending.get(userId);
+        if (delta == null) {
+            return base;
+        }
+        return new Counts(base.followers() + delta.followers.sum(), base.following() + delta.following.sum());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        int delta = event.following() ? 1 : -1;
+        addPending(event.followedId(), delta, 0);
+        addPending(event.followerId(), 0, delta);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.deleted()) {
+            // Los contadores de sus seguidores y seguidos se corrigen en la reconciliación
+            pending.remove(event.userId());
+            stored.remove(event.userId());
+            userFollowStatsRepository.deleteByUserId(event.userId());
+        }
+    }
+
+    /**
+     * Vuelca las variaciones pendientes en lote.
+     */
+    @Scheduled(fixedDelayString = "${app.follows.counters.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Counts> deltas = new HashMap<>();
+
+        for (Map.Entry<Long, PendingCounts> entry : pending.entrySet()) {
+            PendingCounts counts = entry.getValue();
+            long followers = counts.followers.sumThenReset();
+            long following = counts.following.sumThenReset();
+
+            if (followers == 0 && following == 0) {
+                // Sin actividad desde el último volcado: se libera la memoria del usuario
+                release(entry.getKey(), counts);
+                continue;
+            }
+            Counts delta = new Counts(followers, following);
+            deltas.put(entry.getKey(), delta);
+            stored.computeIfPresent(entry.getKey(), (id, base) -> base.plus(delta));
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach((userId, delta) -> userFollowStatsRepository
+                    .addCounts(userId, delta.followers(), delta.following())));
+
+            log.debug("Volcados contadores de seguimiento de {} usuarios", deltas.size());
+        } catch (RuntimeException e) {
+            // Se devuelven las variaciones para reintentarlas en el siguiente volcado
+            deltas.forEach((userId, delta) -> {
+                stored.computeIfPresent(userId, (id, base) -> base.plus(delta.negate()));
+                addPending(userId, delta.followers(), delta.following());
+            });
+            log.error("No se pudieron volcar los contadores de seguimiento", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Vuelve a contar las relaciones de todos los usuarios, por tramos, y
+     * corrige los contadores persistidos que no coinciden.
+     */
+    @Scheduled(fixedDelayString = "${app.follows.counters.reconcile-interval-ms:600000}", initialDelayString = "${app.follows.counters.reconcile-interval-ms:600000}")
+    public synchronized void reconcile() {
+        flush();
+
+        long afterId = 0;
+        int checked = 0;
+        int corrected = 0;
+        while (true) {
+            var rows = userFollowStatsRepository.findStoredAndActualCounts(afterId, RECONCILE_BATCH_SIZE);
+            Map<Long, Counts> fixes = new HashMap<>();
+
+            for (Object[] row : rows) {
+                Long userId = ((Number) row[0]).longValue();
+                Counts saved = new Counts(((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+                // Las variaciones aún en memoria ya están en follows: se descuentan del recuento
+                Counts expected = new Counts(((Number) row[3]).longValue(), ((Number) row[4]).longValue())
+                        .plus(pendingDelta(userId).negate());
+
+                if (!saved.equals(expected)) {
+                    fixes.put(userId, expected);
+                }
+                afterId = userId;
+            }
+
+            if (!fixes.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> fixes.forEach((userId, counts) -> userFollowStatsRepository
+                        .setCounts(userId, counts.followers(), counts.following())));
+                fixes.forEach((userId, counts) -> stored.computeIfPresent(userId, (id, base) -> counts));
+            }
+
+            checked += rows.size();
+            corrected += fixes.size();
+            if (rows.size() < RECONCILE_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("Contadores de seguimiento corregidos en la reconciliación: {} de {} usuarios", corrected, checked);
+        } else {
+            log.debug("Contadores de seguimiento reconciliados: {} usuarios sin desviaciones", checked);
+        }
+    }
+
+    /**
+     * Carga los contadores persistidos de un usuario. Si aún no tiene fila
+     * se cuentan sus relaciones, descontando las variaciones pendientes.
+     */
+    private Counts load(Long userId) {
+        Counts base = userFollowStatsRepository.findById(userId)
+                .map(stats -> new Counts(stats.getFollowersCount(), stats.getFollowingCount()))
+                .orElseGet(() -> new Counts(followRepository.countFollowersByUserId(userId),
+                        followRepository.countFollowingByUserId(userId)).plus(pendingDelta(userId).negate()));
+
+        if (stored.size() >= maxCachedUsers) {
+            evict();
+        }
+        stored.putIfAbsent(userId, base);
+        return base;
+    }
+
+    private void evict() {
+        Iterator<Long> keys = stored.keySet().iterator();
+        while (stored.size() >= maxCachedUsers && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+
+        log.debug("Caché de contadores de seguimiento depurada: {} entradas", stored.size());
+    }
+
+    /**
+     * Suma variaciones a las pendientes de un usuario.
+     *
+     * Si a la vez el volcado está liberando la entrada, se deshace la suma y
+     * se repite en la entrada vigente (ver {@link #release}).
+     */
+    private void addPending(Long userId, long followers, long following) {
+        while (true) {
+            PendingCounts counts = pending.computeIfAbsent(userId, id -> new PendingCounts());
+            counts.followers.add(followers);
+            counts.following.add(following);
+            if (!counts.retired) {
+                return;
+            }
+            counts.followers.add(-followers);
+            counts.following.add(-following);
+        }
+    }
+
+    /**
+     * Libera la entrada de un usuario sin variaciones.
+     *
+     * La entrada se marca como retirada antes de comprobar que sigue a cero:
+     * una variación sumada a la vez o bien ya es visible en la comprobación y
+     * la entrada se conserva, o bien ve la marca y se repite en una entrada
+     * nueva, de modo que ninguna se pierde.
+     */
+    private void release(Long userId, PendingCounts counts) {
+        counts.retired = true;
+        if (counts.followers.sum() == 0 && counts.following.sum() == 0) {
+            pending.remove(userId, counts);
+        } else {
+            counts.retired = false;
+        }
+    }
+
+    private Counts pendingDelta(Long userId) {
+        PendingCounts counts = pending.get(userId);
+        return counts != null ? new Counts(counts.followers.sum(), counts.following.sum()) : Counts.ZERO;
+    }
+
+    /**
+     * Número de seguidores y seguidos de un usuario.
+     *
+     * @param followers número de seguidores
+     * @param following número de seguidos
+     */
+    public record Counts(long followers, long following) {
+
+        private static final Counts ZERO = new Counts(0, 0);
+
+        private Counts plus(Counts other) {
+            return new Counts(followers + other.followers, following + other.following);
+        }
+
+        private Counts negate() {
+            return new Counts(-followers, -following);
+        }
+    }
+
+    /**
+     * Variaciones de un usuario acumuladas desde el último volcado.
+     */
+    private static final class PendingCounts {
+        private final LongAdder followers = new LongAdder();
+        private final LongAdder following = new LongAdder();
+        private volatile boolean retired;
+    }
+}
@@ -1,9 +1,12 @@
 package com.mindhub.api.service.follow;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.Collection;
+import java.util.List;
 
+import com.mindhub.api.dto.follow.FollowPage;
+import com.mindhub.api.dto.follow.FollowStateResponse;
 import com.mindhub.api.dto.follow.FollowStats;
+import com.mindhub.api.dto.follow.FollowSuggestionResponse;
 import com.mindhub.api.model.follow.Follow;
 import com.mindhub.api.model.user.User;
 
@@ -16,6 +19,9 @@ import com.mindhub.api.model.user.User;
 
 public interface FollowService {
 
+    /** Máximo de usuarios por consulta de estado de seguimiento. */
+    int MAX_FOLLOW_STATE_IDS = 500;
+
     /**
      * Sigue a un usuario.
      * 
@@ -59,22 +65,24 @@ public interface FollowService {
     long countFollowing(User user);
 
     /**
-     * Obtiene las relaciones de seguimiento donde el usuario es seguido.
+     * Obtiene los seguidores de un usuario, paginados por cursor.
      * 
-     * @param user     Usuario que es seguido
-     * @param pageable Configuración de paginación
-     * @return Página de relaciones de seguimiento
+     * @param userId ID del usuario seguido
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de relaciones
+     * @return Página de relaciones con el cursor de la siguiente
      */
-    Page<Follow> getFollowsByFollowed(User user, Pageable pageable);
+    FollowPage getFollowers(Long userId, String cursor, int size);
 
     /**
-     * Obtiene las relaciones de seguimiento donde el usuario es seguidor.
+     * Obtiene los usuarios que sigue un usuario, paginados por cursor.
      * 
-     * @param user     Usuario que es seguidor
-     * @param pageable Configuración de paginación
-     * @return Página de relaciones de seguimiento
+     * @param userId ID del usuario seguidor
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de relaciones
+     * @return Página de relaciones con el cursor de la siguiente
      */
-    Page<Follow> getFollowsByFollower(User user, Pageable pageable);
+    FollowPage getFollowing(Long userId, String cursor, int size);
 
     /**
      * Obtiene estadísticas de seguimiento entre dos usuarios.
@@ -84,4 +92,26 @@ public interface FollowService {
      * @return Estadísticas de seguimiento
      */
     FollowStats getFollowStats(User currentUser, User user);
+
+    /**
+     * Obtiene sugerencias de cuentas a seguir para un usuario, ordenadas por
+     * seguidos en común e intereses compartidos.
+     * 
+     * @param currentUser Usuario que pide las sugerencias
+     * @param size        Número máximo de sugerencias
+     * @return Lista de sugerencias
+     */
+    List<FollowSuggestionResponse> getSuggestions(User currentUser, int size);
+
+    /**
+     * Obtiene el estado de seguimiento entre un usuario y varios otros con
+     * una sola consulta.
+     * 
+     * @param currentUser Usuario actual
+     * @param userIds     IDs de los otros usuarios (como mucho
+     *                    {@link #MAX_FOLLOW_STATE_IDS})
+     * @return Estado de seguimiento de cada usuario, en el orden recibido y
+     *         sin repetidos
+     */
+    List<FollowStateResponse> getFollowStates(User currentUser, Collection<Long> userIds);
 }
@@ -1,12 +1,34 @@
 package com.mindhub.api.service.follow;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.mindhub.api.dto.follow.FollowPage;
+import com.mindhub.api.dto.follow.FollowResponse;
+import com.mindhub.api.dto.follow.FollowStateResponse;
 import com.mindhub.api.dto.follow.FollowStats;
+import com.mindhub.api.dto.follow.FollowSuggestionResponse;
+import com.mindhub.api.event.FollowChangedEvent;
 import com.mindhub.api.exception.FollowException;
+import com.mindhub.api.mapper.follow.FollowMapper;
 import com.mindhub.api.model.enums.NotificationType;
 import com.mindhub.api.model.follow.Follow;
 import com.mindhub.api.model.user.User;
@@ -21,7 +43,8 @@ import lombok.extern.slf4j.Slf4j;
  * Implementación del servicio de relaciones de seguimiento.
  *
  * Gestiona las operaciones de seguimiento entre usuarios,
- * incluyendo validaciones y estadísticas de seguidores.
+ * incluyendo validaciones, estadísticas de seguidores y sugerencias
+ * de cuentas a seguir.
  */
 
 @Slf4j
@@ -30,9 +53,25 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class FollowServiceImpl implements FollowService {
 
+    private static final int MAX_FOLLOW_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int SUGGESTION_MAX_FOLLOWED = 200;
+    private static final int SUGGESTION_FANOUT = 100;
+    private static final int SUGGESTION_MAX_CANDIDATES = 200;
+    private static final int SUGGESTION_FOLLOW_BACKS = 50;
+
+    /** Fecha posterior a cualquier seguimiento, para la primera página. */
+    private static final LocalDate FIRST_PAGE_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final Pattern INTEREST_SEPARATOR = Pattern.compile("[,;/|\\n]+");
+
     private final FollowRepository followRepository;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final FollowMapper followMapper;
+    private final FollowSuggestionCache suggestionCache;
+    private final FollowCounters followCounters;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Sigue a un usuario.
@@ -66,6 +105,8 @@ public class FollowServiceImpl implements FollowService {
 
         Follow savedFollow = followRepository.save(follow);
 
+        eventPublisher.publishEvent(new FollowChangedEvent(follower.getId(), followed.getId(), true));
+
         log.info("Usuario {} comenzó a seguir al usuario {}", follower.getId(), userId);
 
         // Enviar notificación al usuario seguido
@@ -97,6 +138,8 @@ public class FollowServiceImpl implements FollowService {
 
         followRepository.delete(follow);
 
+        eventPublisher.publishEvent(new FollowChangedEvent(follower.getId(), followed.getId(), false));
+
         log.info("Usuario {} dejó de seguir al usuario {}", follower.getId(), userId);
     }
 
@@ -126,7 +169,7 @@ public class FollowServiceImpl implements FollowService {
     public long countFollowers(User user) {
         log.debug("Contando seguidores del usuario {}", user.getId());
 
-        return followRepository.countFollowers(user);
+        return followCounters.get(user.getId()).followers();
     }
 
     /**
@@ -140,37 +183,80 @@ public class FollowServiceImpl implements FollowService {
     public long countFollowing(User user) {
         log.debug("Contando seguidos del usuario {}", user.getId());
 
-        return followRepository.countFollowed(user);
+        return followCounters.get(user.getId()).following();
     }
 
     /**
-     * Obtiene las relaciones de seguimiento donde el usuario es seguido.
+     * Obtiene los seguidores de un usuario, paginados por cursor.
      * 
-     * @param user     Usuario que es seguido
-     * @param pageable Configuración de paginación
-     * @return Página de relaciones de seguimiento
+     * @param userId ID del usuario seguido
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de relaciones
+     * @return Página de relaciones con el cursor de la siguiente
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<Follow> getFollowsByFollowed(User user, Pageable pageable) {
-        log.debug("Consultando seguidores del usuario {} página {}", user.getId(), pageable.getPageNumber());
+    public FollowPage getFollowers(Long userId, String cursor, int size) {
+        log.debug("Consultando seguidores del usuario {} (cursor {})", userId, cursor);
 
-        return followRepository.findFollowsByFollowed(user, pageable);
+        return loadFollowPage(cursor, size,
+                (afterDate, afterId, limit) -> followRepository.findFollowerRows(userId, afterDate, afterId, limit));
     }
 
     /**
-     * Obtiene las relaciones de seguimiento donde el usuario es seguidor.
+     * Obtiene los usuarios que sigue un usuario, paginados por cursor.
      * 
-     * @param user     Usuario que es seguidor
-     * @param pageable Configuración de paginación
-     * @return Página de relaciones de seguimiento
+     * @param userId ID del usuario seguidor
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de relaciones
+     * @return Página de relaciones con el cursor de la siguiente
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<Follow> getFollowsByFollower(User user, Pageable pageable) {
-        log.debug("Consultando seguidos del usuario {} página {}", user.getId(), pageable.getPageNumber());
+    public FollowPage getFollowing(Long userId, String cursor, int size) {
+        log.debug("Consultando seguidos del usuario {} (cursor {})", userId, cursor);
+
+        return loadFollowPage(cursor, size,
+                (afterDate, afterId, limit) -> followRepository.findFollowingRows(userId, afterDate, afterId, limit));
+    }
+
+    /**
+     * Carga una página de relaciones a partir de un cursor {@code fecha:id}.
+     * 
+     * @param cursor Cursor de la página anterior (null para la primera)
+     * @param size   Número máximo de relaciones
+     * @param query  Consulta de filas a ejecutar
+     * @return Página de relaciones con el cursor de la siguiente
+     */
+    private FollowPage loadFollowPage(String cursor, int size, FollowRowsQuery query) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FOLLOW_PAGE_SIZE));
+
+        LocalDate afterDate = FIRST_PAGE_DATE;
+        long afterId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(':');
+            try {
+                afterDate = LocalDate.parse(cursor.substring(0, separator));
+                afterId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Cursor de seguimiento inválido: " + cursor);
+            }
+        }
+
+        List<Object[]> rows = query.find(afterDate, afterId, Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<FollowResponse> follows = (hasMore ? rows.subList(0, pageSize) : rows).stream()
+                .map(followMapper::toResponse)
+                .toList();
+
+        String nextCursor = null;
+        if (hasMore) {
+            FollowResponse last = follows.get(follows.size() - 1);
+            nextCursor = last.getFollowDate() + ":" + last.getId();
+        }
 
-        return followRepository.findFollowsByFollower(user, pageable);
+        return new FollowPage(follows, nextCursor, hasMore);
     }
 
     /**
@@ -185,16 +271,19 @@ public class FollowServiceImpl implements FollowService {
     public FollowStats getFollowStats(User currentUser, User user) {
         log.debug("Obteniendo estadísticas de seguimiento entre usuario {} y usuario {}",
                 currentUser != null ? currentUser.getId() : "anon", user.getId());
-        long followers = countFollowers(user);
-        long following = countFollowing(user);
+        FollowCounters.Counts counts = followCounters.get(user.getId());
+        long followers = counts.followers();
+        long following = counts.following();
 
         boolean followsYou = false;
         boolean follows = false;
 
         if (currentUser != null && !currentUser.getId().equals(user.getId())) {
-            followsYou = follows(user, currentUser);
-
-            follows = follows(currentUser, user);
+            // Ambos sentidos en una sola consulta
+            for (Object[] pair : followRepository.findFollowPairs(currentUser.getId(), List.of(user.getId()))) {
+                follows |= currentUser.getId().equals(pair[0]);
+                followsYou |= currentUser.getId().equals(pair[1]);
+            }
         }
 
         log.info("Estadísticas de usuario {} -> followers={}, following={}, follows={}, followsYou={}",
@@ -207,4 +296,160 @@ public class FollowServiceImpl implements FollowService {
                 .followsYou(followsYou)
                 .build();
     }
+
+    /**
+     * Obtiene el estado de seguimiento entre un usuario y varios otros.
+     * 
+     * Ambos sentidos se resuelven con una única consulta sobre los índices
+     * de follows, en lugar de una comprobación por usuario.
+     * 
+     * @param currentUser Usuario actual
+     * @param userIds     IDs de los otros usuarios
+     * @return Estado de seguimiento de cada usuario en el orden recibido
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<FollowStateResponse> getFollowStates(User currentUser, Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        ids.remove(null);
+        if (ids.size() > MAX_FOLLOW_STATE_IDS) {
+            throw new IllegalStateException(
+                    "No se puede consultar el estado de más de " + MAX_FOLLOW_STATE_IDS + " usuarios a la vez");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> following = new HashSet<>();
+        Set<Long> followers = new HashSet<>();
+        for (Object[] pair : followRepository.findFollowPairs(currentUser.getId(), ids)) {
+            Long followerId = (Long) pair[0];
+            Long followedId = (Long) pair[1];
+            if (followerId.equals(currentUser.getId())) {
+                following.add(followedId);
+            }
+            if (followedId.equals(currentUser.getId())) {
+                followers.add(followerId);
+            }
+        }
+
+        log.debug("Estado de seguimiento del usuario {} con {} usuarios: sigue a {}, le siguen {}",
+                currentUser.getId(), ids.size(), following.size(), followers.size());
+
+        return ids.stream()
+                .map(id -> new FollowStateResponse(id, following.contains(id), followers.contains(id)))
+                .toList();
+    }
+
+    /**
+     * Obtiene sugerencias de cuentas a seguir.
+     * 
+     * Los candidatos salen de un recorrido acotado a dos saltos (cuentas que
+     * siguen las cuentas que sigue el usuario) y de sus seguidores a los que
+     * no sigue de vuelta. Se ordenan por seguidos en común, después por si ya
+     * le siguen y por intereses del perfil compartidos. El resultado se guarda
+     * en caché hasta que caduca o el usuario sigue o deja de seguir a alguien.
+     * 
+     * @param currentUser Usuario que pide las sugerencias
+     * @param size        Número máximo de sugerencias
+     * @return Sugerencias ordenadas de mayor a menor relevancia
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<FollowSuggestionResponse> getSuggestions(User currentUser, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+
+        List<FollowSuggestionResponse> cached = suggestionCache.get(currentUser.getId());
+        if (cached != null) {
+            log.debug("Sugerencias de seguimiento del usuario {} servidas desde caché", currentUser.getId());
+
+            return cached.subList(0, Math.min(limit, cached.size()));
+        }
+
+        Map<Long, Long> mutuals = new LinkedHashMap<>();
+        for (Object[] row : followRepository.findTwoHopCandidates(currentUser.getId(),
+                SUGGESTION_MAX_FOLLOWED, SUGGESTION_FANOUT, SUGGESTION_MAX_CANDIDATES)) {
+            mutuals.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        Set<Long> followers = new HashSet<>(
+                followRepository.findFollowersNotFollowedBack(currentUser.getId(), SUGGESTION_FOLLOW_BACKS));
+
+        Set<Long> candidateIds = new HashSet<>(mutuals.keySet());
+        candidateIds.addAll(followers);
+        if (candidateIds.isEmpty()) {
+            log.info("Usuario {} no tiene candidatos para sugerencias de seguimiento", currentUser.getId());
+
+            suggestionCache.put(currentUser.getId(), List.of());
+            return List.of();
+        }
+
+        // Se incluye al propio usuario para leer sus intereses en la misma consulta
+        List<Long> ids = new ArrayList<>(candidateIds);
+        ids.add(currentUser.getId());
+        Map<Long, Object[]> rows = new HashMap<>();
+        for (Object[] row : followRepository.findSuggestionCandidates(ids)) {
+            rows.put(((Number) row[0]).longValue(), row);
+        }
+
+        Object[] own = rows.remove(currentUser.getId());
+        Set<String> ownInterests = parseInterests(own != null ? (String) own[5] : null);
+
+        List<FollowSuggestionResponse> suggestions = rows.values().stream()
+                .map(row -> {
+                    Long id = ((Number) row[0]).longValue();
+                    Set<String> interests = parseInterests((String) row[5]);
+                    interests.retainAll(ownInterests);
+
+                    return new FollowSuggestionResponse(
+                            id,
+                            (String) row[1],
+                            row[2] + " " + row[3],
+                            (String) row[4],
+                            mutuals.getOrDefault(id, 0L),
+                            followers.contains(id),
+                            interests.size());
+                })
+                .sorted(Comparator.comparingLong(FollowSuggestionResponse::mutualFollows)
+                        .thenComparing(FollowSuggestionResponse::followsYou)
+                        .thenComparingInt(FollowSuggestionResponse::sharedInterests)
+                        .thenComparing(FollowSuggestionResponse::userId)
+                        .reversed())
+                .limit(MAX_SUGGESTIONS)
+                .toList();
+
+        suggestionCache.put(currentUser.getId(), suggestions);
+
+        log.info("Calculadas {} sugerencias de seguimiento para el usuario {} a partir de {} candidatos",
+                suggestions.size(), currentUser.getId(), candidateIds.size());
+
+        return suggestions.subList(0, Math.min(limit, suggestions.size()));
+    }
+
+    /**
+     * Separa el texto libre de intereses de un perfil en términos
+     * normalizados.
+     * 
+     * @param interests Intereses del perfil (separados por comas u otros
+     *                  separadores)
+     * @return Conjunto de intereses en minúsculas
+     */
+    private Set<String> parseInterests(String interests) {
+        if (interests == null || interests.isBlank()) {
+            return new HashSet<>();
+        }
+
+        return Arrays.stream(INTEREST_SEPARATOR.split(interests))
+                .map(interest -> interest.strip().toLowerCase(Locale.ROOT))
+                .filter(interest -> !interest.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Consulta de una página de filas de seguimiento a partir de un cursor.
+     */
+    @FunctionalInterface
+    private interface FollowRowsQuery {
+        List<Object[]> find(LocalDate afterDate, long afterId, Limit limit);
+    }
 }
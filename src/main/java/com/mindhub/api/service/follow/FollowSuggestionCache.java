@@ -0,0 +1,90 @@
+package com.mindhub.api.service.follow;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.dto.follow.FollowSuggestionResponse;
+import com.mindhub.api.event.FollowChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caché en memoria de las sugerencias de seguimiento de cada usuario.
+ *
+ * Las entradas caducan pasado {@code ttl-ms} y se invalidan en cuanto el
+ * usuario sigue o deja de seguir a alguien, ya que eso cambia sus candidatos.
+ * El número de entradas está acotado: al llenarse se descartan primero las
+ * caducadas y, si no basta, una cualquiera.
+ */
+
+@Slf4j
+@Component
+public class FollowSuggestionCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public FollowSuggestionCache(@Value("${app.follows.suggestions.cache-ttl-ms:600000}") long ttlMillis,
+            @Value("${app.follows.suggestions.cache-max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Devuelve las sugerencias guardadas de un usuario si no han caducado.
+     *
+     * @param userId ID del usuario
+     * @return sugerencias o null si no hay entrada válida
+     */
+    public List<FollowSuggestionResponse> get(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            entries.remove(userId, entry);
+            return null;
+        }
+        return entry.suggestions();
+    }
+
+    public void put(Long userId, List<FollowSuggestionResponse> suggestions) {
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(userId, new Entry(List.copyOf(suggestions), System.currentTimeMillis() + ttlMillis));
+    }
+
+    public void invalidate(Long userId) {
+        entries.remove(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        invalidate(event.followerId());
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() < now);
+
+        Iterator<Long> keys = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+
+        log.debug("Caché de sugerencias de seguimiento depurada: {} entradas", entries.size());
+    }
+
+    private record Entry(List<FollowSuggestionResponse> suggestions, long expiresAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.mindhub.api.service.notification;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.event.UserRegisteredEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Difunde a los administradores las notificaciones derivadas de eventos de
+ * dominio.
+ *
+ * Se ejecuta de forma asíncrona después de confirmar la transacción que
+ * publica el evento, por lo que la latencia del registro no depende del
+ * número de administradores.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminNotificationListener {
+
+    private final NotificationService notificationService;
+
+    /**
+     * Notifica a los administradores activos sobre un nuevo usuario registrado.
+     * 
+     * @param event Evento de registro de usuario
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        try {
+            int notified = notificationService.notifyActiveAdmins(
+                    "Nuevo usuario registrado",
+                    event.fullName() + " se ha unido a MindHub",
+                    event.userId(),
+                    "users");
+
+            log.info("Notificaciones enviadas a {} administradores sobre nuevo usuario: {}",
+                    notified, event.username());
+        } catch (Exception e) {
+            log.error("Error al notificar a administradores sobre nuevo usuario: {}",
+                    e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.mindhub.api.service.notification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.event.NotificationDigestedEvent;
+import com.mindhub.api.model.enums.NotificationType;
+import com.mindhub.api.model.notification.Notification;
+import com.mindhub.api.model.notification.NotificationDigestCount;
+import com.mindhub.api.model.user.User;
+import com.mindhub.api.repository.notification.NotificationDigestCountRepository;
+import com.mindhub.api.repository.notification.NotificationRepository;
+import com.mindhub.api.repository.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Acumulador y tarea programada del resumen diario de notificaciones.
+ *
+ * Las notificaciones de los usuarios en modo resumen no se persisten de forma
+ * individual: se cuentan por usuario y tipo en
+ * {@code notification_digest_counts} una vez confirmada la transacción que
+ * las generó, y una tarea programada las vuelca como una única notificación
+ * por usuario y día. Los contadores pendientes sobreviven a un reinicio.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDigestJob {
+
+    private static final NotificationType[] TYPES = NotificationType.values();
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationDigestCountRepository digestCountRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Registra un evento en el resumen diario de un usuario.
+     * 
+     * Se ejecuta tras confirmarse la transacción que generó la notificación,
+     * por lo que las notificaciones revertidas no se cuentan.
+     * 
+     * @param event Notificación acumulada
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onNotificationDigested(NotificationDigestedEvent event) {
+        digestCountRepository.increment(event.userId(), event.type().name());
+    }
+
+    /**
+     * Vuelca los resúmenes pendientes como una notificación por usuario y
+     * consume sus contadores.
+     */
+    @Scheduled(cron = "${app.notifications.digest-cron:0 0 20 * * *}")
+    @Transactional
+    public void flushDigests() {
+        List<NotificationDigestCount> rows = digestCountRepository.findAllPending();
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Map<Long, int[]> pending = new HashMap<>();
+
+        for (NotificationDigestCount row : rows) {
+            pending.computeIfAbsent(row.getUserId(), id -> new int[TYPES.length])[row.getType().ordinal()] += row
+                    .getCount();
+        }
+
+        // Los usuarios eliminados desde el registro del evento se descartan
+        List<User> users = userRepository.findAllById(pending.keySet());
+        List<Notification> digests = new ArrayList<>(users.size());
+
+        for (User user : users) {
+            digests.add(Notification.builder()
+                    .user(user)
+                    .title("Resumen diario")
+                    .message(buildDigestMessage(pending.get(user.getId())))
+                    .type(NotificationType.DIGEST)
+                    .read(false)
+                    .build());
+        }
+
+        notificationRepository.saveAll(digests);
+        digestCountRepository.deleteAllInBatch(rows);
+
+        log.info("Resumen diario de notificaciones enviado a {} usuarios", digests.size());
+    }
+
+    /**
+     * Construye el mensaje de un resumen diario.
+     * 
+     * @param counts Contadores por ordinal de tipo de notificación
+     * @return Mensaje del resumen
+     */
+    private String buildDigestMessage(int[] counts) {
+        List<String> parts = new ArrayList<>();
+
+        addPart(parts, counts[NotificationType.REACTION.ordinal()], "reacción", "reacciones");
+        addPart(parts, counts[NotificationType.COMMENT.ordinal()], "comentario", "comentarios");
+        addPart(parts, counts[NotificationType.FOLLOW.ordinal()], "nuevo seguidor", "nuevos seguidores");
+
+        if (parts.size() > 1) {
+            String last = parts.remove(parts.size() - 1);
+
+            return "Hoy has recibido " + String.join(", ", parts) + " y " + last;
+        }
+
+        return "Hoy has recibido " + String.join("", parts);
+    }
+
+    private void addPart(List<String> parts, int count, String singular, String plural) {
+        if (count > 0) {
+            parts.add(count + " " + (count == 1 ? singular : plural));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.mindhub.api.service.notification;
+
+import com.mindhub.api.dto.notification.NotificationPreferenceRequest;
+import com.mindhub.api.dto.notification.NotificationPreferenceResponse;
+import com.mindhub.api.model.enums.NotificationType;
+
+/**
+ * Servicio para la gestión de las preferencias de notificación.
+ *
+ * Define operaciones para consultar y modificar las preferencias del usuario
+ * actual y para decidir, antes de persistir una notificación, si debe
+ * enviarse, descartarse o acumularse en el resumen diario.
+ */
+
+public interface NotificationPreferenceService {
+
+        /**
+         * Forma de entrega de una notificación según las preferencias del
+         * destinatario.
+         */
+        enum Delivery {
+                /** La notificación se persiste de forma inmediata. */
+                DELIVER,
+                /** El tipo está silenciado y la notificación se descarta. */
+                SUPPRESS,
+                /** La notificación se acumula en el resumen diario. */
+                DIGEST
+        }
+
+        /**
+         * Resuelve la forma de entrega de una notificación.
+         * 
+         * @param userId ID del usuario destinatario
+         * @param type   Tipo de notificación
+         * @return Forma de entrega según las preferencias del usuario
+         */
+        Delivery resolveDelivery(Long userId, NotificationType type);
+
+        /**
+         * Obtiene las preferencias de notificación del usuario actual.
+         * 
+         * @return Preferencias del usuario actual
+         */
+        NotificationPreferenceResponse getCurrentUserPreferences();
+
+        /**
+         * Actualiza las preferencias de notificación del usuario actual.
+         * 
+         * @param request Nuevas preferencias
+         * @return Preferencias actualizadas
+         */
+        NotificationPreferenceResponse updateCurrentUserPreferences(NotificationPreferenceRequest request);
+
+}
@@ -0,0 +1,227 @@
+package com.mindhub.api.service.notification;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mindhub.api.dto.notification.NotificationPreferenceRequest;
+import com.mindhub.api.dto.notification.NotificationPreferenceResponse;
+import com.mindhub.api.model.enums.NotificationType;
+import com.mindhub.api.model.notification.NotificationPreference;
+import com.mindhub.api.model.user.User;
+import com.mindhub.api.repository.notification.NotificationPreferenceRepository;
+import com.mindhub.api.service.user.UserService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementación del servicio de preferencias de notificación.
+ *
+ * Mantiene en memoria una caché LRU acotada con las preferencias de los
+ * usuarios consultados recientemente, de forma que la decisión de entrega
+ * de cada notificación no requiere acceder a la base de datos. La caché se
+ * actualiza al confirmarse la modificación de las preferencias.
+ */
+
+@Slf4j
+@Service
+@Transactional
+public class NotificationPreferenceServiceImpl implements NotificationPreferenceService {
+
+    /**
+     * Tipos de notificación que el usuario puede silenciar o agrupar. Las
+     * notificaciones administrativas, de reportes y los propios resúmenes se
+     * entregan siempre.
+     */
+    private static final Set<NotificationType> CONFIGURABLE_TYPES = EnumSet.of(
+            NotificationType.COMMENT,
+            NotificationType.REACTION,
+            NotificationType.FOLLOW);
+
+    private static final Settings DEFAULT_SETTINGS = new Settings(
+            Collections.unmodifiableSet(EnumSet.noneOf(NotificationType.class)), false);
+
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final UserService userService;
+    private final Map<Long, Settings> cache;
+
+    public NotificationPreferenceServiceImpl(NotificationPreferenceRepository preferenceRepository,
+            @Lazy UserService userService,
+            @Value("${app.notifications.preferences-cache-size:10000}") int cacheSize) {
+        this.preferenceRepository = preferenceRepository;
+        this.userService = userService;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Settings> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Resuelve la forma de entrega de una notificación.
+     * 
+     * @param userId ID del usuario destinatario
+     * @param type   Tipo de notificación
+     * @return Forma de entrega según las preferencias del usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Delivery resolveDelivery(Long userId, NotificationType type) {
+        if (!CONFIGURABLE_TYPES.contains(type)) {
+            return Delivery.DELIVER;
+        }
+
+        Settings settings = getSettings(userId);
+
+        if (settings.mutedTypes().contains(type)) {
+            return Delivery.SUPPRESS;
+        }
+
+        return settings.dailyDigest() ? Delivery.DIGEST : Delivery.DELIVER;
+    }
+
+    /**
+     * Obtiene las preferencias de notificación del usuario actual.
+     * 
+     * @return Preferencias del usuario actual
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationPreferenceResponse getCurrentUserPreferences() {
+        User currentUser = userService.getCurrentUser();
+
+        log.debug("Consultando preferencias de notificación del usuario {}", currentUser.getId());
+
+        Settings settings = getSettings(currentUser.getId());
+
+        return new NotificationPreferenceResponse(settings.mutedTypes(), settings.dailyDigest());
+    }
+
+    /**
+     * Actualiza las preferencias de notificación del usuario actual.
+     * 
+     * @param request Nuevas preferencias
+     * @return Preferencias actualizadas
+     */
+    @Override
+    public NotificationPreferenceResponse updateCurrentUserPreferences(NotificationPreferenceRequest request) {
+        User currentUser = userService.getCurrentUser();
+
+        log.debug("Actualizando preferencias de notificación del usuario {}", currentUser.getId());
+
+        NotificationPreference preference = preferenceRepository.findByUserId(currentUser.getId())
+                .orElseGet(() -> NotificationPreference.builder()
+                        .user(currentUser)
+                        .build());
+
+        if (request.mutedTypes() != null) {
+            if (!CONFIGURABLE_TYPES.containsAll(request.mutedTypes())) {
+                log.warn("Usuario {} intentó silenciar tipos no configurables: {}", currentUser.getId(),
+                        request.mutedTypes());
+
+                throw new IllegalStateException("Solo se pueden silenciar notificaciones de tipo "
+                        + CONFIGURABLE_TYPES);
+            }
+
+            preference.getMutedTypes().clear();
+            preference.getMutedTypes().addAll(request.mutedTypes());
+        }
+
+        if (request.dailyDigest() != null) {
+            preference.setDailyDigest(request.dailyDigest());
+        }
+
+        NotificationPreference saved = preferenceRepository.save(preference);
+
+        Settings settings = toSettings(saved);
+
+        cacheAfterCommit(currentUser.getId(), settings);
+
+        log.info("Preferencias de notificación del usuario {} actualizadas: silenciados={}, resumen diario={}",
+                currentUser.getId(), settings.mutedTypes(), settings.dailyDigest());
+
+        return new NotificationPreferenceResponse(settings.mutedTypes(), settings.dailyDigest());
+    }
+
+    /**
+     * Obtiene las preferencias de un usuario desde la caché, cargándolas de la
+     * base de datos la primera vez. Los usuarios sin preferencias guardadas
+     * también se cachean con la configuración por defecto.
+     * 
+     * @param userId ID del usuario
+     * @return Preferencias del usuario
+     */
+    private Settings getSettings(Long userId) {
+        Settings settings = cache.get(userId);
+
+        if (settings == null) {
+            settings = preferenceRepository.findByUserId(userId)
+                    .map(this::toSettings)
+                    .orElse(DEFAULT_SETTINGS);
+
+            cache.put(userId, settings);
+        }
+
+        return settings;
+    }
+
+    /**
+     * Guarda en caché las preferencias nuevas cuando se confirma la
+     * transacción. Hasta entonces se quita la entrada, para que nadie siga
+     * usando las antiguas ni cachee unas que aún podrían descartarse.
+     * 
+     * @param userId   ID del usuario
+     * @param settings Preferencias guardadas
+     */
+    private void cacheAfterCommit(Long userId, Settings settings) {
+        cache.remove(userId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(userId, settings);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // Se quita también si se revierte, por si otra lectura la cargó mientras tanto
+                if (status == STATUS_COMMITTED) {
+                    cache.put(userId, settings);
+                } else {
+                    cache.remove(userId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Convierte una entidad de preferencias en su representación inmutable en
+     * caché.
+     * 
+     * @param preference Entidad de preferencias
+     * @return Preferencias inmutables
+     */
+    private Settings toSettings(NotificationPreference preference) {
+        Set<NotificationType> muted = preference.getMutedTypes().isEmpty()
+                ? EnumSet.noneOf(NotificationType.class)
+                : EnumSet.copyOf(preference.getMutedTypes());
+
+        return new Settings(Collections.unmodifiableSet(muted), Boolean.TRUE.equals(preference.getDailyDigest()));
+    }
+
+    /**
+     * Preferencias de notificación inmutables almacenadas en caché.
+     */
+    private record Settings(Set<NotificationType> mutedTypes, boolean dailyDigest) {
+    }
+}
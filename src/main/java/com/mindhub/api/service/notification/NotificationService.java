@@ -25,7 +25,8 @@ public interface NotificationService extends GenericService<Notification, Long>
          * @param title   Título de la notificación
          * @param message Mensaje de la notificación
          * @param type    Tipo de notificación
-         * @return Notificación creada
+         * @return Notificación creada, o null si las preferencias del usuario
+         *         la descartan o la acumulan en el resumen diario
          */
         Notification createNotification(User user, String title, String message,
                         NotificationType type);
@@ -39,12 +40,45 @@ public interface NotificationService extends GenericService<Notification, Long>
          * @param type          Tipo de notificación
          * @param referenceId   ID de la entidad referenciada
          * @param referenceType Tipo de entidad referenciada
-         * @return Notificación creada
+         * @return Notificación creada, o null si las preferencias del usuario
+         *         la descartan o la acumulan en el resumen diario
          */
         Notification createNotificationWithReference(User user, String title, String message,
                         NotificationType type,
                         Long referenceId, String referenceType);
 
+        /**
+         * Crea o actualiza una notificación agregada por interacción.
+         * 
+         * Si el usuario ya tiene una notificación no leída del mismo tipo sobre
+         * la misma entidad, se incrementa su contador de actores en lugar de
+         * insertar una nueva fila.
+         * 
+         * @param user          Usuario destinatario de la notificación
+         * @param actor         Usuario que realiza la interacción
+         * @param title         Título de la notificación
+         * @param type          Tipo de notificación
+         * @param referenceId   ID de la entidad referenciada
+         * @param referenceType Tipo de entidad referenciada
+         * @return Notificación creada o actualizada, o null si las preferencias
+         *         del usuario la descartan o la acumulan en el resumen diario
+         */
+        Notification createAggregatedNotification(User user, User actor, String title,
+                        NotificationType type,
+                        Long referenceId, String referenceType);
+
+        /**
+         * Notifica a todos los administradores activos con una única inserción
+         * multi-fila.
+         * 
+         * @param title         Título de la notificación
+         * @param message       Mensaje de la notificación
+         * @param referenceId   ID de la entidad referenciada
+         * @param referenceType Tipo de entidad referenciada
+         * @return Número de notificaciones creadas
+         */
+        int notifyActiveAdmins(String title, String message, Long referenceId, String referenceType);
+
         /**
          * Obtiene las notificaciones del usuario actual paginadas.
          * 
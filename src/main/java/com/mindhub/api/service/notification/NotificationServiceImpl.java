@@ -1,7 +1,11 @@
 package com.mindhub.api.service.notification;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,11 +13,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mindhub.api.dto.notification.NotificationResponse;
+import com.mindhub.api.event.NotificationDigestedEvent;
 import com.mindhub.api.exception.NotificationNotFoundException;
 import com.mindhub.api.mapper.notification.NotificationMapper;
 import com.mindhub.api.model.enums.NotificationType;
 import com.mindhub.api.model.notification.Notification;
 import com.mindhub.api.model.user.User;
+import com.mindhub.api.repository.notification.NotificationActorRepository;
 import com.mindhub.api.repository.notification.NotificationRepository;
 import com.mindhub.api.service.base.GenericServiceImpl;
 import com.mindhub.api.service.user.UserService;
@@ -24,7 +30,14 @@ import lombok.extern.slf4j.Slf4j;
  * Implementación del servicio de notificaciones.
  *
  * Gestiona la creación, consulta y marcado de notificaciones
- * de usuarios, con validaciones de permisos.
+ * de usuarios, con validaciones de permisos. Las notificaciones de
+ * interacciones repetidas sobre una misma entidad se agregan en una
+ * sola fila dentro de una ventana de tiempo configurable.
+ *
+ * Antes de persistir cualquier notificación se consultan las preferencias
+ * del destinatario: los tipos silenciados se descartan y, en modo resumen,
+ * los eventos se acumulan para el resumen diario en lugar de crear una
+ * notificación.
  */
 
 @Slf4j
@@ -33,16 +46,28 @@ import lombok.extern.slf4j.Slf4j;
 public class NotificationServiceImpl extends GenericServiceImpl<Notification, Long> implements NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationActorRepository notificationActorRepository;
     private final NotificationMapper notificationMapper;
     private final UserService userService;
+    private final NotificationPreferenceService preferenceService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Número máximo de actores recientes que se conservan en una agregación. */
+    private static final int MAX_LAST_ACTORS = 3;
 
     public NotificationServiceImpl(NotificationRepository notificationRepository,
+            NotificationActorRepository notificationActorRepository,
             NotificationMapper notificationMapper,
-            @Lazy UserService userService) {
+            @Lazy UserService userService,
+            NotificationPreferenceService preferenceService,
+            ApplicationEventPublisher eventPublisher) {
         super(notificationRepository);
         this.notificationRepository = notificationRepository;
+        this.notificationActorRepository = notificationActorRepository;
         this.notificationMapper = notificationMapper;
         this.userService = userService;
+        this.preferenceService = preferenceService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -52,11 +77,16 @@ public class NotificationServiceImpl extends GenericServiceImpl<Notification, Lo
      * @param title   Título de la notificación
      * @param message Mensaje de la notificación
      * @param type    Tipo de notificación
-     * @return Notificación creada
+     * @return Notificación creada, o null si las preferencias del usuario la
+     *         descartan o la acumulan en el resumen diario
      */
     @Override
     public Notification createNotification(User user, String title, String message,
             NotificationType type) {
+        if (!shouldPersist(user, type)) {
+            return null;
+        }
+
         log.debug("Creando notificación para usuario {}: [{}] {}", user.getId(), title, message);
 
         Notification notification = Notification.builder()
@@ -80,12 +110,17 @@ public class NotificationServiceImpl extends GenericServiceImpl<Notification, Lo
      * @param type          Tipo de notificación
      * @param referenceId   ID de la entidad referenciada
      * @param referenceType Tipo de entidad referenciada
-     * @return Notificación creada
+     * @return Notificación creada, o null si las preferencias del usuario la
+     *         descartan o la acumulan en el resumen diario
      */
     @Override
     public Notification createNotificationWithReference(User user, String title, String message,
             NotificationType type,
             Long referenceId, String referenceType) {
+        if (!shouldPersist(user, type)) {
+            return null;
+        }
+
         log.debug("Creando notificación con referencia para usuario {}: [{}] ref={} ({})",
                 user.getId(), title, referenceId, referenceType);
 
@@ -104,6 +139,174 @@ public class NotificationServiceImpl extends GenericServiceImpl<Notification, Lo
         return save(notification);
     }
 
+    /**
+     * Crea o actualiza una notificación agregada por interacción.
+     * 
+     * Hay como máximo una notificación agregada sin leer por (destinatario,
+     * tipo, entidad referenciada), garantizado por un índice único parcial
+     * ({@code SearchIndexInitializer}). La fila se obtiene con un upsert
+     * contra ese índice, de modo que dos primeras interacciones simultáneas
+     * no crean dos notificaciones; el upsert deja la fila bloqueada hasta el
+     * final de la transacción, así que el contador, los actores recientes y
+     * el mensaje se calculan sobre valores que nadie más puede cambiar.
+     * 
+     * El contador solo crece cuando el actor no había interactuado antes con
+     * la notificación, de modo que refleja personas distintas. Cada
+     * interacción registra al actor como el más reciente y renueva la fecha
+     * para que la notificación vuelva al principio del listado.
+     * 
+     * @param user          Usuario destinatario de la notificación
+     * @param actor         Usuario que realiza la interacción
+     * @param title         Título de la notificación
+     * @param type          Tipo de notificación
+     * @param referenceId   ID de la entidad referenciada
+     * @param referenceType Tipo de entidad referenciada
+     * @return Notificación creada o actualizada, o null si las preferencias del
+     *         usuario la descartan o la acumulan en el resumen diario
+     */
+    @Override
+    public Notification createAggregatedNotification(User user, User actor, String title,
+            NotificationType type,
+            Long referenceId, String referenceType) {
+        if (!shouldPersist(user, type)) {
+            return null;
+        }
+
+        String actorName = (actor.getFirstName() + " " + actor.getLastName())
+                .replace(Notification.ACTOR_SEPARATOR, " ");
+
+        Object[] row = notificationRepository
+                .upsertAggregate(user.getId(), title, type.name(), referenceId, referenceType)
+                .get(0);
+        Long id = ((Number) row[0]).longValue();
+        int actorCount = ((Number) row[1]).intValue();
+        String lastActors = (String) row[2];
+
+        int added = notificationActorRepository.insertIfAbsent(id, actor.getId());
+        actorCount += added;
+
+        notificationRepository.registerActor(id, actorCount, buildAggregatedMessage(type, actorName, actorCount),
+                pushActor(lastActors, actorName));
+
+        log.debug("Notificación {} agregada para usuario {}: actor {} {} en ref={} ({})",
+                id, user.getId(), actor.getId(), added == 1 ? "nuevo" : "repetido", referenceId, referenceType);
+
+        return notificationRepository.findById(id).orElseThrow();
+    }
+
+    /**
+     * Notifica a todos los administradores activos con una única inserción
+     * multi-fila.
+     * 
+     * Los destinatarios se obtienen del conjunto cacheado de administradores
+     * activos, por lo que el coste no crece con el número de administradores.
+     * Las notificaciones administrativas no están sujetas a preferencias.
+     * 
+     * @param title         Título de la notificación
+     * @param message       Mensaje de la notificación
+     * @param referenceId   ID de la entidad referenciada
+     * @param referenceType Tipo de entidad referenciada
+     * @return Número de notificaciones creadas
+     */
+    @Override
+    public int notifyActiveAdmins(String title, String message, Long referenceId, String referenceType) {
+        Set<Long> adminIds = userService.getActiveAdminIds();
+
+        if (adminIds.isEmpty()) {
+            log.warn("No hay administradores activos para notificar: [{}] ref={} ({})", title, referenceId,
+                    referenceType);
+
+            return 0;
+        }
+
+        int inserted = notificationRepository.insertForUsers(adminIds, title, message,
+                NotificationType.ADMIN_ACTION.name(), referenceId, referenceType);
+
+        log.info("Notificación [{}] enviada a {} administradores", title, inserted);
+
+        return inserted;
+    }
+
+    /**
+     * Aplica las preferencias del destinatario antes de escribir una
+     * notificación.
+     * 
+     * @param user Usuario destinatario
+     * @param type Tipo de notificación
+     * @return true si la notificación debe persistirse de inmediato
+     */
+    private boolean shouldPersist(User user, NotificationType type) {
+        switch (preferenceService.resolveDelivery(user.getId(), type)) {
+            case SUPPRESS:
+                log.debug("Notificación {} silenciada por el usuario {}", type, user.getId());
+
+                return false;
+            case DIGEST:
+                eventPublisher.publishEvent(new NotificationDigestedEvent(user.getId(), type));
+
+                log.debug("Notificación {} acumulada en el resumen diario del usuario {}", type, user.getId());
+
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Construye el mensaje de una notificación agregada.
+     * 
+     * @param type       Tipo de notificación
+     * @param actorName  Nombre del actor más reciente
+     * @param actorCount Número de actores distintos agregados
+     * @return Mensaje de la notificación
+     */
+    private String buildAggregatedMessage(NotificationType type, String actorName, int actorCount) {
+        String action = describeAction(type);
+
+        if (actorCount <= 1) {
+            return actorName + " ha " + action;
+        }
+
+        int others = actorCount - 1;
+
+        return actorName + " y " + others + (others == 1 ? " persona más" : " personas más") + " han " + action;
+    }
+
+    /**
+     * Describe la interacción de una notificación agregada.
+     * 
+     * @param type Tipo de notificación
+     * @return Descripción de la interacción
+     */
+    private String describeAction(NotificationType type) {
+        return switch (type) {
+            case REACTION -> "reaccionado a tu publicación";
+            case COMMENT -> "comentado en tu publicación";
+            default -> "interactuado con tu contenido";
+        };
+    }
+
+    /**
+     * Añade un actor al principio de la lista de actores recientes,
+     * conservando como máximo {@link #MAX_LAST_ACTORS} nombres distintos.
+     * 
+     * @param lastActors Lista actual de actores separados por
+     *                   {@link Notification#ACTOR_SEPARATOR}
+     * @param actorName  Nombre del nuevo actor
+     * @return Lista actualizada de actores
+     */
+    private String pushActor(String lastActors, String actorName) {
+        List<String> actors = new ArrayList<>();
+        actors.add(actorName);
+
+        Notification.splitActors(lastActors).stream()
+                .filter(actor -> !actor.equals(actorName))
+                .limit(MAX_LAST_ACTORS - 1)
+                .forEach(actors::add);
+
+        return String.join(Notification.ACTOR_SEPARATOR, actors);
+    }
+
     /**
      * Obtiene las notificaciones del usuario actual paginadas.
      * 
@@ -1,10 +1,14 @@
 package com.mindhub.api.service.post;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.mindhub.api.dto.post.PostCreateRequest;
 import com.mindhub.api.dto.post.PostResponse;
+import com.mindhub.api.dto.post.PostSearchPage;
+import com.mindhub.api.dto.post.TrendingTagResponse;
 import com.mindhub.api.model.enums.PrivacyType;
 import com.mindhub.api.model.post.Post;
 import com.mindhub.api.model.user.User;
@@ -36,6 +40,15 @@ public interface PostService extends GenericService<Post, Long> {
      */
     Page<PostResponse> getUserPosts(Long userId, Pageable pageable);
 
+    /**
+     * Obtiene los posts de un usuario ya cargado paginados.
+     * 
+     * @param user     Autor de los posts
+     * @param pageable Configuración de paginación
+     * @return Página de posts del usuario
+     */
+    Page<PostResponse> getUserPosts(User user, Pageable pageable);
+
     /**
      * Obtiene todos los posts públicos paginados.
      * 
@@ -61,6 +74,47 @@ public interface PostService extends GenericService<Post, Long> {
      */
     Page<PostResponse> getPersonalFeed(User currentUser, Pageable pageable);
 
+    /**
+     * Busca publicaciones por texto completo visibles para el usuario actual.
+     *
+     * Los resultados se ordenan por relevancia y se paginan por cursor.
+     *
+     * @param query  Texto a buscar
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de resultados
+     * @return Página de resultados con el cursor de la siguiente
+     */
+    PostSearchPage searchPosts(String query, String cursor, int size);
+
+    /**
+     * Obtiene las publicaciones con un hashtag o una mención visibles para el
+     * usuario actual, paginadas por cursor.
+     *
+     * @param tag    Hashtag o mención ({@code @usuario}), con o sin prefijo
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de resultados
+     * @return Página de publicaciones con el cursor de la siguiente
+     */
+    PostSearchPage getPostsByTag(String tag, String cursor, int size);
+
+    /**
+     * Obtiene los hashtags en tendencia de las últimas horas.
+     *
+     * @param hours Horas de la ventana
+     * @param limit Número máximo de hashtags
+     * @return Hashtags ordenados por frecuencia estimada
+     */
+    List<TrendingTagResponse> getTrendingTags(int hours, int limit);
+
+    /**
+     * Obtiene las publicaciones en tendencia visibles para el usuario actual,
+     * ordenadas por su puntuación de interacción con decaimiento temporal.
+     *
+     * @param size Número máximo de publicaciones
+     * @return Publicaciones en tendencia
+     */
+    List<PostResponse> getTrendingPosts(int size);
+
     /**
      * Obtiene los posts reportados (solo para administradores).
      * 
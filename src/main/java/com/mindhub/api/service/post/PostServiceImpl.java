@@ -1,25 +1,44 @@
 package com.mindhub.api.service.post;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mindhub.api.dto.post.PostCreateRequest;
 import com.mindhub.api.dto.post.PostResponse;
+import com.mindhub.api.dto.post.PostSearchPage;
+import com.mindhub.api.dto.post.TrendingTagResponse;
+import com.mindhub.api.event.PostCreatedEvent;
+import com.mindhub.api.event.PostDeletedEvent;
+import com.mindhub.api.event.PostTaggedEvent;
 import com.mindhub.api.exception.PostNotFoundException;
 import com.mindhub.api.mapper.post.PostMapper;
 import com.mindhub.api.model.enums.ActionType;
 import com.mindhub.api.model.enums.NotificationType;
 import com.mindhub.api.model.enums.PrivacyType;
+import com.mindhub.api.model.enums.TagType;
 import com.mindhub.api.model.post.Post;
+import com.mindhub.api.model.post.PostTag;
 import com.mindhub.api.model.user.User;
 import com.mindhub.api.repository.follow.FollowRepository;
 import com.mindhub.api.repository.post.PostRepository;
+import com.mindhub.api.repository.post.PostTagRepository;
+import com.mindhub.api.repository.post.PostViewStatsRepository;
 import com.mindhub.api.service.admin.AdminActionService;
 import com.mindhub.api.service.base.GenericServiceImpl;
 import com.mindhub.api.service.notification.NotificationService;
@@ -40,19 +59,35 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements PostService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final int MAX_TRENDING_TAGS = 50;
+
     private final PostRepository postRepository;
     private final PostMapper postMapper;
     private final UserService userService;
     private final NotificationService notificationService;
     private final AdminActionService adminActionService;
     private final FollowRepository followRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostViewStatsRepository postViewStatsRepository;
+    private final PostViewTracker postViewTracker;
+    private final PostTagRepository postTagRepository;
+    private final TrendingTagTracker trendingTagTracker;
+    private final TrendingPostRanking trendingPostRanking;
 
     public PostServiceImpl(PostRepository postRepository,
             PostMapper postMapper,
             UserService userService,
             NotificationService notificationService,
             AdminActionService adminActionService,
-            FollowRepository followRepository) {
+            FollowRepository followRepository,
+            ApplicationEventPublisher eventPublisher,
+            PostViewStatsRepository postViewStatsRepository,
+            PostViewTracker postViewTracker,
+            PostTagRepository postTagRepository,
+            TrendingTagTracker trendingTagTracker,
+            TrendingPostRanking trendingPostRanking) {
         super(postRepository);
         this.postRepository = postRepository;
         this.postMapper = postMapper;
@@ -60,10 +95,17 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
         this.notificationService = notificationService;
         this.adminActionService = adminActionService;
         this.followRepository = followRepository;
+        this.eventPublisher = eventPublisher;
+        this.postViewStatsRepository = postViewStatsRepository;
+        this.postViewTracker = postViewTracker;
+        this.postTagRepository = postTagRepository;
+        this.trendingTagTracker = trendingTagTracker;
+        this.trendingPostRanking = trendingPostRanking;
     }
 
     /**
-     * Enriquece un post con contadores de comentarios y reacciones.
+     * Enriquece un post con contadores de comentarios, reacciones y
+     * visualizaciones.
      * 
      * @param post Post a enriquecer
      * @return PostResponse con contadores
@@ -75,6 +117,7 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
 
         long commentCount = postRepository.countCommentsByPostId(post.getId());
         long reactionCount = postRepository.countReactionsByPostId(post.getId());
+        ViewCounts views = loadViewCounts(List.of(post.getId())).getOrDefault(post.getId(), ViewCounts.NONE);
 
         log.info("Post {} enriquecido con {} comentarios y {} reacciones", post.getId(), commentCount, reactionCount);
 
@@ -87,11 +130,14 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
                 response.updateDate(),
                 response.author(),
                 (int) commentCount,
-                (int) reactionCount);
+                (int) reactionCount,
+                views.viewCount() + postViewTracker.pendingViews(post.getId()),
+                views.uniqueViewers());
     }
 
     /**
-     * Enriquece múltiples publicaciones con contadores de comentarios y reacciones.
+     * Enriquece múltiples publicaciones con contadores de comentarios,
+     * reacciones y visualizaciones.
      * 
      * @param posts Lista de publicaciones a enriquecer
      * @return Lista de PostResponse con contadores
@@ -121,11 +167,14 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
                         row -> (Long) row[0],
                         row -> (Long) row[1]));
 
+        Map<Long, ViewCounts> viewCounts = loadViewCounts(postIds);
+
         return posts.stream()
                 .map(post -> {
                     PostResponse response = postMapper.toResponse(post);
                     long commentCount = commentCounts.getOrDefault(post.getId(), 0L);
                     long reactionCount = reactionCounts.getOrDefault(post.getId(), 0L);
+                    ViewCounts views = viewCounts.getOrDefault(post.getId(), ViewCounts.NONE);
 
                     return new PostResponse(
                             response.id(),
@@ -136,11 +185,130 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
                             response.updateDate(),
                             response.author(),
                             (int) commentCount,
-                            (int) reactionCount);
+                            (int) reactionCount,
+                            views.viewCount() + postViewTracker.pendingViews(post.getId()),
+                            views.uniqueViewers());
                 })
                 .toList();
     }
 
+    /**
+     * Carga los contadores de visualización persistidos de varios posts. Las
+     * visitas aún no volcadas se suman al construir la respuesta.
+     * 
+     * @param postIds Lista de IDs de posts
+     * @return Mapa de ID de post a sus contadores
+     */
+    private Map<Long, ViewCounts> loadViewCounts(List<Long> postIds) {
+        return postViewStatsRepository.findCountsByPostIds(postIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        row -> (Long) row[0],
+                        row -> new ViewCounts((Long) row[1], (Long) row[2])));
+    }
+
+    /**
+     * Registra una visualización de cada post por el usuario actual. Las
+     * visitas del propio autor no se cuentan.
+     * 
+     * @param posts    Publicaciones mostradas
+     * @param viewerId ID del usuario que las ve
+     */
+    private void recordViews(List<Post> posts, Long viewerId) {
+        for (Post post : posts) {
+            if (!post.getAuthor().getId().equals(viewerId)) {
+                postViewTracker.record(post.getId(), viewerId);
+            }
+        }
+    }
+
+    /**
+     * Obtiene el ID del usuario autenticado desde el contexto de seguridad,
+     * sin consultar la base de datos.
+     * 
+     * @return ID del usuario actual o null si no está autenticado
+     */
+    private Long currentViewerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Sincroniza el índice de hashtags y menciones de un post con su
+     * contenido: elimina las etiquetas que ya no aparecen y añade las nuevas.
+     * 
+     * @param post Post cuyo contenido se ha creado o modificado
+     * @return Hashtags añadidos
+     */
+    private Set<String> syncTags(Post post) {
+        if (post.getTags() == null) {
+            post.setTags(new ArrayList<>());
+        }
+
+        Set<String> addedHashtags = new LinkedHashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (TagType type : TagType.values()) {
+            Set<String> extracted = PostTagExtractor.extract(post.getContent(), type);
+
+            post.getTags().removeIf(tag -> tag.getType() == type && !extracted.contains(tag.getTag()));
+            post.getTags().stream()
+                    .filter(tag -> tag.getType() == type)
+                    .forEach(tag -> extracted.remove(tag.getTag()));
+
+            for (String value : extracted) {
+                post.getTags().add(PostTag.builder()
+                        .post(post)
+                        .type(type)
+                        .tag(value)
+                        .createdAt(now)
+                        .build());
+            }
+
+            if (type == TagType.HASHTAG) {
+                addedHashtags.addAll(extracted);
+            }
+        }
+
+        return addedHashtags;
+    }
+
+    /**
+     * Publica los hashtags añadidos a un post para las tendencias.
+     * 
+     * @param post          Post guardado
+     * @param addedHashtags Hashtags añadidos
+     */
+    private void publishTagged(Post post, Set<String> addedHashtags) {
+        if (!addedHashtags.isEmpty()) {
+            eventPublisher.publishEvent(
+                    new PostTaggedEvent(post.getId(), post.getPrivacyType(), addedHashtags, LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Verifica si un usuario puede ver un post: los propios, los públicos de
+     * autores públicos y los públicos de autores seguidos; los
+     * administradores ven todos.
+     * 
+     * @param post        Post a comprobar
+     * @param user        Usuario que consulta
+     * @param admin       true si el usuario es administrador
+     * @param followedIds IDs de los usuarios que sigue
+     * @return true si el post es visible para el usuario
+     */
+    private boolean isVisibleTo(Post post, User user, boolean admin, Set<Long> followedIds) {
+        User author = post.getAuthor();
+        if (admin || author.getId().equals(user.getId())) {
+            return true;
+        }
+        return post.getPrivacyType() == PrivacyType.PUBLIC
+                && (author.getPrivacyType() == PrivacyType.PUBLIC || followedIds.contains(author.getId()));
+    }
+
     /**
      * Verifica si un usuario es administrador.
      * 
@@ -175,11 +343,16 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
         Post post = postMapper.toEntity(request);
 
         post.setAuthor(currentUser);
+        Set<String> addedHashtags = syncTags(post);
 
         Post savedPost = save(post);
 
+        publishTagged(savedPost, addedHashtags);
+
         userService.updateLastActivity(currentUser.getId());
 
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), currentUser.getId()));
+
         log.info("Usuario {} creó la publicación {}", currentUser.getId(), savedPost.getId());
 
         return enrichPostWithCounts(savedPost);
@@ -195,9 +368,21 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
     @Override
     @Transactional(readOnly = true)
     public Page<PostResponse> getUserPosts(Long userId, Pageable pageable) {
-        log.debug("Obteniendo publicaciones del usuario {} con paginación {}", userId, pageable);
+        return getUserPosts(userService.findByIdOrThrow(userId), pageable);
+    }
 
-        User usuario = userService.findByIdOrThrow(userId);
+    /**
+     * Obtiene los posts de un usuario ya cargado paginados.
+     * 
+     * @param usuario  Autor de los posts
+     * @param pageable Configuración de paginación
+     * @return Página de posts del usuario
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostResponse> getUserPosts(User usuario, Pageable pageable) {
+        Long userId = usuario.getId();
+        log.debug("Obteniendo publicaciones del usuario {} con paginación {}", userId, pageable);
 
         User currentUser = userService.getCurrentUser();
 
@@ -208,6 +393,8 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
             postsPage = postRepository.findPublicPostsByAuthorOrderByCreationDateDesc(usuario, pageable);
         }
 
+        recordViews(postsPage.getContent(), currentUser.getId());
+
         List<PostResponse> postsWithCounts = enrichPostsWithCounts(postsPage.getContent());
 
         log.info("Se obtuvieron {} publicaciones del usuario {}", postsPage.getTotalElements(), userId);
@@ -231,6 +418,8 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
 
         Page<Post> postsPage = postRepository.findAllPublicPosts(PrivacyType.PUBLIC, PrivacyType.PUBLIC, pageable);
 
+        recordViews(postsPage.getContent(), currentViewerId());
+
         List<PostResponse> postsWithCounts = enrichPostsWithCounts(postsPage.getContent());
 
         log.info("Se obtuvieron {} publicaciones públicas", postsPage.getTotalElements());
@@ -297,7 +486,9 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
         Page<Post> postsPage = postRepository.findPostsForFeed(
                 followingIds, PrivacyType.PUBLIC, currentUser.getId(), pageable);
 
-        // Enriquecer con contadores de comentarios y reacciones
+        recordViews(postsPage.getContent(), currentUser.getId());
+
+        // Enriquecer con contadores de comentarios, reacciones y visualizaciones
         List<PostResponse> postsWithCounts = enrichPostsWithCounts(postsPage.getContent());
 
         log.info("Feed personal del usuario {} contiene {} publicaciones", currentUser.getId(),
@@ -309,6 +500,206 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
                 postsPage.getTotalElements());
     }
 
+    /**
+     * Busca publicaciones por texto completo visibles para el usuario actual.
+     *
+     * La relevancia la calcula PostgreSQL sobre el índice GIN del contenido;
+     * aquí solo se cargan los posts de la página y se mantienen en el orden
+     * devuelto. El cursor tiene la forma {@code relevancia:id} del último
+     * resultado.
+     *
+     * @param query  Texto a buscar
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de resultados
+     * @return Página de resultados con el cursor de la siguiente
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PostSearchPage searchPosts(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalStateException("El texto de búsqueda no puede estar vacío");
+        }
+
+        String texto = query.strip();
+        if (texto.length() > MAX_SEARCH_QUERY_LENGTH) {
+            texto = texto.substring(0, MAX_SEARCH_QUERY_LENGTH);
+        }
+
+        User currentUser = userService.getCurrentUser();
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+
+        float afterRank = Float.MAX_VALUE;
+        long afterId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(':');
+            try {
+                afterRank = Float.parseFloat(cursor.substring(0, separator));
+                afterId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Cursor de búsqueda inválido: " + cursor);
+            }
+        }
+
+        log.debug("Usuario {} busca publicaciones con '{}' (cursor {}, tamaño {})",
+                currentUser.getId(), texto, cursor, pageSize);
+
+        List<Object[]> rows = postRepository.searchVisiblePostIds(
+                texto, currentUser.getId(), isAdmin(currentUser), afterRank, afterId, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Object[]> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<Long> ids = new ArrayList<>(pageRows.size());
+        for (Object[] row : pageRows) {
+            ids.add(((Number) row[0]).longValue());
+        }
+
+        Map<Long, Post> postsById = postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = null;
+        if (hasMore) {
+            Object[] last = pageRows.get(pageRows.size() - 1);
+            nextCursor = ((Number) last[1]).floatValue() + ":" + ((Number) last[0]).longValue();
+        }
+
+        log.info("Búsqueda de publicaciones del usuario {} devolvió {} resultados", currentUser.getId(), posts.size());
+
+        recordViews(posts, currentUser.getId());
+
+        return new PostSearchPage(enrichPostsWithCounts(posts), nextCursor, hasMore);
+    }
+
+    /**
+     * Obtiene las publicaciones con un hashtag o una mención visibles para el
+     * usuario actual, de la más reciente a la más antigua.
+     *
+     * Las etiquetas que empiezan por {@code @} se buscan como menciones y el
+     * resto como hashtags. El cursor es el ID del último post recibido.
+     *
+     * @param tag    Hashtag o mención, con o sin prefijo
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de resultados
+     * @return Página de publicaciones con el cursor de la siguiente
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PostSearchPage getPostsByTag(String tag, String cursor, int size) {
+        TagType type = tag.strip().startsWith("@") ? TagType.MENTION : TagType.HASHTAG;
+        String normalized = PostTagExtractor.normalize(tag);
+        if (normalized.isEmpty() || normalized.length() > PostTagExtractor.MAX_HASHTAG_LENGTH) {
+            throw new IllegalStateException("Etiqueta inválida: " + tag);
+        }
+
+        User currentUser = userService.getCurrentUser();
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+
+        long afterId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(cursor.strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Cursor de etiqueta inválido: " + cursor);
+            }
+        }
+
+        log.debug("Usuario {} consulta publicaciones con {} '{}' (cursor {}, tamaño {})",
+                currentUser.getId(), type, normalized, cursor, pageSize);
+
+        List<Long> ids = postTagRepository.findVisiblePostIdsByTag(
+                type.name(), normalized, currentUser.getId(), isAdmin(currentUser), afterId, pageSize + 1);
+
+        boolean hasMore = ids.size() > pageSize;
+        List<Long> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+
+        Map<Long, Post> postsById = postRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = hasMore ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null;
+
+        recordViews(posts, currentUser.getId());
+
+        log.info("Consulta de la etiqueta '{}' del usuario {} devolvió {} publicaciones",
+                normalized, currentUser.getId(), posts.size());
+
+        return new PostSearchPage(enrichPostsWithCounts(posts), nextCursor, hasMore);
+    }
+
+    /**
+     * Obtiene los hashtags más usados en publicaciones públicas durante las
+     * últimas horas.
+     *
+     * @param hours Horas de la ventana (se limita a una semana)
+     * @param limit Número máximo de hashtags
+     * @return Hashtags en tendencia con su frecuencia estimada
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrendingTagResponse> getTrendingTags(int hours, int limit) {
+        int window = Math.max(1, Math.min(hours, TrendingTagTracker.MAX_WINDOW_HOURS));
+        int count = Math.max(1, Math.min(limit, MAX_TRENDING_TAGS));
+
+        List<TrendingTagResponse> trending = trendingTagTracker.trending(window, count);
+
+        log.debug("Tendencias de las últimas {} horas: {} hashtags", window, trending.size());
+
+        return trending;
+    }
+
+    /**
+     * Obtiene las publicaciones en tendencia visibles para el usuario actual.
+     *
+     * El orden sale del ranking en memoria; aquí solo se cargan por ID los
+     * posts necesarios, por bloques, hasta completar la página con los que el
+     * usuario puede ver.
+     *
+     * @param size Número máximo de publicaciones
+     * @return Publicaciones ordenadas por puntuación de tendencia
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponse> getTrendingPosts(int size) {
+        User currentUser = userService.getCurrentUser();
+        boolean admin = isAdmin(currentUser);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+
+        Set<Long> followedIds = admin ? Set.of() : new HashSet<>(followRepository.findFollowedIdsByUser(currentUser));
+        List<Long> ranked = trendingPostRanking.rankedPostIds();
+
+        List<Post> posts = new ArrayList<>(pageSize);
+        int batchSize = pageSize * 2;
+        for (int from = 0; from < ranked.size() && posts.size() < pageSize; from += batchSize) {
+            List<Long> batch = ranked.subList(from, Math.min(from + batchSize, ranked.size()));
+            Map<Long, Post> postsById = postRepository.findAllById(batch).stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+            for (Long id : batch) {
+                Post post = postsById.get(id);
+                if (post != null && isVisibleTo(post, currentUser, admin, followedIds)) {
+                    posts.add(post);
+                    if (posts.size() == pageSize) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        recordViews(posts, currentUser.getId());
+
+        log.info("Usuario {} obtuvo {} publicaciones en tendencia de {} en el ranking",
+                currentUser.getId(), posts.size(), ranked.size());
+
+        return enrichPostsWithCounts(posts);
+    }
+
     /**
      * Obtiene las publicaciones reportadas (solo para administradores).
      * 
@@ -369,9 +760,12 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
         post.setContent(request.content());
         post.setImageUrl(request.imageUrl());
         post.setPrivacyType(request.privacyType());
+        Set<String> addedHashtags = syncTags(post);
 
         Post savedPost = save(post);
 
+        publishTagged(savedPost, addedHashtags);
+
         log.info("Usuario {} actualizó la publicación {}", currentUser.getId(), id);
 
         return enrichPostWithCounts(savedPost);
@@ -390,6 +784,8 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
 
         Post post = findByIdOrThrow(id);
 
+        recordViews(List.of(post), currentViewerId());
+
         log.info("Publicación {} obtenida correctamente", id);
         return enrichPostWithCounts(post);
     }
@@ -435,6 +831,8 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
 
         postRepository.delete(post);
 
+        eventPublisher.publishEvent(new PostDeletedEvent(post.getId(), post.getAuthor().getId()));
+
         log.info("Publicación {} eliminada correctamente por el usuario {}", id, currentUser.getId());
     }
 
@@ -518,4 +916,11 @@ public class PostServiceImpl extends GenericServiceImpl<Post, Long> implements P
 
         return "Publicación";
     }
+
+    /**
+     * Contadores de visualización persistidos de un post.
+     */
+    private record ViewCounts(long viewCount, long uniqueViewers) {
+        private static final ViewCounts NONE = new ViewCounts(0, 0);
+    }
 }
@@ -0,0 +1,106 @@
+package com.mindhub.api.service.post;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mindhub.api.model.enums.TagType;
+import com.mindhub.api.model.post.Post;
+import com.mindhub.api.model.post.PostTag;
+import com.mindhub.api.repository.post.PostRepository;
+import com.mindhub.api.repository.post.PostTagRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relleno del índice de hashtags y menciones para las publicaciones creadas
+ * antes de que existiera.
+ *
+ * Al arrancar recorre por tramos los posts que contienen {@code #} o
+ * {@code @} y no tienen ninguna etiqueta indexada, extrae sus etiquetas y
+ * las guarda con la fecha de creación del post, para que no cuenten como
+ * tendencia actual. Es idempotente: los posts ya indexados no se vuelven a
+ * procesar, así que en los arranques siguientes solo revisa los que no
+ * tienen etiquetas válidas.
+ *
+ * Se ejecuta antes de reconstruir las tendencias, que leen este índice.
+ */
+
+@Slf4j
+@Component
+public class PostTagBackfill {
+
+    private final PostRepository postRepository;
+    private final PostTagRepository postTagRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PostTagBackfill(PostRepository postRepository,
+            PostTagRepository postTagRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.posts.tags.backfill-batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.postTagRepository = postTagRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int posts = 0;
+        int tags = 0;
+        try {
+            while (true) {
+                List<Long> ids = postTagRepository.findUntaggedPostIds(afterId, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Integer saved = transactionTemplate.execute(status -> indexBatch(ids));
+                tags += saved != null ? saved : 0;
+                posts += ids.size();
+                afterId = ids.get(ids.size() - 1);
+
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Se reanuda en el siguiente arranque desde los posts que sigan sin etiquetas
+            log.error("Relleno del índice de etiquetas interrumpido tras {} publicaciones", posts, e);
+            return;
+        }
+
+        if (tags > 0) {
+            log.info("Índice de etiquetas rellenado: {} etiquetas de {} publicaciones", tags, posts);
+        } else {
+            log.debug("Índice de etiquetas sin publicaciones pendientes de rellenar ({} revisadas)", posts);
+        }
+    }
+
+    private int indexBatch(List<Long> ids) {
+        List<PostTag> rows = new ArrayList<>();
+        for (Post post : postRepository.findAllById(ids)) {
+            for (TagType type : TagType.values()) {
+                for (String value : PostTagExtractor.extract(post.getContent(), type)) {
+                    rows.add(PostTag.builder()
+                            .post(post)
+                            .type(type)
+                            .tag(value)
+                            .createdAt(post.getCreationDate().atStartOfDay())
+                            .build());
+                }
+            }
+        }
+        postTagRepository.saveAll(rows);
+        return rows.size();
+    }
+}
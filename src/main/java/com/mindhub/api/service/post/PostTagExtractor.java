@@ -0,0 +1,75 @@
+package com.mindhub.api.service.post;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.mindhub.api.model.enums.TagType;
+
+/**
+ * Extrae hashtags y menciones del texto de una publicación.
+ *
+ * Un hashtag es {@code #} seguido de letras, dígitos o guiones bajos (se
+ * admiten tildes y eñes) y una mención es {@code @} seguido de un nombre de
+ * usuario de 3 a 20 caracteres. Ninguno cuenta si va pegado a una palabra,
+ * como en un correo electrónico. Las etiquetas se devuelven en minúsculas,
+ * sin el prefijo y sin repetir.
+ */
+
+public final class PostTagExtractor {
+
+    /** Máximo de etiquetas de cada tipo que se indexan por publicación. */
+    public static final int MAX_TAGS_PER_TYPE = 20;
+
+    public static final int MAX_HASHTAG_LENGTH = 50;
+
+    private static final Pattern HASHTAG = Pattern
+            .compile("(?<![\\p{L}\\p{N}_#@])#([\\p{L}\\p{N}_]{1," + MAX_HASHTAG_LENGTH + "})(?![\\p{L}\\p{N}_])");
+
+    private static final Pattern MENTION = Pattern
+            .compile("(?<![\\p{L}\\p{N}_#@.])@([\\p{L}\\p{N}_]{3,20})(?![\\p{L}\\p{N}_])");
+
+    private PostTagExtractor() {
+    }
+
+    /**
+     * Devuelve las etiquetas de un tipo presentes en el texto.
+     *
+     * @param content texto de la publicación
+     * @param type    tipo de etiqueta a extraer
+     * @return etiquetas normalizadas en orden de aparición
+     */
+    public static Set<String> extract(String content, TagType type) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (content == null || content.isEmpty()) {
+            return tags;
+        }
+
+        Matcher matcher = (type == TagType.HASHTAG ? HASHTAG : MENTION).matcher(content);
+        while (matcher.find() && tags.size() < MAX_TAGS_PER_TYPE) {
+            // Pasar a minúsculas puede alargar el texto ("İ" pasa a dos caracteres)
+            String tag = normalize(matcher.group(1));
+            if (tag.length() <= MAX_HASHTAG_LENGTH) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Normaliza una etiqueta recibida en una petición: quita el prefijo y
+     * la pasa a minúsculas.
+     *
+     * @param tag etiqueta con o sin prefijo
+     * @return etiqueta normalizada
+     */
+    public static String normalize(String tag) {
+        String value = tag.strip();
+        if (value.startsWith("#") || value.startsWith("@")) {
+            value = value.substring(1);
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,182 @@
+package com.mindhub.api.service.post;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mindhub.api.event.PostDeletedEvent;
+import com.mindhub.api.model.post.PostViewStats;
+import com.mindhub.api.repository.post.PostViewStatsRepository;
+import com.mindhub.api.service.stats.HyperLogLog;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registro de visualizaciones de publicaciones.
+ *
+ * Cada post visto tiene en memoria un contador {@link LongAdder} (repartido
+ * en celdas para que las visitas concurrentes no compitan) y un sketch
+ * HyperLogLog de espectadores. Registrar una visita no bloquea ni reserva
+ * memoria salvo la primera vez que se ve un post desde el último volcado.
+ *
+ * Un proceso periódico suma las visitas pendientes a {@code post_view_stats},
+ * une el sketch en memoria con el persistido y guarda la nueva estimación de
+ * espectadores únicos. Los contadores que exponen las respuestas son el
+ * valor persistido más las visitas pendientes.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewTracker {
+
+    /** 2^10 registros (1 KB por post) con un error típico del 3 %. */
+    private static final int SKETCH_PRECISION = 10;
+
+    private final PostViewStatsRepository postViewStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, PendingViews> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Registra una visualización de un post.
+     *
+     * @param postId   ID del post
+     * @param viewerId ID del usuario que lo ve (null si no se conoce)
+     */
+    public void record(Long postId, Long viewerId) {
+        while (true) {
+            PendingViews views = pending.computeIfAbsent(postId, id -> new PendingViews());
+            views.count.increment();
+            if (viewerId != null && views.viewers.offer(viewerId)) {
+                views.sketchChanged.set(true);
+            }
+            if (!views.retired) {
+                return;
+            }
+            // El volcado está liberando esta entrada: se deshace y se repite en la vigente
+            views.count.decrement();
+        }
+    }
+
+    /**
+     * Devuelve las visitas registradas en memoria y aún no volcadas.
+     *
+     * @param postId ID del post
+     * @return visitas pendientes
+     */
+    public long pendingViews(Long postId) {
+        PendingViews views = pending.get(postId);
+        return views != null ? views.count.sum() : 0;
+    }
+
+    /**
+     * Vuelca las visitas pendientes en lote.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.views.flush-interval-ms:30000}")
+    public synchronized void flush() {
+        Map<Long, Long> counts = new HashMap<>();
+        Map<Long, HyperLogLog> sketches = new HashMap<>();
+
+        for (Map.Entry<Long, PendingViews> entry : pending.entrySet()) {
+            PendingViews views = entry.getValue();
+            long count = views.count.sumThenReset();
+            boolean sketchChanged = views.sketchChanged.getAndSet(false);
+
+            if (count == 0 && !sketchChanged) {
+                // Sin actividad desde el último volcado: se libera la memoria del post
+                release(entry.getKey(), views);
+                continue;
+            }
+            counts.put(entry.getKey(), count);
+            sketches.put(entry.getKey(), views.viewers);
+        }
+
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, PostViewStats> stored = new HashMap<>();
+                postViewStatsRepository.findAllById(new ArrayList<>(counts.keySet()))
+                        .forEach(stats -> stored.put(stats.getPostId(), stats));
+
+                counts.forEach((postId, count) -> {
+                    HyperLogLog merged = sketches.get(postId).copy();
+                    PostViewStats previous = stored.get(postId);
+                    if (previous != null && previous.getViewerSketch() != null) {
+                        try {
+                            merged.merge(HyperLogLog.fromBytes(previous.getViewerSketch()));
+                        } catch (IllegalArgumentException e) {
+                            log.warn("Sketch de visitantes de la publicación {} corrupto, se reemplaza: {}", postId,
+                                    e.getMessage());
+                        }
+                    }
+                    postViewStatsRepository.addViews(postId, count, merged.estimate(), merged.toBytes());
+                });
+            });
+
+            log.debug("Volcadas visualizaciones de {} publicaciones", counts.size());
+        } catch (RuntimeException e) {
+            // Se devuelven las visitas para reintentarlas; el sketch sigue en memoria
+            counts.forEach((postId, count) -> {
+                PendingViews views = pending.computeIfAbsent(postId, id -> new PendingViews());
+                views.count.add(count);
+                views.sketchChanged.set(true);
+            });
+            log.error("No se pudieron volcar las visualizaciones de publicaciones", e);
+        }
+    }
+
+    /**
+     * Libera la entrada de un post sin actividad.
+     *
+     * La entrada se marca como retirada antes de comprobar que sigue vacía:
+     * una visita registrada a la vez o bien ya es visible en la comprobación y
+     * la entrada se conserva, o bien ve la marca y se repite en una entrada
+     * nueva, de modo que ninguna se pierde.
+     */
+    private void release(Long postId, PendingViews views) {
+        views.retired = true;
+        if (views.count.sum() == 0 && !views.sketchChanged.get()) {
+            pending.remove(postId, views);
+        } else {
+            views.retired = false;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPostDeleted(PostDeletedEvent event) {
+        pending.remove(event.postId());
+        postViewStatsRepository.deleteByPostId(event.postId());
+    }
+
+    /**
+     * Visitas de un post acumuladas desde el último volcado.
+     */
+    private static final class PendingViews {
+        private final LongAdder count = new LongAdder();
+        private final HyperLogLog viewers = new HyperLogLog(SKETCH_PRECISION);
+        private final AtomicBoolean sketchChanged = new AtomicBoolean();
+        private volatile boolean retired;
+    }
+}
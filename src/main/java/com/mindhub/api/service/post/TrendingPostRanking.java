@@ -0,0 +1,239 @@
+package com.mindhub.api.service.post;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.event.PostCreatedEvent;
+import com.mindhub.api.event.PostDeletedEvent;
+import com.mindhub.api.event.PostEngagementEvent;
+import com.mindhub.api.repository.post.PostRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ranking en memoria de publicaciones en tendencia.
+ *
+ * Cada publicación tiene una puntuación de interacción con decaimiento
+ * exponencial: crear el post, cada reacción y cada comentario suman un peso
+ * que se reduce a la mitad cada {@code half-life-hours}. En lugar de
+ * envejecer todas las puntuaciones, cada aporte se escala por
+ * {@code 2^((t - ancla) / vida media)}; el orden resultante es el mismo que
+ * con las puntuaciones decaídas en cualquier instante, así que un evento solo
+ * modifica su publicación. Un proceso periódico mueve el ancla al instante
+ * actual para que los factores no crezcan sin límite.
+ *
+ * El ranking guarda como mucho {@code capacity} publicaciones; al superarlo
+ * se descarta la de menor puntuación. Al arrancar se reconstruye con las
+ * publicaciones, reacciones y comentarios de los últimos días (solo se
+ * conoce su fecha, así que se toman al inicio del día).
+ *
+ * Al quitar una reacción o un comentario se resta el mismo aporte que sumó:
+ * se recuerda el instante en que se registró cada interacción añadida
+ * mientras su post sigue en el ranking, y las cargadas al arrancar se restan
+ * al inicio del día, como se sumaron. Las anteriores a la carga no sumaron
+ * nada y no se restan.
+ */
+
+@Slf4j
+@Component
+public class TrendingPostRanking {
+
+    private static final double CREATION_WEIGHT = 1.0;
+    private static final double REACTION_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+
+    /** Puntuación, ya decaída, por debajo de la cual se descarta un post. */
+    private static final double MIN_SCORE = 0.01;
+
+    private static final Comparator<RankedPost> ORDER = Comparator
+            .comparingDouble(RankedPost::score).reversed()
+            .thenComparing(Comparator.comparingLong(RankedPost::postId).reversed());
+
+    private final PostRepository postRepository;
+    private final double halfLifeMillis;
+    private final int capacity;
+    private final int seedDays;
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final NavigableSet<RankedPost> ranking = new TreeSet<>(ORDER);
+    private final Map<Engagement, Contribution> contributions = new HashMap<>();
+    private long anchorMillis = System.currentTimeMillis();
+
+    /** Primer día cargado al arrancar, o null si aún no se ha cargado. */
+    private LocalDate seededSince;
+
+    public TrendingPostRanking(PostRepository postRepository,
+            @Value("${app.posts.trending.half-life-hours:12}") double halfLifeHours,
+            @Value("${app.posts.trending.capacity:2000}") int capacity,
+            @Value("${app.posts.trending.seed-days:7}") int seedDays) {
+        this.postRepository = postRepository;
+        this.halfLifeMillis = halfLifeHours * 3_600_000L;
+        this.capacity = capacity;
+        this.seedDays = seedDays;
+    }
+
+    /**
+     * Devuelve los IDs del ranking de mayor a menor puntuación.
+     *
+     * @return IDs de publicaciones ordenados
+     */
+    public synchronized List<Long> rankedPostIds() {
+        List<Long> ids = new ArrayList<>(ranking.size());
+        for (RankedPost ranked : ranking) {
+            ids.add(ranked.postId());
+        }
+        return ids;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        add(event.postId(), CREATION_WEIGHT, LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostEngagement(PostEngagementEvent event) {
+        double weight = event.kind() == PostEngagementEvent.Kind.COMMENT ? COMMENT_WEIGHT : REACTION_WEIGHT;
+        Engagement engagement = new Engagement(event.kind(), event.engagementId());
+
+        if (event.delta() > 0) {
+            contributions.put(engagement, new Contribution(event.postId(), event.occurredAt()));
+            add(event.postId(), weight, event.occurredAt());
+            return;
+        }
+
+        Contribution contribution = contributions.remove(engagement);
+        LocalDateTime occurredAt;
+        if (contribution != null) {
+            occurredAt = contribution.occurredAt();
+        } else if (seededSince != null && !event.occurredAt().toLocalDate().isBefore(seededSince)) {
+            // Cargada al arrancar: se sumó al inicio de su día
+            occurredAt = event.occurredAt();
+        } else {
+            return;
+        }
+        add(event.postId(), weight * event.delta(), occurredAt);
+    }
+
+    /**
+     * Devuelve la puntuación actual de un post relativa al ancla, o 0 si no
+     * está en el ranking.
+     */
+    synchronized double score(Long postId) {
+        return scores.getOrDefault(postId, 0.0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostDeleted(PostDeletedEvent event) {
+        Double score = scores.remove(event.postId());
+        if (score != null) {
+            ranking.remove(new RankedPost(event.postId(), score));
+        }
+    }
+
+    /**
+     * Reconstruye el ranking con la actividad de los últimos días.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDate since = LocalDate.now().minusDays(seedDays - 1L);
+        synchronized (this) {
+            seededSince = since;
+        }
+
+        for (Object[] row : postRepository.findIdsAndCreationDatesSince(since)) {
+            add((Long) row[0], CREATION_WEIGHT, ((LocalDate) row[1]).atStartOfDay());
+        }
+        for (Object[] row : postRepository.countReactionsPerPostAndDaySince(since)) {
+            add((Long) row[0], REACTION_WEIGHT * (Long) row[2], ((LocalDate) row[1]).atStartOfDay());
+        }
+        for (Object[] row : postRepository.countCommentsPerPostAndDaySince(since)) {
+            add((Long) row[0], COMMENT_WEIGHT * (Long) row[2], ((LocalDate) row[1]).atStartOfDay());
+        }
+
+        log.info("Ranking de tendencias reconstruido con {} publicaciones de los últimos {} días",
+                scores.size(), seedDays);
+    }
+
+    /**
+     * Mueve el ancla al instante actual y descarta las publicaciones cuya
+     * puntuación ya es despreciable.
+     */
+    @Scheduled(fixedDelayString = "${app.posts.trending.rebase-interval-ms:3600000}")
+    public synchronized void rebase() {
+        long now = System.currentTimeMillis();
+        double factor = Math.pow(2, -(now - anchorMillis) / halfLifeMillis);
+        anchorMillis = now;
+
+        List<RankedPost> rescaled = new ArrayList<>(ranking.size());
+        for (RankedPost ranked : ranking) {
+            double score = ranked.score() * factor;
+            if (score >= MIN_SCORE) {
+                rescaled.add(new RankedPost(ranked.postId(), score));
+            }
+        }
+
+        int dropped = ranking.size() - rescaled.size();
+        scores.clear();
+        ranking.clear();
+        for (RankedPost ranked : rescaled) {
+            scores.put(ranked.postId(), ranked.score());
+            ranking.add(ranked);
+        }
+        // Las interacciones de posts que ya no están en el ranking no se vuelven a restar
+        contributions.values().removeIf(contribution -> !scores.containsKey(contribution.postId()));
+
+        log.debug("Ranking de tendencias reescalado: {} publicaciones, {} descartadas", rescaled.size(), dropped);
+    }
+
+    private synchronized void add(Long postId, double weight, LocalDateTime occurredAt) {
+        long millis = occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        double increment = weight * Math.pow(2, (millis - anchorMillis) / halfLifeMillis);
+
+        Double previous = scores.get(postId);
+        if (previous == null && increment <= 0) {
+            return;
+        }
+        if (previous != null) {
+            ranking.remove(new RankedPost(postId, previous));
+        }
+
+        double score = (previous != null ? previous : 0) + increment;
+        if (score <= 0) {
+            scores.remove(postId);
+            return;
+        }
+
+        RankedPost ranked = new RankedPost(postId, score);
+        scores.put(postId, score);
+        ranking.add(ranked);
+
+        if (ranking.size() > capacity) {
+            RankedPost weakest = ranking.pollLast();
+            scores.remove(weakest.postId());
+        }
+    }
+
+    private record RankedPost(long postId, double score) {
+    }
+
+    private record Engagement(PostEngagementEvent.Kind kind, Long id) {
+    }
+
+    private record Contribution(long postId, LocalDateTime occurredAt) {
+    }
+}
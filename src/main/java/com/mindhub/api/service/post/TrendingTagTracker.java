@@ -0,0 +1,210 @@
+package com.mindhub.api.service.post;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.dto.post.TrendingTagResponse;
+import com.mindhub.api.event.PostTaggedEvent;
+import com.mindhub.api.model.enums.PrivacyType;
+import com.mindhub.api.repository.post.PostTagRepository;
+import com.mindhub.api.service.stats.CountMinSketch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashtags en tendencia sobre ventanas deslizantes de horas.
+ *
+ * Cada hora tiene un sketch Count-Min con la frecuencia de sus hashtags y un
+ * conjunto acotado de candidatos (los más frecuentes de esa hora). Las horas
+ * se guardan en un anillo que cubre el máximo de la ventana; al empezar una
+ * hora nueva se reutiliza la posición de la más antigua.
+ *
+ * Para consultar una ventana se suman las estimaciones de los candidatos de
+ * sus horas y se eligen los primeros con un montículo de tamaño K, sin
+ * consultar la tabla de posts. Solo cuentan las publicaciones públicas.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingTagTracker {
+
+    public static final int MAX_WINDOW_HOURS = 7 * 24;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1024;
+    private static final int MAX_CANDIDATES_PER_HOUR = 200;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    private final PostTagRepository postTagRepository;
+
+    private final AtomicReferenceArray<HourSlot> slots = new AtomicReferenceArray<>(MAX_WINDOW_HOURS);
+
+    /**
+     * Registra el uso de hashtags en una hora.
+     *
+     * @param hashtags hashtags normalizados
+     * @param time     momento de uso
+     */
+    public void record(Set<String> hashtags, LocalDateTime time) {
+        long hour = hourOf(time);
+        if (hour <= currentHour() - MAX_WINDOW_HOURS) {
+            return;
+        }
+        HourSlot slot = slotFor(hour);
+        for (String hashtag : hashtags) {
+            slot.add(hashtag);
+        }
+    }
+
+    /**
+     * Devuelve los hashtags más usados en las últimas horas.
+     *
+     * @param hours número de horas de la ventana (hasta {@link #MAX_WINDOW_HOURS})
+     * @param limit número máximo de hashtags
+     * @return hashtags ordenados por frecuencia estimada descendente
+     */
+    public List<TrendingTagResponse> trending(int hours, int limit) {
+        long now = currentHour();
+        List<HourSlot> window = new ArrayList<>(hours);
+        Set<String> candidates = new HashSet<>();
+        for (long hour = now - hours + 1; hour <= now; hour++) {
+            HourSlot slot = slots.get(indexOf(hour));
+            if (slot != null && slot.hour == hour) {
+                window.add(slot);
+                candidates.addAll(slot.candidates());
+            }
+        }
+
+        PriorityQueue<TrendingTagResponse> top = new PriorityQueue<>(
+                Comparator.comparingLong(TrendingTagResponse::count));
+        for (String candidate : candidates) {
+            long count = 0;
+            for (HourSlot slot : window) {
+                count += slot.sketch.estimate(candidate);
+            }
+            if (top.size() < limit) {
+                top.add(new TrendingTagResponse(candidate, count));
+            } else if (count > top.peek().count()) {
+                top.poll();
+                top.add(new TrendingTagResponse(candidate, count));
+            }
+        }
+
+        List<TrendingTagResponse> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingLong(TrendingTagResponse::count).reversed()
+                .thenComparing(TrendingTagResponse::tag));
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostTagged(PostTaggedEvent event) {
+        if (event.privacyType() == PrivacyType.PUBLIC) {
+            record(event.hashtags(), event.taggedAt());
+        }
+    }
+
+    /**
+     * Reconstruye los sketches con los hashtags de la ventana máxima, que se
+     * pierden al reiniciar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime since = LocalDateTime.now().minusHours(MAX_WINDOW_HOURS);
+        List<Object[]> rows = postTagRepository.findPublicHashtagsSince(since);
+        for (Object[] row : rows) {
+            record(Set.of((String) row[0]), (LocalDateTime) row[1]);
+        }
+
+        log.info("Tendencias de hashtags cargadas: {} usos en las últimas {} horas", rows.size(), MAX_WINDOW_HOURS);
+    }
+
+    private HourSlot slotFor(long hour) {
+        int index = indexOf(hour);
+        while (true) {
+            HourSlot slot = slots.get(index);
+            if (slot != null && slot.hour == hour) {
+                return slot;
+            }
+            if (slot != null && slot.hour > hour) {
+                // La posición ya pertenece a una hora más reciente: el uso cae fuera de la ventana
+                return new HourSlot(hour);
+            }
+            HourSlot fresh = new HourSlot(hour);
+            if (slots.compareAndSet(index, slot, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static int indexOf(long hour) {
+        return (int) Math.floorMod(hour, (long) MAX_WINDOW_HOURS);
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / MILLIS_PER_HOUR;
+    }
+
+    private static long hourOf(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / MILLIS_PER_HOUR;
+    }
+
+    /**
+     * Frecuencias de hashtags de una hora y sus candidatos a tendencia.
+     *
+     * Los candidatos son un top-K aproximado: si ya hay el máximo, un hashtag
+     * nuevo solo entra si su estimación supera a la del candidato más débil.
+     */
+    private static final class HourSlot {
+
+        private final long hour;
+        private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        private final Map<String, Long> candidates = new HashMap<>();
+
+        private HourSlot(long hour) {
+            this.hour = hour;
+        }
+
+        private void add(String hashtag) {
+            long estimate = sketch.add(hashtag, 1);
+            synchronized (candidates) {
+                if (candidates.containsKey(hashtag) || candidates.size() < MAX_CANDIDATES_PER_HOUR) {
+                    candidates.put(hashtag, estimate);
+                    return;
+                }
+
+                Map.Entry<String, Long> weakest = null;
+                for (Map.Entry<String, Long> entry : candidates.entrySet()) {
+                    if (weakest == null || entry.getValue() < weakest.getValue()) {
+                        weakest = entry;
+                    }
+                }
+                if (estimate > weakest.getValue()) {
+                    candidates.remove(weakest.getKey());
+                    candidates.put(hashtag, estimate);
+                }
+            }
+        }
+
+        private Set<String> candidates() {
+            synchronized (candidates) {
+                return new HashSet<>(candidates.keySet());
+            }
+        }
+    }
+}
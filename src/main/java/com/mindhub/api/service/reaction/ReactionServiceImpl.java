@@ -3,6 +3,7 @@ package com.mindhub.api.service.reaction;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -10,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.mindhub.api.dto.reaction.ReactionRequest;
 import com.mindhub.api.dto.reaction.ReactionResponse;
+import com.mindhub.api.event.PostEngagementEvent;
 import com.mindhub.api.exception.PostNotFoundException;
 import com.mindhub.api.exception.ReactionNotFoundException;
 import com.mindhub.api.mapper.reaction.ReactionMapper;
@@ -46,13 +48,15 @@ public class ReactionServiceImpl extends GenericServiceImpl<Reaction, Long> impl
     private final UserService userService;
     private final NotificationService notificationService;
     private final com.mindhub.api.service.follow.FollowService followService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ReactionServiceImpl(ReactionRepository reactionRepository,
             PostRepository postRepository,
             ReactionMapper reactionMapper,
             UserService userService,
             NotificationService notificationService,
-            com.mindhub.api.service.follow.FollowService followService) {
+            com.mindhub.api.service.follow.FollowService followService,
+            ApplicationEventPublisher eventPublisher) {
         super(reactionRepository);
         this.reactionRepository = reactionRepository;
         this.postRepository = postRepository;
@@ -60,6 +64,7 @@ public class ReactionServiceImpl extends GenericServiceImpl<Reaction, Long> impl
         this.userService = userService;
         this.notificationService = notificationService;
         this.followService = followService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -99,6 +104,9 @@ public class ReactionServiceImpl extends GenericServiceImpl<Reaction, Long> impl
 
                 delete(existingReaction);
 
+                eventPublisher.publishEvent(PostEngagementEvent.removed(post.getId(),
+                        PostEngagementEvent.Kind.REACTION, existingReaction.getId(), existingReaction.getCreationDate()));
+
                 return null;
             } else {
                 log.info("Usuario {} cambió su reacción de '{}' a '{}' en la publicación {}",
@@ -118,6 +126,9 @@ public class ReactionServiceImpl extends GenericServiceImpl<Reaction, Long> impl
 
             isNewReaction = true;
 
+            eventPublisher.publishEvent(PostEngagementEvent.added(post.getId(), PostEngagementEvent.Kind.REACTION,
+                    reaction.getId()));
+
             log.info("Usuario {} creó una nueva reacción '{}' en la publicación {}", currentUser.getId(),
                     reaction.getType(),
                     post.getId());
@@ -126,11 +137,10 @@ public class ReactionServiceImpl extends GenericServiceImpl<Reaction, Long> impl
         userService.updateLastActivity(currentUser.getId());
 
         if (isNewReaction) {
-            notificationService.createNotificationWithReference(
+            notificationService.createAggregatedNotification(
                     post.getAuthor(),
+                    currentUser,
                     "Nueva reacción",
-                    currentUser.getFirstName() + " " + currentUser.getLastName() +
-                            " ha reaccionado a tu publicación",
                     NotificationType.REACTION,
                     post.getId(),
                     "posts");
@@ -162,6 +172,9 @@ public class ReactionServiceImpl extends GenericServiceImpl<Reaction, Long> impl
 
         delete(reaction);
 
+        eventPublisher.publishEvent(PostEngagementEvent.removed(postId,
+                PostEngagementEvent.Kind.REACTION, reaction.getId(), reaction.getCreationDate()));
+
         log.info("Usuario {} eliminó su reacción '{}' en la publicación {}", currentUser.getId(), reaction.getType(),
                 postId);
     }
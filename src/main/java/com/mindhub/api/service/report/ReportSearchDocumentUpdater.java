@@ -0,0 +1,43 @@
+package com.mindhub.api.service.report;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.event.UserChangedEvent;
+import com.mindhub.api.repository.report.ReportRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantiene al día el documento de búsqueda de los reportes cuando cambian
+ * los datos del usuario que los realizó.
+ *
+ * Se ejecuta tras confirmar el cambio del usuario y en su propia transacción,
+ * ya que la transacción original ya no admite escrituras en ese punto.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportSearchDocumentUpdater {
+
+    private final ReportRepository reportRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.deleted()) {
+            return;
+        }
+
+        int updated = reportRepository.refreshSearchDocuments(event.userId(), event.username(),
+                event.firstName(), event.lastName());
+
+        if (updated > 0) {
+            log.debug("Documento de búsqueda actualizado en {} reportes del usuario {}", updated, event.userId());
+        }
+    }
+}
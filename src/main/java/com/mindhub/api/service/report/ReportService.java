@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 
 import com.mindhub.api.dto.report.ReportRequest;
 import com.mindhub.api.dto.report.ReportResponse;
+import com.mindhub.api.dto.report.ReportSearchPage;
 import com.mindhub.api.model.enums.ReportStatus;
 import com.mindhub.api.model.report.Report;
 import com.mindhub.api.service.base.GenericService;
@@ -82,12 +83,14 @@ public interface ReportService extends GenericService<Report, Long> {
     long countResolvedReports();
 
     /**
-     * Obtiene todos los reportes con filtros aplicados.
+     * Obtiene todos los reportes con filtros aplicados, del más reciente al
+     * más antiguo y paginados por cursor.
      * 
-     * @param status   Filtro por estado
-     * @param search   Filtro de búsqueda
-     * @param pageable Configuración de paginación
-     * @return Página de reportes filtrados
+     * @param status Filtro por estado (opcional)
+     * @param search Filtro de búsqueda (opcional)
+     * @param cursor Cursor devuelto por la página anterior (null para la primera)
+     * @param size   Número máximo de reportes
+     * @return Página de reportes filtrados con el cursor de la siguiente
      */
-    Page<ReportResponse> getAllReportsWithFilters(String status, String search, Pageable pageable);
+    ReportSearchPage getAllReportsWithFilters(String status, String search, String cursor, int size);
 }
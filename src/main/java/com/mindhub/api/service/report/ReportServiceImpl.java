@@ -2,8 +2,9 @@ package com.mindhub.api.service.report;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.mindhub.api.dto.report.ReportRequest;
 import com.mindhub.api.dto.report.ReportResponse;
+import com.mindhub.api.dto.report.ReportSearchPage;
+import com.mindhub.api.event.PostDeletedEvent;
+import com.mindhub.api.event.ReportStatusChangedEvent;
 import com.mindhub.api.exception.PostDeletionException;
 import com.mindhub.api.exception.PostNotFoundException;
 import com.mindhub.api.exception.ReportNotFoundException;
@@ -21,13 +25,11 @@ import com.mindhub.api.model.enums.NotificationType;
 import com.mindhub.api.model.enums.ReportStatus;
 import com.mindhub.api.model.post.Post;
 import com.mindhub.api.model.report.Report;
-import com.mindhub.api.model.role.Role;
 import com.mindhub.api.model.user.User;
 import com.mindhub.api.repository.comment.CommentRepository;
 import com.mindhub.api.repository.post.PostRepository;
 import com.mindhub.api.repository.reaction.ReactionRepository;
 import com.mindhub.api.repository.report.ReportRepository;
-import com.mindhub.api.repository.user.UserRepository;
 import com.mindhub.api.service.admin.AdminActionService;
 import com.mindhub.api.service.base.GenericServiceImpl;
 import com.mindhub.api.service.notification.NotificationService;
@@ -48,35 +50,38 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class ReportServiceImpl extends GenericServiceImpl<Report, Long> implements ReportService {
 
+    private static final int MAX_REPORT_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LENGTH = 200;
+
     private final ReportRepository reportRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final ReactionRepository reactionRepository;
-    private final UserRepository userRepository;
     private final ReportMapper reportMapper;
     private final UserService userService;
     private final NotificationService notificationService;
     private final AdminActionService adminActionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ReportServiceImpl(ReportRepository reportRepository,
             PostRepository postRepository,
             CommentRepository commentRepository,
             ReactionRepository reactionRepository,
-            UserRepository userRepository,
             ReportMapper reportMapper,
             UserService userService,
             NotificationService notificationService,
-            AdminActionService adminActionService) {
+            AdminActionService adminActionService,
+            ApplicationEventPublisher eventPublisher) {
         super(reportRepository);
         this.reportRepository = reportRepository;
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.reactionRepository = reactionRepository;
-        this.userRepository = userRepository;
         this.reportMapper = reportMapper;
         this.userService = userService;
         this.notificationService = notificationService;
         this.adminActionService = adminActionService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -116,6 +121,8 @@ public class ReportServiceImpl extends GenericServiceImpl<Report, Long> implemen
 
         Report savedReport = save(report);
 
+        eventPublisher.publishEvent(new ReportStatusChangedEvent(savedReport.getId(), null, ReportStatus.PENDING));
+
         log.info("Reporte {} creado por el usuario {} sobre la publicación {}", savedReport.getId(),
                 currentUser.getId(),
                 post.getId());
@@ -270,15 +277,20 @@ public class ReportServiceImpl extends GenericServiceImpl<Report, Long> implemen
     /**
      * Obtiene todos los reportes con filtros aplicados.
      * 
-     * @param status   Filtro por estado
-     * @param search   Filtro de búsqueda
-     * @param pageable Configuración de paginación
+     * El filtro de texto se resuelve sobre el documento de búsqueda indexado
+     * por trigramas y el orden por fecha usa el índice parcial del estado
+     * pedido. El cursor tiene la forma {@code fecha:id} del último reporte.
+     * 
+     * @param status Filtro por estado
+     * @param search Filtro de búsqueda
+     * @param cursor Cursor devuelto por la página anterior
+     * @param size   Número máximo de reportes
      * @return Página de reportes filtrados
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<ReportResponse> getAllReportsWithFilters(String status, String search, Pageable pageable) {
-        log.debug("Buscando reportes con filtros -> status: {}, search: {}", status, search);
+    public ReportSearchPage getAllReportsWithFilters(String status, String search, String cursor, int size) {
+        log.debug("Buscando reportes con filtros -> status: {}, search: {}, cursor: {}", status, search, cursor);
 
         if (!userService.isCurrentUserAdmin()) {
             log.error("Acceso denegado: usuario sin permisos intentó ver todos los reportes");
@@ -286,11 +298,46 @@ public class ReportServiceImpl extends GenericServiceImpl<Report, Long> implemen
             throw new IllegalStateException("Solo los administradores pueden ver todos los reportes");
         }
 
-        Page<Report> reports = reportRepository.findReportsWithFilters(status, search, pageable);
+        ReportStatus reportStatus = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                reportStatus = ReportStatus.valueOf(status.strip().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Estado de reporte no válido: " + status);
+            }
+        }
+
+        LocalDateTime afterDate = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf(':');
+            try {
+                afterDate = LocalDateTime.parse(cursor.substring(0, separator));
+                afterId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Cursor de reportes inválido: " + cursor);
+            }
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_REPORT_PAGE_SIZE));
+        String texto = search != null && search.length() > MAX_SEARCH_LENGTH
+                ? search.substring(0, MAX_SEARCH_LENGTH)
+                : search;
+
+        List<Report> reports = reportRepository.searchReports(reportStatus, texto, afterDate, afterId, pageSize + 1);
+
+        boolean hasMore = reports.size() > pageSize;
+        List<Report> page = hasMore ? reports.subList(0, pageSize) : reports;
 
-        log.info("Se encontraron {} reportes con los filtros aplicados", reports.getTotalElements());
+        String nextCursor = null;
+        if (hasMore) {
+            Report last = page.get(page.size() - 1);
+            nextCursor = last.getReportDate() + ":" + last.getId();
+        }
+
+        log.info("Se encontraron {} reportes con los filtros aplicados", page.size());
 
-        return reports.map(reportMapper::toResponse);
+        return new ReportSearchPage(page.stream().map(reportMapper::toResponse).toList(), nextCursor, hasMore);
     }
 
     /**
@@ -336,12 +383,16 @@ public class ReportServiceImpl extends GenericServiceImpl<Report, Long> implemen
      * @param status Nuevo estado
      */
     private void updateReportStatus(Report report, ReportStatus status) {
+        ReportStatus previousStatus = report.getStatus();
+
         report.setStatus(status);
 
         report.setReviewDate(LocalDateTime.now());
 
         save(report);
 
+        eventPublisher.publishEvent(new ReportStatusChangedEvent(report.getId(), previousStatus, status));
+
         log.info("Reporte {} actualizado a estado {}", report.getId(), status);
     }
 
@@ -380,6 +431,8 @@ public class ReportServiceImpl extends GenericServiceImpl<Report, Long> implemen
 
         postRepository.deleteById(post.getId());
 
+        eventPublisher.publishEvent(new PostDeletedEvent(post.getId(), postAuthor.getId()));
+
         if (!postRepository.existsById(post.getId())) {
             log.info("Publicación {} eliminada correctamente por el admin {}", post.getId(), admin.getId());
 
@@ -484,34 +537,13 @@ public class ReportServiceImpl extends GenericServiceImpl<Report, Long> implemen
     private void createAdminNotificationForReport(Report report) {
         log.debug("Creando notificación para administradores sobre el reporte {}", report.getId());
 
-        List<User> allUsers = userRepository.findAll();
-
-        List<User> adminUsers = allUsers.stream()
-                .filter(user -> user.getRole() != null &&
-                        Role.ADMIN.equals(user.getRole().getName()) &&
-                        user.getActive())
-                .collect(Collectors.toList());
-
-        if (adminUsers.isEmpty()) {
-            log.warn("No hay administradores activos para notificar sobre el reporte {}", report.getId());
-            return;
-        }
-
         String title = "Nuevo reporte pendiente";
         String message = String.format("Se ha recibido un nuevo reporte: %s",
                 truncateText(report.getReason(), 50));
 
-        adminUsers.forEach(admin -> {
-            log.debug("Notificando al admin {} sobre el reporte {}", admin.getId(), report.getId());
-
-            notificationService.createNotificationWithReference(
-                    admin,
-                    title,
-                    message,
-                    NotificationType.ADMIN_ACTION,
-                    report.getId(),
-                    "reports");
-        });
+        int notified = notificationService.notifyActiveAdmins(title, message, report.getId(), "reports");
+
+        log.debug("Notificados {} administradores sobre el reporte {}", notified, report.getId());
     }
 
     /**
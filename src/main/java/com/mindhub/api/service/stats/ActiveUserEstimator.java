@@ -0,0 +1,208 @@
+package com.mindhub.api.service.stats;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mindhub.api.event.UserActivityEvent;
+import com.mindhub.api.model.stats.ActiveUserSketch;
+import com.mindhub.api.repository.stats.ActiveUserSketchRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Estimación de usuarios activos diarios, semanales y mensuales con
+ * sketches HyperLogLog.
+ *
+ * Cada día tiene su propio sketch, alimentado por el filtro de autenticación
+ * (peticiones autenticadas) y por las acciones de escritura. Los sketches de
+ * los últimos días se mantienen en memoria y se persisten periódicamente;
+ * una ventana se estima uniendo los sketches de sus días, sin guardar ni
+ * contar identificadores.
+ */
+
+@Slf4j
+@Component
+public class ActiveUserEstimator {
+
+    private static final int PRECISION = 14;
+
+    private final ActiveUserSketchRepository sketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+
+    private final Map<LocalDate, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Boolean> dirty = new ConcurrentHashMap<>();
+
+    public ActiveUserEstimator(ActiveUserSketchRepository sketchRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.stats.active-users.retention-days:31}") int retentionDays) {
+        this.sketchRepository = sketchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Registra actividad de un usuario en el día actual.
+     *
+     * No reserva memoria ni bloquea salvo la primera vez de cada día; un
+     * usuario que ya estaba contado no modifica el sketch.
+     *
+     * @param userId ID del usuario
+     */
+    public void record(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        if (sketchFor(today).offer(userId)) {
+            dirty.put(today, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Estima los usuarios distintos activos en una ventana de días.
+     *
+     * @param from Primer día (incluido)
+     * @param to   Último día (incluido)
+     * @return número estimado de usuarios activos
+     */
+    public long estimate(LocalDate from, LocalDate to) {
+        HyperLogLog union = new HyperLogLog(PRECISION);
+        LocalDate oldestInMemory = LocalDate.now().minusDays(retentionDays - 1L);
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            HyperLogLog sketch = sketches.get(day);
+            if (sketch != null) {
+                union.merge(sketch);
+            }
+        }
+
+        if (from.isBefore(oldestInMemory)) {
+            LocalDate lastPersisted = to.isBefore(oldestInMemory) ? to : oldestInMemory.minusDays(1);
+            sketchRepository.findRange(from, lastPersisted)
+                    .forEach(stored -> mergeStored(union, stored));
+        }
+
+        return union.estimate();
+    }
+
+    /**
+     * Estima los usuarios activos de cada día de un rango por separado.
+     *
+     * Los días fuera de memoria se leen con una sola consulta; los días sin
+     * sketch no aparecen en el resultado.
+     *
+     * @param from Primer día (incluido)
+     * @param to   Último día (incluido)
+     * @return usuarios activos estimados por día
+     */
+    public Map<LocalDate, Long> dailyEstimates(LocalDate from, LocalDate to) {
+        Map<LocalDate, HyperLogLog> days = new HashMap<>();
+        LocalDate oldestInMemory = LocalDate.now().minusDays(retentionDays - 1L);
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            HyperLogLog sketch = sketches.get(day);
+            if (sketch != null) {
+                days.computeIfAbsent(day, key -> new HyperLogLog(PRECISION)).merge(sketch);
+            }
+        }
+
+        if (from.isBefore(oldestInMemory)) {
+            LocalDate lastPersisted = to.isBefore(oldestInMemory) ? to : oldestInMemory.minusDays(1);
+            sketchRepository.findRange(from, lastPersisted).forEach(stored -> mergeStored(
+                    days.computeIfAbsent(stored.getDay(), key -> new HyperLogLog(PRECISION)), stored));
+        }
+
+        Map<LocalDate, Long> estimates = new HashMap<>();
+        days.forEach((day, sketch) -> estimates.put(day, sketch.estimate()));
+        return estimates;
+    }
+
+    public long dailyActiveUsers() {
+        LocalDate today = LocalDate.now();
+        return estimate(today, today);
+    }
+
+    public long weeklyActiveUsers() {
+        LocalDate today = LocalDate.now();
+        return estimate(today.minusDays(6), today);
+    }
+
+    public long monthlyActiveUsers() {
+        LocalDate today = LocalDate.now();
+        return estimate(today.minusDays(29), today);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserActivity(UserActivityEvent event) {
+        record(event.userId());
+    }
+
+    /**
+     * Carga los sketches persistidos de los días en memoria.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDate today = LocalDate.now();
+        sketchRepository.findRange(today.minusDays(retentionDays - 1L), today)
+                .forEach(stored -> mergeStored(sketchFor(stored.getDay()), stored));
+
+        log.info("Sketches de usuarios activos cargados: {} días", sketches.size());
+    }
+
+    /**
+     * Une un sketch persistido, ignorando los que están corruptos.
+     */
+    private void mergeStored(HyperLogLog target, ActiveUserSketch stored) {
+        try {
+            target.merge(HyperLogLog.fromBytes(stored.getRegisters()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Sketch de usuarios activos del {} ignorado: {}", stored.getDay(), e.getMessage());
+        }
+    }
+
+    /**
+     * Persiste los sketches modificados y descarta de memoria los días que
+     * quedan fuera del periodo de retención.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.active-users.flush-interval-ms:60000}")
+    public void flush() {
+        for (LocalDate day : dirty.keySet()) {
+            dirty.remove(day);
+            HyperLogLog sketch = sketches.get(day);
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                byte[] registers = sketch.toBytes();
+                transactionTemplate.executeWithoutResult(status -> sketchRepository.upsert(day, registers));
+            } catch (RuntimeException e) {
+                dirty.put(day, Boolean.TRUE);
+                log.error("No se pudo guardar el sketch de usuarios activos del {}", day, e);
+            }
+        }
+
+        LocalDate oldestInMemory = LocalDate.now().minusDays(retentionDays - 1L);
+        sketches.keySet().removeIf(day -> day.isBefore(oldestInMemory) && !dirty.containsKey(day));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private HyperLogLog sketchFor(LocalDate day) {
+        return sketches.computeIfAbsent(day, key -> new HyperLogLog(PRECISION));
+    }
+}
@@ -0,0 +1,125 @@
+package com.mindhub.api.service.stats;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sketch Count-Min para estimar frecuencias de cadenas en memoria fija.
+ *
+ * Cada elemento incrementa un contador por fila, elegido con un hash
+ * distinto en cada una; la estimación es el mínimo de esos contadores. Nunca
+ * subestima y sobreestima como mucho en {@code e / ancho} veces el total de
+ * elementos añadidos, con probabilidad {@code 1 - e^-profundidad}.
+ *
+ * Los contadores son atómicos, así que se puede añadir y consultar desde
+ * varios hilos sin bloquear.
+ */
+
+public final class CountMinSketch {
+
+    private static final int SEED_BASE = 0x9747b28c;
+    private static final int SEED_STEP = 0x61c88647;
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray counters;
+    private final int[] seeds;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Dimensiones de Count-Min no válidas: " + depth + "x" + width);
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicLongArray(depth * width);
+        this.seeds = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = SEED_BASE + row * SEED_STEP;
+        }
+    }
+
+    /**
+     * Suma ocurrencias de un elemento.
+     *
+     * @param item  elemento
+     * @param count ocurrencias a sumar
+     * @return frecuencia estimada del elemento tras sumarlas
+     */
+    public long add(String item, long count) {
+        byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            long value = counters.addAndGet(index(bytes, row), count);
+            estimate = Math.min(estimate, value);
+        }
+        return estimate;
+    }
+
+    /**
+     * Estima la frecuencia de un elemento.
+     *
+     * @param item elemento
+     * @return frecuencia estimada (nunca inferior a la real)
+     */
+    public long estimate(String item) {
+        byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(bytes, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Calcula la posición del contador de una fila con un hash MurmurHash3
+     * de los bytes UTF-8 del elemento y una semilla distinta por fila, de
+     * modo que dos elementos que chocan en una fila no chocan en las demás.
+     */
+    private int index(byte[] bytes, int row) {
+        return row * width + (murmur3(bytes, seeds[row]) & (width - 1));
+    }
+
+    /**
+     * MurmurHash3 de 32 bits (x86_32).
+     */
+    private static int murmur3(byte[] data, int seed) {
+        int hash = seed;
+        int blocks = data.length / 4;
+
+        for (int i = 0; i < blocks; i++) {
+            int offset = i * 4;
+            int k = (data[offset] & 0xff) | (data[offset + 1] & 0xff) << 8 | (data[offset + 2] & 0xff) << 16
+                    | (data[offset + 3] & 0xff) << 24;
+            hash ^= mixK(k);
+            hash = Integer.rotateLeft(hash, 13) * 5 + 0xe6546b64;
+        }
+
+        int tail = blocks * 4;
+        int k = 0;
+        switch (data.length & 3) {
+            case 3:
+                k ^= (data[tail + 2] & 0xff) << 16;
+            case 2:
+                k ^= (data[tail + 1] & 0xff) << 8;
+            case 1:
+                k ^= data[tail] & 0xff;
+                hash ^= mixK(k);
+            default:
+                break;
+        }
+
+        hash ^= data.length;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int mixK(int k) {
+        k *= 0xcc9e2d51;
+        k = Integer.rotateLeft(k, 15);
+        return k * 0x1b873593;
+    }
+}
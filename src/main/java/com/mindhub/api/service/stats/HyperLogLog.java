@@ -0,0 +1,181 @@
+package com.mindhub.api.service.stats;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Estimador HyperLogLog de cardinalidad sobre identificadores numéricos.
+ *
+ * Con precisión {@code p} usa 2^p registros de un byte y estima el número
+ * de elementos distintos con un error típico de 1,04 / sqrt(2^p): con p = 14
+ * son 16 KB y un error del 0,8 %. Los sketches del mismo tamaño se pueden
+ * unir sin perder precisión, lo que permite calcular ventanas arbitrarias a
+ * partir de sketches diarios.
+ *
+ * Las inserciones no reservan memoria ni bloquean: cada registro se
+ * actualiza con una comparación e intercambio atómica.
+ */
+
+public final class HyperLogLog {
+
+    private static final VarHandle REGISTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precisión de HyperLogLog no válida: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    /**
+     * Restaura un sketch serializado con {@link #toBytes()}.
+     *
+     * @param data bytes serializados
+     * @return sketch restaurado
+     * @throws IllegalArgumentException si la precisión, la longitud o algún
+     *                                  registro no son válidos
+     */
+    public static HyperLogLog fromBytes(byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("Sketch HyperLogLog vacío");
+        }
+        int precision = data[0];
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Sketch HyperLogLog corrupto: precisión " + precision);
+        }
+        if (data.length != (1 << precision) + 1) {
+            throw new IllegalArgumentException("Sketch HyperLogLog corrupto: " + data.length + " bytes");
+        }
+        int maxRank = 64 - precision + 1;
+        for (int i = 1; i < data.length; i++) {
+            if (data[i] < 0 || data[i] > maxRank) {
+                throw new IllegalArgumentException("Sketch HyperLogLog corrupto: registro " + data[i]);
+            }
+        }
+        return new HyperLogLog(precision, Arrays.copyOfRange(data, 1, data.length));
+    }
+
+    /**
+     * Añade un elemento al sketch.
+     *
+     * @param value identificador del elemento
+     * @return true si el sketch ha cambiado
+     */
+    public boolean offer(long value) {
+        long hash = mix(value);
+        int index = (int) (hash >>> (64 - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        return raise(index, rank);
+    }
+
+    /**
+     * Une otro sketch de la misma precisión a este.
+     *
+     * @param other sketch a unir
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("No se pueden unir sketches de precisión distinta");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            byte rank = (byte) REGISTERS.getVolatile(other.registers, i);
+            if (rank != 0) {
+                raise(i, rank);
+            }
+        }
+    }
+
+    /**
+     * Estima el número de elementos distintos añadidos.
+     *
+     * @return cardinalidad estimada
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < m; i++) {
+            byte rank = (byte) REGISTERS.getVolatile(registers, i);
+            sum += 1.0 / (1L << rank);
+            if (rank == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            // Corrección para cardinalidades pequeñas (conteo lineal)
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Serializa el sketch: un byte de precisión seguido de los registros.
+     *
+     * @return representación compacta del sketch
+     */
+    public byte[] toBytes() {
+        byte[] data = new byte[registers.length + 1];
+        data[0] = (byte) precision;
+        for (int i = 0; i < registers.length; i++) {
+            data[i + 1] = (byte) REGISTERS.getVolatile(registers, i);
+        }
+        return data;
+    }
+
+    public HyperLogLog copy() {
+        return fromBytes(toBytes());
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    private boolean raise(int index, byte rank) {
+        byte current = (byte) REGISTERS.getVolatile(registers, index);
+        while (current < rank) {
+            if (REGISTERS.compareAndSet(registers, index, current, rank)) {
+                return true;
+            }
+            current = (byte) REGISTERS.getVolatile(registers, index);
+        }
+        return false;
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * Mezcla final de MurmurHash3 de 64 bits, suficiente para repartir
+     * identificadores secuenciales.
+     */
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
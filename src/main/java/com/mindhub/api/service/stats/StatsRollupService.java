@@ -0,0 +1,40 @@
+package com.mindhub.api.service.stats;
+
+import java.time.LocalDate;
+
+import com.mindhub.api.dto.admin.TimeSeriesResponse;
+import com.mindhub.api.model.enums.StatsGrain;
+import com.mindhub.api.model.enums.StatsMetric;
+
+/**
+ * Servicio de series temporales del dashboard de administración.
+ *
+ * Mantiene agregados por hora y por día de publicaciones, registros,
+ * reportes y usuarios activos, y responde a cualquier rango leyendo esos
+ * agregados.
+ */
+
+public interface StatsRollupService {
+
+    /**
+     * Obtiene la serie temporal de una métrica en un rango de días.
+     *
+     * @param metric Métrica a consultar
+     * @param grain  Granularidad de los intervalos
+     * @param from   Primer día del rango (incluido)
+     * @param to     Último día del rango (incluido)
+     * @return Serie con un punto por intervalo
+     */
+    TimeSeriesResponse getTimeSeries(StatsMetric metric, StatsGrain grain, LocalDate from, LocalDate to);
+
+    /**
+     * Recalcula los agregados de un rango de días desde las tablas de origen.
+     *
+     * Solo admite días cerrados (anteriores a hoy) y un rango limitado; los
+     * usuarios activos no se recalculan porque salen de los sketches diarios.
+     *
+     * @param from Primer día del rango (incluido)
+     * @param to   Último día del rango (incluido)
+     */
+    void backfill(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,253 @@
+package com.mindhub.api.service.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.dto.admin.TimeSeriesPoint;
+import com.mindhub.api.dto.admin.TimeSeriesResponse;
+import com.mindhub.api.event.PostCreatedEvent;
+import com.mindhub.api.event.ReportStatusChangedEvent;
+import com.mindhub.api.event.UserStatusChangedEvent;
+import com.mindhub.api.model.enums.StatsGrain;
+import com.mindhub.api.model.enums.StatsMetric;
+import com.mindhub.api.model.stats.StatsRollup;
+import com.mindhub.api.repository.stats.StatsRollupRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementación del servicio de series temporales.
+ *
+ * Los eventos de dominio suman deltas en memoria por (métrica, granularidad,
+ * intervalo) y un proceso periódico los vuelca con un upsert por intervalo.
+ * Las consultas leen los agregados persistidos más los deltas pendientes,
+ * con un coste proporcional al número de intervalos del rango.
+ *
+ * El relleno recalcula los agregados diarios desde las tablas de origen (y
+ * los horarios de reportes, que guardan la hora). Las publicaciones y los
+ * registros solo guardan la fecha, así que sus agregados horarios existen
+ * únicamente desde que se registran por eventos. Solo se rellenan días
+ * cerrados: los eventos siempre suman en el intervalo actual, de modo que
+ * ningún delta en memoria puede caer en un rango que se está recalculando.
+ *
+ * Los usuarios activos no se agregan aquí: la serie se obtiene de los
+ * sketches diarios de {@link ActiveUserEstimator}, la misma fuente que la
+ * cifra de usuarios activos del dashboard.
+ */
+
+@Slf4j
+@Service
+public class StatsRollupServiceImpl implements StatsRollupService {
+
+    private static final long MAX_DAY_BUCKETS = 366;
+    private static final long MAX_HOUR_BUCKETS = 31 * 24;
+
+    private final StatsRollupRepository statsRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ActiveUserEstimator activeUserEstimator;
+    private final int backfillDays;
+    private final int maxBackfillDays;
+
+    private final Map<BucketKey, Long> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    public StatsRollupServiceImpl(StatsRollupRepository statsRollupRepository,
+            TransactionTemplate transactionTemplate,
+            ActiveUserEstimator activeUserEstimator,
+            @Value("${app.stats.rollup.backfill-days:7}") int backfillDays,
+            @Value("${app.stats.rollup.max-backfill-days:92}") int maxBackfillDays) {
+        this.statsRollupRepository = statsRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.activeUserEstimator = activeUserEstimator;
+        this.backfillDays = backfillDays;
+        this.maxBackfillDays = maxBackfillDays;
+    }
+
+    @Override
+    public TimeSeriesResponse getTimeSeries(StatsMetric metric, StatsGrain grain, LocalDate from, LocalDate to) {
+        if (metric == StatsMetric.ACTIVE_USERS && grain != StatsGrain.DAY) {
+            throw new IllegalStateException("Los usuarios activos solo están disponibles por día");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalStateException("La fecha inicial no puede ser posterior a la final");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        long buckets = grain == StatsGrain.DAY
+                ? ChronoUnit.DAYS.between(start, end)
+                : ChronoUnit.HOURS.between(start, end);
+        long maxBuckets = grain == StatsGrain.DAY ? MAX_DAY_BUCKETS : MAX_HOUR_BUCKETS;
+        if (buckets > maxBuckets) {
+            throw new IllegalStateException("El rango solicitado supera el máximo de " + maxBuckets + " intervalos");
+        }
+
+        Map<LocalDateTime, Long> values = metric == StatsMetric.ACTIVE_USERS
+                ? activeUsers(from, to)
+                : storedValues(metric, grain, start, end);
+
+        List<TimeSeriesPoint> points = new ArrayList<>((int) buckets);
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = grain.next(bucket)) {
+            points.add(new TimeSeriesPoint(bucket, values.getOrDefault(bucket, 0L)));
+        }
+
+        log.debug("Serie temporal {} por {} de {} a {}: {} intervalos", metric, grain, from, to, points.size());
+
+        return new TimeSeriesResponse(metric, grain, points);
+    }
+
+    @Override
+    public void backfill(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalStateException("La fecha inicial no puede ser posterior a la final");
+        }
+        if (!to.isBefore(LocalDate.now())) {
+            throw new IllegalStateException("Solo se pueden recalcular días cerrados, anteriores a hoy");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxBackfillDays) {
+            throw new IllegalStateException("El rango a recalcular supera el máximo de " + maxBackfillDays + " días");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        synchronized (flushLock) {
+            // Vuelca los deltas de días ya cerrados que aún no se habían escrito;
+            // los eventos nuevos solo suman en el día actual, fuera del rango
+            flush();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                statsRollupRepository.deleteRange(StatsMetric.POSTS.name(), StatsGrain.DAY.name(), start, end);
+                statsRollupRepository.backfillDailyPosts(from, to);
+
+                statsRollupRepository.deleteRange(StatsMetric.SIGNUPS.name(), StatsGrain.DAY.name(), start, end);
+                statsRollupRepository.backfillDailySignups(from, to);
+
+                for (StatsGrain grain : StatsGrain.values()) {
+                    statsRollupRepository.deleteRange(StatsMetric.REPORTS.name(), grain.name(), start, end);
+                    statsRollupRepository.backfillReports(grain.name().toLowerCase(Locale.ROOT), start, end);
+                }
+            });
+        }
+
+        log.info("Agregados de series temporales recalculados del {} al {}", from, to);
+    }
+
+    /**
+     * Recalcula cada noche los últimos días cerrados para corregir
+     * desviaciones de los agregados incrementales.
+     */
+    @Scheduled(cron = "${app.stats.rollup.backfill-cron:0 30 3 * * *}")
+    public void scheduledBackfill() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        backfill(yesterday.minusDays(backfillDays - 1L), yesterday);
+    }
+
+    /**
+     * Vuelca los deltas pendientes sumándolos a sus intervalos.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.rollup.flush-interval-ms:10000}")
+    public void flush() {
+        synchronized (flushLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            Map<BucketKey, Long> batch = new HashMap<>();
+            for (BucketKey key : pending.keySet()) {
+                Long delta = pending.remove(key);
+                if (delta != null && delta != 0) {
+                    batch.put(key, delta);
+                }
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(
+                        (key, delta) -> statsRollupRepository.addToBucket(key.metric().name(), key.grain().name(),
+                                key.bucketStart(), delta)));
+                log.debug("Volcados {} agregados de series temporales", batch.size());
+            } catch (RuntimeException e) {
+                // Se devuelven los deltas para reintentarlos en el siguiente volcado
+                batch.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+                log.error("No se pudieron volcar los agregados de series temporales", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        record(StatsMetric.POSTS, LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        if (event.previousActive() == null) {
+            record(StatsMetric.SIGNUPS, LocalDateTime.now());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportStatusChanged(ReportStatusChangedEvent event) {
+        if (event.previousStatus() == null) {
+            record(StatsMetric.REPORTS, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Lee los agregados persistidos del rango y les suma los deltas pendientes.
+     */
+    private Map<LocalDateTime, Long> storedValues(StatsMetric metric, StatsGrain grain, LocalDateTime start,
+            LocalDateTime end) {
+        Map<LocalDateTime, Long> values = statsRollupRepository
+                .findRange(metric, grain, start, end.minusNanos(1))
+                .stream()
+                .collect(Collectors.toMap(StatsRollup::getBucketStart, StatsRollup::getTotal));
+
+        pending.forEach((key, delta) -> {
+            if (key.metric() == metric && key.grain() == grain
+                    && !key.bucketStart().isBefore(start) && key.bucketStart().isBefore(end)) {
+                values.merge(key.bucketStart(), delta, Long::sum);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Usuarios activos estimados de cada día del rango.
+     */
+    private Map<LocalDateTime, Long> activeUsers(LocalDate from, LocalDate to) {
+        Map<LocalDateTime, Long> values = new HashMap<>();
+        activeUserEstimator.dailyEstimates(from, to)
+                .forEach((day, estimate) -> values.put(day.atStartOfDay(), estimate));
+        return values;
+    }
+
+    private void record(StatsMetric metric, LocalDateTime time) {
+        for (StatsGrain grain : StatsGrain.values()) {
+            pending.merge(new BucketKey(metric, grain, grain.bucketOf(time)), 1L, Long::sum);
+        }
+    }
+
+    private record BucketKey(StatsMetric metric, StatsGrain grain, LocalDateTime bucketStart) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.mindhub.api.service.user;
+
+import org.springframework.data.domain.Pageable;
+
+import com.mindhub.api.dto.user.ProfilePageResponse;
+import com.mindhub.api.model.user.User;
+
+/**
+ * Servicio que compone la página de perfil de un usuario.
+ */
+
+public interface ProfilePageService {
+
+    /**
+     * Obtiene el usuario, sus estadísticas de seguimiento y su primera
+     * página de publicaciones.
+     * 
+     * @param currentUser   Usuario autenticado que consulta el perfil
+     * @param userId        ID del usuario del perfil
+     * @param postsPageable Paginación de las publicaciones
+     * @return Datos de la página de perfil
+     */
+    ProfilePageResponse getProfilePage(User currentUser, Long userId, Pageable postsPageable);
+}
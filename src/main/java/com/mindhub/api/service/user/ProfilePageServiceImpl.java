@@ -0,0 +1,187 @@
+package com.mindhub.api.service.user;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+import com.mindhub.api.config.StatementCounter;
+import com.mindhub.api.dto.auth.UserResponse;
+import com.mindhub.api.dto.follow.FollowStatsResponse;
+import com.mindhub.api.dto.post.PostResponse;
+import com.mindhub.api.dto.user.ProfilePageResponse;
+import com.mindhub.api.mapper.follow.FollowMapper;
+import com.mindhub.api.model.user.User;
+import com.mindhub.api.service.follow.FollowService;
+import com.mindhub.api.service.post.PostService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementación del servicio de página de perfil.
+ *
+ * El usuario del perfil se carga una sola vez en el hilo de la petición (un
+ * usuario inexistente responde 404 sin lanzar nada más). Después, las tres
+ * consultas restantes (datos del perfil, estadísticas de seguimiento y
+ * publicaciones) son independientes y se lanzan a la vez en hilos virtuales,
+ * con el contexto de seguridad de la petición. Si una falla se cancelan las
+ * que aún no han empezado y se propaga su excepción.
+ *
+ * Cada consulta en paralelo ocupa una conexión, así que se reparten permisos
+ * de un semáforo dimensionado con el pool de conexiones. Una petición nunca
+ * espera por ellos: toma los que haya libres (como mucho uno por consulta) y
+ * ejecuta el resto en su propio hilo, de modo que con el pool saturado la
+ * página se compone en secuencia en lugar de bloquear el hilo de Tomcat.
+ *
+ * Las subconsultas en paralelo suman al presupuesto de consultas de la
+ * petición ({@link StatementCounter}).
+ */
+
+@Slf4j
+@Service
+public class ProfilePageServiceImpl implements ProfilePageService {
+
+    private final UserService userService;
+    private final FollowService followService;
+    private final PostService postService;
+    private final FollowMapper followMapper;
+
+    private final SimpleAsyncTaskExecutor queryExecutor;
+    private final Executor executor;
+    private final Semaphore parallelQueries;
+
+    public ProfilePageServiceImpl(UserService userService,
+            FollowService followService,
+            PostService postService,
+            FollowMapper followMapper,
+            StatementCounter statementCounter,
+            @Value("${app.users.profile-page.max-parallel-queries:${spring.datasource.hikari.maximum-pool-size:10}}") int maxParallelQueries) {
+        this.userService = userService;
+        this.followService = followService;
+        this.postService = postService;
+        this.followMapper = followMapper;
+
+        this.queryExecutor = new SimpleAsyncTaskExecutor("profile-page-");
+        this.queryExecutor.setVirtualThreads(true);
+        this.queryExecutor.setTaskDecorator(statementCounter);
+        this.executor = new DelegatingSecurityContextExecutor(queryExecutor);
+        this.parallelQueries = new Semaphore(maxParallelQueries);
+    }
+
+    /**
+     * Obtiene el usuario, sus estadísticas de seguimiento y su primera
+     * página de publicaciones.
+     * 
+     * @param currentUser   Usuario autenticado que consulta el perfil
+     * @param userId        ID del usuario del perfil
+     * @param postsPageable Paginación de las publicaciones
+     * @return Datos de la página de perfil
+     */
+    @Override
+    public ProfilePageResponse getProfilePage(User currentUser, Long userId, Pageable postsPageable) {
+        log.debug("Componiendo la página de perfil del usuario {} para el usuario {}", userId, currentUser.getId());
+
+        User targetUser = userService.findByIdOrThrow(userId);
+
+        int permits = 0;
+        while (permits < 3 && parallelQueries.tryAcquire()) {
+            permits++;
+        }
+        if (permits < 3) {
+            log.debug("Página de perfil del usuario {} con {} consultas en paralelo de 3", userId, permits);
+        }
+
+        CompletableFuture<UserResponse> user = submit(() -> userService.toResponse(targetUser), permits > 0);
+        CompletableFuture<FollowStatsResponse> followStats = submit(() -> {
+            var stats = followService.getFollowStats(currentUser, targetUser);
+            return followMapper.toStatsResponse(targetUser, stats.getFollowers(),
+                    stats.getFollowed(), stats.getFollows(), stats.getFollowsYou());
+        }, permits > 1);
+        CompletableFuture<Page<PostResponse>> posts = submit(() -> postService.getUserPosts(targetUser, postsPageable),
+                permits > 2);
+
+        awaitAll(user, followStats, posts);
+
+        log.debug("Página de perfil del usuario {} compuesta", userId);
+
+        return new ProfilePageResponse(user.join(), followStats.join(), posts.join());
+    }
+
+    @PreDestroy
+    public void shutdownQueries() {
+        queryExecutor.close();
+    }
+
+    /**
+     * Lanza una consulta en un hilo virtual si tiene permiso (que se
+     * devuelve al terminar, aunque se haya cancelado antes de empezar) o la
+     * ejecuta en el hilo actual si no.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> query, boolean parallel) {
+        if (!parallel) {
+            try {
+                return CompletableFuture.completedFuture(query.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    if (!future.isDone()) {
+                        future.complete(query.get());
+                    }
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    parallelQueries.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            parallelQueries.release();
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Espera a que terminen todas las consultas o a que falle la primera. En
+     * ese caso cancela el resto y relanza la excepción original.
+     */
+    private void awaitAll(CompletableFuture<?>... queries) {
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<?> query : queries) {
+            query.whenComplete((result, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(error);
+                }
+            });
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(queries), firstFailure).join();
+        } catch (CompletionException | CancellationException e) {
+            for (CompletableFuture<?> query : queries) {
+                query.cancel(false);
+            }
+
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("No se pudo componer la página de perfil", cause);
+        }
+    }
+}
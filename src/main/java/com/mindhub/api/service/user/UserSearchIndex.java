@@ -0,0 +1,296 @@
+package com.mindhub.api.service.user;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.event.UserChangedEvent;
+import com.mindhub.api.model.enums.PrivacyType;
+import com.mindhub.api.repository.user.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice invertido de trigramas en memoria para la búsqueda de usuarios.
+ *
+ * Indexa el nombre completo normalizado (minúsculas y sin tildes) de cada
+ * usuario y resuelve las búsquedas sin recorrer la tabla {@code users}:
+ * los candidatos salen de las listas de trigramas del término y se ordenan
+ * por relevancia (coincidencia exacta, inicio de palabra, subcadena y, por
+ * último, coincidencias aproximadas por similitud de trigramas).
+ *
+ * Se construye al arrancar y se actualiza de forma incremental con los
+ * {@link UserChangedEvent} confirmados.
+ */
+
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final int MAX_QUERY_LENGTH = 64;
+
+    /** Más relevante primero: nivel, similitud y, a igualdad, ID. */
+    private static final Comparator<Match> RELEVANCE = Comparator.comparingInt(Match::tier).reversed()
+            .thenComparing(Comparator.comparingDouble(Match::similarity).reversed())
+            .thenComparingLong(Match::id);
+
+    private final UserRepository userRepository;
+    private final double minSimilarity;
+    private final int maxResults;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Cambios recibidos durante una reconstrucción en curso, o null. */
+    private List<UserChangedEvent> pendingEvents;
+
+    public UserSearchIndex(UserRepository userRepository,
+            @Value("${app.users.search.min-similarity:0.5}") double minSimilarity,
+            @Value("${app.users.search.max-results:1000}") int maxResults) {
+        this.userRepository = userRepository;
+        this.minSimilarity = minSimilarity;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Construye el índice completo a partir de la base de datos.
+     * 
+     * La lectura se hace fuera del cerrojo; los cambios confirmados mientras
+     * tanto se guardan y se vuelven a aplicar sobre el índice nuevo, de modo
+     * que ninguno se pierde al vaciarlo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Object[]> rows;
+        try {
+            rows = userRepository.findSearchIndexRows();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        int trigrams;
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            for (Object[] row : rows) {
+                index((Long) row[0], (String) row[1], (String) row[2], row[3] == PrivacyType.PUBLIC,
+                        Boolean.TRUE.equals(row[4]));
+            }
+
+            replayed = pendingEvents.size();
+            for (UserChangedEvent event : pendingEvents) {
+                apply(event);
+            }
+            pendingEvents = null;
+            trigrams = postings.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Índice de búsqueda de usuarios construido: {} usuarios, {} trigramas, {} cambios reaplicados",
+                rows.size(), trigrams, replayed);
+    }
+
+    /**
+     * Aplica un cambio de usuario una vez confirmada la transacción.
+     * 
+     * @param event Datos actuales del usuario
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca usuarios por nombre, apellidos o nombre completo.
+     * 
+     * Los términos de una o dos letras solo coinciden con el inicio de
+     * nombre o apellido; a partir de tres letras se admite cualquier
+     * subcadena y coincidencias aproximadas. Un término vacío no devuelve
+     * resultados, y solo se ordenan las primeras
+     * {@code app.users.search.max-results} coincidencias.
+     * 
+     * @param search     Término de búsqueda
+     * @param onlyPublic Si solo se devuelven usuarios públicos y activos
+     * @param pageable   Página solicitada (la ordenación es por relevancia)
+     * @return Página de IDs de usuario ordenados por relevancia
+     */
+    public Page<Long> search(String search, boolean onlyPublic, Pageable pageable) {
+        String query = normalize(search == null ? "" : search);
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            query = query.substring(0, MAX_QUERY_LENGTH);
+        }
+
+        long window = Math.min(pageable.getOffset() + pageable.getPageSize(), maxResults);
+
+        // Montículo con las mejores coincidencias; la cabeza es la peor de ellas
+        PriorityQueue<Match> best = new PriorityQueue<>(RELEVANCE.reversed());
+        int total = 0;
+
+        lock.readLock().lock();
+        try {
+            Set<String> queryTrigrams = trigrams(query);
+            Map<Long, Integer> shared = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                for (Long id : postings.getOrDefault(trigram, Set.of())) {
+                    shared.merge(id, 1, Integer::sum);
+                }
+            }
+
+            for (Map.Entry<Long, Integer> candidate : shared.entrySet()) {
+                Entry entry = entries.get(candidate.getKey());
+                if (onlyPublic && !entry.visible()) {
+                    continue;
+                }
+                double similarity = (double) candidate.getValue() / queryTrigrams.size();
+                int tier = tier(entry.fullName(), query);
+                if (tier > 0 || (query.length() >= 3 && similarity >= minSimilarity)) {
+                    total++;
+                    best.add(new Match(entry.id(), tier, similarity));
+                    if (best.size() > window) {
+                        best.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(RELEVANCE);
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        List<Long> ids = matches.subList(from, matches.size()).stream().map(Match::id).toList();
+
+        return new PageImpl<>(ids, pageable, Math.min(total, maxResults));
+    }
+
+    /**
+     * Aplica un cambio al índice. Debe llamarse con el cerrojo de escritura.
+     */
+    private void apply(UserChangedEvent event) {
+        remove(event.userId());
+        if (!event.deleted()) {
+            index(event.userId(), event.firstName(), event.lastName(),
+                    event.privacyType() == PrivacyType.PUBLIC, event.active());
+        }
+    }
+
+    private void index(Long id, String firstName, String lastName, boolean isPublic, boolean active) {
+        String fullName = normalize(nullToEmpty(firstName) + " " + nullToEmpty(lastName));
+        Set<String> trigrams = trigrams(fullName);
+
+        entries.put(id, new Entry(id, fullName, trigrams, isPublic && active));
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(Long id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String trigram : previous.trigrams()) {
+            Set<Long> ids = postings.get(trigram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Nivel de relevancia de una coincidencia literal: 3 nombre completo
+     * exacto, 2 inicio de nombre o apellido, 1 subcadena, 0 ninguna.
+     */
+    private static int tier(String fullName, String query) {
+        if (fullName.equals(query)) {
+            return 3;
+        }
+        if (fullName.startsWith(query) || fullName.contains(" " + query)) {
+            return 2;
+        }
+        return fullName.contains(query) ? 1 : 0;
+    }
+
+    /**
+     * Trigramas del texto rodeado de dos espacios al inicio y uno al final,
+     * de modo que los inicios de palabra generan trigramas propios.
+     */
+    private static Set<String> trigrams(String text) {
+        String padded = "  " + text + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        String withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(withoutAccents).replaceAll(" ").trim();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private record Entry(Long id, String fullName, Set<String> trigrams, boolean visible) {
+    }
+
+    private record Match(Long id, int tier, double similarity) {
+    }
+}
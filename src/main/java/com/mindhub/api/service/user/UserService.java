@@ -1,8 +1,12 @@
 package com.mindhub.api.service.user;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.mindhub.api.dto.auth.AvailabilityResponse;
 import com.mindhub.api.dto.auth.UserLoginRequest;
 import com.mindhub.api.dto.auth.UserRegisterRequest;
 import com.mindhub.api.dto.auth.UserResponse;
@@ -10,6 +14,7 @@ import com.mindhub.api.dto.user.AdminUserUpdateRequest;
 import com.mindhub.api.dto.user.UserProfileRequest;
 import com.mindhub.api.dto.user.UserProfileResponse;
 import com.mindhub.api.dto.user.UserUpdateRequest;
+import com.mindhub.api.dto.user.UsernameSuggestion;
 import com.mindhub.api.model.enums.PrivacyType;
 import com.mindhub.api.model.user.User;
 import com.mindhub.api.service.base.GenericService;
@@ -52,6 +57,14 @@ public interface UserService extends GenericService<User, Long> {
      */
     UserResponse findByIdAsResponse(Long id);
 
+    /**
+     * Convierte un usuario ya cargado en respuesta DTO con su perfil.
+     * 
+     * @param user Usuario
+     * @return Usuario como respuesta DTO
+     */
+    UserResponse toResponse(User user);
+
     /**
      * Busca un usuario por su nombre de usuario.
      * 
@@ -87,6 +100,24 @@ public interface UserService extends GenericService<User, Long> {
      */
     Page<UserResponse> searchAllUsers(String search, Pageable pageable);
 
+    /**
+     * Comprueba si un nombre de usuario y/o email están libres.
+     * 
+     * @param username Nombre de usuario a comprobar (opcional)
+     * @param email    Email a comprobar (opcional)
+     * @return Disponibilidad de cada valor consultado
+     */
+    AvailabilityResponse checkAvailability(String username, String email);
+
+    /**
+     * Sugiere nombres de usuario públicos que empiezan por un prefijo.
+     * 
+     * @param prefix Prefijo a completar
+     * @param limit  Número máximo de sugerencias
+     * @return Lista de sugerencias
+     */
+    List<UsernameSuggestion> autocompleteUsernames(String prefix, int limit);
+
     /**
      * Actualiza un usuario.
      * 
@@ -205,6 +236,16 @@ public interface UserService extends GenericService<User, Long> {
      */
     long countActiveAdmins();
 
+    /**
+     * Obtiene los IDs de los administradores activos.
+     * 
+     * El conjunto se mantiene en caché durante un tiempo limitado y se
+     * invalida cuando cambia el rol o el estado de algún usuario.
+     * 
+     * @return Conjunto inmutable de IDs de administradores activos
+     */
+    Set<Long> getActiveAdminIds();
+
     /**
      * Actualiza el perfil extendido de un usuario.
      * 
@@ -1,10 +1,17 @@
 package com.mindhub.api.service.user;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.mindhub.api.dto.auth.AvailabilityResponse;
 import com.mindhub.api.dto.auth.UserLoginRequest;
 import com.mindhub.api.dto.auth.UserRegisterRequest;
 import com.mindhub.api.dto.auth.UserResponse;
@@ -21,6 +29,11 @@ import com.mindhub.api.dto.user.AdminUserUpdateRequest;
 import com.mindhub.api.dto.user.UserProfileRequest;
 import com.mindhub.api.dto.user.UserProfileResponse;
 import com.mindhub.api.dto.user.UserUpdateRequest;
+import com.mindhub.api.dto.user.UsernameSuggestion;
+import com.mindhub.api.event.UserActivityEvent;
+import com.mindhub.api.event.UserChangedEvent;
+import com.mindhub.api.event.UserRegisteredEvent;
+import com.mindhub.api.event.UserStatusChangedEvent;
 import com.mindhub.api.exception.EmailAlreadyExistsException;
 import com.mindhub.api.exception.UserNotFoundException;
 import com.mindhub.api.exception.UsernameAlreadyExistsException;
@@ -63,6 +76,13 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
     private final AdminActionService adminActionService;
     private final RoleService roleService;
     private final UserProfileRepository userProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSearchIndex userSearchIndex;
+    private final UsernameDirectory usernameDirectory;
+    private final long adminIdsCacheTtlMillis;
+
+    /** Caché de IDs de administradores activos junto con su instante de carga. */
+    private volatile CachedAdminIds cachedAdminIds;
 
     public UserServiceImpl(UserRepository userRepository,
             UserMapper userMapper,
@@ -72,7 +92,11 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
             @Lazy NotificationService notificationService,
             @Lazy AdminActionService adminActionService,
             @Lazy RoleService roleService,
-            UserProfileRepository userProfileRepository) {
+            UserProfileRepository userProfileRepository,
+            ApplicationEventPublisher eventPublisher,
+            UserSearchIndex userSearchIndex,
+            UsernameDirectory usernameDirectory,
+            @Value("${app.users.admin-ids-cache-ttl-seconds:300}") long adminIdsCacheTtlSeconds) {
         super(userRepository);
         this.userRepository = userRepository;
         this.userMapper = userMapper;
@@ -83,6 +107,10 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
         this.adminActionService = adminActionService;
         this.roleService = roleService;
         this.userProfileRepository = userProfileRepository;
+        this.eventPublisher = eventPublisher;
+        this.userSearchIndex = userSearchIndex;
+        this.usernameDirectory = usernameDirectory;
+        this.adminIdsCacheTtlMillis = adminIdsCacheTtlSeconds * 1000;
     }
 
     /**
@@ -159,22 +187,20 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         log.info("Usuario registrado exitosamente con ID: {}", savedUser.getId());
 
-        if (savedUser.getProfile() == null) {
-            log.debug("Creando perfil vacío para el usuario con ID: {}", savedUser.getId());
-
-            UserProfile emptyProfile = UserProfile.builder()
-                    .user(savedUser)
-                    .build();
+        log.debug("Creando perfil vacío para el usuario con ID: {}", savedUser.getId());
 
-            userProfileRepository.save(emptyProfile);
+        UserProfile emptyProfile = userProfileRepository.save(UserProfile.builder()
+                .user(savedUser)
+                .build());
 
-            savedUser.setProfile(emptyProfile);
-        }
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+        eventPublisher.publishEvent(UserStatusChangedEvent.created(savedUser.getId(), savedUser.isEnabled()));
 
-        // Notificar a todos los administradores sobre el nuevo usuario registrado
-        notifyAdminsAboutNewUser(savedUser);
+        // Notificar a los administradores tras confirmar el registro
+        eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getId(), savedUser.getUsername(),
+                savedUser.getFirstName() + " " + savedUser.getLastName()));
 
-        return userMapper.toResponse(savedUser);
+        return userMapper.toResponse(savedUser, emptyProfile);
     }
 
     /**
@@ -249,10 +275,15 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         User user = findByIdOrThrow(userId);
 
-        user.setLastActivityDate(LocalDate.now());
+        LocalDate today = LocalDate.now();
+        boolean firstActivityOfDay = !today.equals(user.getLastActivityDate());
+
+        user.setLastActivityDate(today);
 
         save(user);
 
+        eventPublisher.publishEvent(new UserActivityEvent(userId, today, firstActivityOfDay));
+
         log.info("Última actividad actualizada correctamente para el usuario con ID: {}", userId);
     }
 
@@ -271,7 +302,19 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         log.info("Usuario encontrado con ID: {}", id);
 
-        return userMapper.toResponse(user);
+        return toResponse(user);
+    }
+
+    /**
+     * Convierte un usuario ya cargado en respuesta DTO con su perfil.
+     * 
+     * @param user Usuario
+     * @return Usuario como respuesta DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserResponse toResponse(User user) {
+        return userMapper.toResponse(user, findProfile(user));
     }
 
     /**
@@ -290,7 +333,7 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         log.info("Usuario encontrado con nombre de usuario: {}", username);
 
-        return userMapper.toResponse(user);
+        return userMapper.toResponse(user, findProfile(user));
     }
 
     /**
@@ -319,13 +362,16 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
         log.debug("Obteniendo usuarios paginados. Página: {}, Tamaño: {}", pageable.getPageNumber(),
                 pageable.getPageSize());
 
-        return userRepository.findAll(pageable)
-                .map(userMapper::toResponse);
+        return toResponsesWithProfiles(userRepository.findAll(pageable));
     }
 
     /**
      * Busca usuarios públicos por nombre o apellido.
      * 
+     * Resuelve la búsqueda con el {@link UserSearchIndex} y solo carga de la
+     * base de datos los usuarios de la página solicitada, ordenados por
+     * relevancia.
+     * 
      * @param search   Término de búsqueda
      * @param pageable Configuración de paginación
      * @return Página de usuarios encontrados
@@ -335,17 +381,20 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
     public Page<UserResponse> searchPublicUsers(String search, Pageable pageable) {
         log.debug("Buscando usuarios públicos con término: {}", search);
 
-        Page<User> users = userRepository.findPublicUsersByFirstNameOrLastName(search, pageable);
+        Page<User> users = loadSearchPage(userSearchIndex.search(search, true, pageable));
 
         log.info("Se encontraron {} usuarios públicos con el término: {}", users.getContent().size(), search);
 
-        return users.map(userMapper::toResponse);
+        return toResponsesWithProfiles(users);
     }
 
     /**
      * Busca usuarios por nombre o apellido sin restricción de privacidad (solo
      * admin).
      * 
+     * Usa el mismo índice que la búsqueda pública sin filtrar por privacidad
+     * ni estado.
+     * 
      * @param search   Término de búsqueda
      * @param pageable Configuración de paginación
      * @return Página de usuarios encontrados
@@ -355,11 +404,80 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
     public Page<UserResponse> searchAllUsers(String search, Pageable pageable) {
         log.debug("[ADMIN] Buscando usuarios con término: {}", search);
 
-        Page<User> users = userRepository.findUsersByFirstNameOrLastName(search, pageable);
+        Page<User> users = loadSearchPage(userSearchIndex.search(search, false, pageable));
 
         log.info("[ADMIN] Se encontraron {} usuarios con el término: {}", users.getContent().size(), search);
 
-        return users.map(userMapper::toResponse);
+        return toResponsesWithProfiles(users);
+    }
+
+    /**
+     * Comprueba si un nombre de usuario y/o email están libres.
+     * 
+     * Los filtros de Bloom del {@link UsernameDirectory} responden sin
+     * consultar la base de datos cuando el valor seguro que no está en uso;
+     * solo los posibles positivos se confirman con una consulta.
+     * 
+     * @param username Nombre de usuario a comprobar (opcional)
+     * @param email    Email a comprobar (opcional)
+     * @return Disponibilidad de cada valor consultado
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        Boolean usernameAvailable = username == null || username.isBlank()
+                ? null
+                : !usernameExists(username.trim());
+        Boolean emailAvailable = email == null || email.isBlank()
+                ? null
+                : !emailExists(email.trim());
+
+        log.debug("Disponibilidad consultada: username={} ({}), email={} ({})", username, usernameAvailable, email,
+                emailAvailable);
+
+        return new AvailabilityResponse(usernameAvailable, emailAvailable);
+    }
+
+    /**
+     * Sugiere nombres de usuario públicos que empiezan por un prefijo.
+     * 
+     * @param prefix Prefijo a completar
+     * @param limit  Número máximo de sugerencias (entre 1 y 20)
+     * @return Lista de sugerencias, las más cortas primero
+     */
+    @Override
+    public List<UsernameSuggestion> autocompleteUsernames(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return usernameDirectory.complete(prefix.trim(), Math.max(1, Math.min(limit, 20)));
+    }
+
+    private boolean usernameExists(String username) {
+        return usernameDirectory.mightContainUsername(username) && userRepository.existsByUsername(username);
+    }
+
+    private boolean emailExists(String email) {
+        return usernameDirectory.mightContainEmail(email) && userRepository.existsByEmail(email);
+    }
+
+    /**
+     * Carga los usuarios de una página de resultados del índice conservando
+     * el orden de relevancia.
+     * 
+     * @param ids Página de IDs devuelta por el índice
+     * @return Página de usuarios en el mismo orden
+     */
+    private Page<User> loadSearchPage(Page<Long> ids) {
+        Map<Long, Integer> position = new HashMap<>();
+        for (Long id : ids.getContent()) {
+            position.put(id, position.size());
+        }
+        List<User> users = userRepository.findAllById(ids.getContent()).stream()
+                .sorted(Comparator.comparingInt(user -> position.get(user.getId())))
+                .toList();
+
+        return new PageImpl<>(users, ids.getPageable(), ids.getTotalElements());
     }
 
     /**
@@ -385,10 +503,12 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         User savedUser = save(user);
 
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+
         log.info("Usuario con ID {} actualizado correctamente por el usuario actual con ID {}", id,
                 currentUser.getId());
 
-        return userMapper.toResponse(savedUser);
+        return userMapper.toResponse(savedUser, findProfile(savedUser));
     }
 
     /**
@@ -419,6 +539,10 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         User savedUser = save(user);
 
+        invalidateActiveAdminIds();
+
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+
         log.info("Usuario después de actualizar: ID={}, Role={}, PrivacyType={}",
                 savedUser.getId(), savedUser.getRole().getName(), savedUser.getPrivacyType());
 
@@ -432,7 +556,7 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
                 "Tus datos han sido actualizados por el administrador",
                 NotificationType.ADMIN_ACTION);
 
-        return userMapper.toResponse(savedUser);
+        return userMapper.toResponse(savedUser, findProfile(savedUser));
     }
 
     /**
@@ -494,7 +618,7 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
      */
     private void validateEmailUniqueness(User user, String newEmail) {
         if (newEmail != null && !user.getEmail().equals(newEmail) &&
-                userRepository.existsByEmail(newEmail)) {
+                emailExists(newEmail)) {
             log.error("El email {} ya está en uso", newEmail);
 
             throw new EmailAlreadyExistsException("El correo electrónico ya existe");
@@ -567,7 +691,7 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
             String newUsername = request.username().trim();
             if (!newUsername.equals(user.getUsername())) {
                 // Verificar que el nuevo username no esté en uso por otro usuario
-                if (userRepository.findByUsername(newUsername).isPresent()) {
+                if (usernameExists(newUsername)) {
                     throw new IllegalArgumentException("El nombre de usuario '" + newUsername + "' ya está en uso");
                 }
                 user.setUsername(newUsername);
@@ -682,6 +806,11 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         save(user);
 
+        invalidateActiveAdminIds();
+
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
+        eventPublisher.publishEvent(UserStatusChangedEvent.activeChanged(user.getId(), true));
+
         log.info("Usuario con ID {} activado por el administrador {}", id, admin.getId());
 
         adminActionService.logAction(
@@ -734,6 +863,11 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         save(user);
 
+        invalidateActiveAdminIds();
+
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
+        eventPublisher.publishEvent(UserStatusChangedEvent.activeChanged(user.getId(), false));
+
         log.info("Usuario con ID {} desactivado por el administrador {}", id, admin.getId());
 
         adminActionService.logAction(
@@ -772,6 +906,8 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         save(user);
 
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
+
         log.info("Privacidad del usuario {} actualizada a {}", user.getId(), privacyType);
     }
 
@@ -861,8 +997,15 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
                     userToDelete.getId(), "users", userToDelete);
         }
 
+        // El perfil comparte la clave del usuario y no se borra en cascada
+        userProfileRepository.deleteByUserId(userToDelete.getId());
         userRepository.delete(userToDelete);
 
+        invalidateActiveAdminIds();
+
+        eventPublisher.publishEvent(UserChangedEvent.deleted(userToDelete));
+        eventPublisher.publishEvent(UserStatusChangedEvent.deleted(userToDelete.getId(), userToDelete.isEnabled()));
+
         log.info("Usuario con ID {} eliminado correctamente", id);
     }
 
@@ -897,6 +1040,8 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         log.info("Administrador creado con ID {}", savedUser.getId());
 
+        invalidateActiveAdminIds();
+
         UserProfile profile = UserProfile.builder()
                 .user(savedUser)
                 .creationDate(LocalDate.now())
@@ -904,9 +1049,9 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
                 .build();
 
         UserProfile savedProfile = userProfileRepository.save(profile);
-        savedUser.setProfile(savedProfile);
 
-        save(savedUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
+        eventPublisher.publishEvent(UserStatusChangedEvent.created(savedUser.getId(), savedUser.isEnabled()));
 
         adminActionService.logAction(
                 currentUser,
@@ -919,7 +1064,7 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
 
         log.info("Acción de creación de administrador registrada por el admin con ID {}", currentUser.getId());
 
-        return userMapper.toResponse(savedUser);
+        return userMapper.toResponse(savedUser, savedProfile);
     }
 
     /**
@@ -971,19 +1116,52 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
         return userRepository.countActiveAdmins();
     }
 
+    /**
+     * Obtiene los IDs de los administradores activos.
+     * 
+     * El conjunto se recarga como máximo una vez por periodo de validez y se
+     * invalida en esta instancia al crear, modificar, activar, desactivar o
+     * eliminar usuarios.
+     * 
+     * @return Conjunto inmutable de IDs de administradores activos
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getActiveAdminIds() {
+        CachedAdminIds cached = cachedAdminIds;
+
+        if (cached == null || System.currentTimeMillis() - cached.loadedAt() > adminIdsCacheTtlMillis) {
+            cached = new CachedAdminIds(Set.copyOf(userRepository.findActiveAdminIds()),
+                    System.currentTimeMillis());
+
+            cachedAdminIds = cached;
+
+            log.debug("Caché de administradores activos recargada: {} administradores", cached.ids().size());
+        }
+
+        return cached.ids();
+    }
+
+    /**
+     * Invalida la caché de IDs de administradores activos.
+     */
+    private void invalidateActiveAdminIds() {
+        cachedAdminIds = null;
+    }
+
     /**
      * Valida que los campos únicos no existan.
      * 
      * @param request Datos de registro
      */
     private void validateUniqueFields(UserRegisterRequest request) {
-        if (userRepository.existsByUsername(request.username())) {
+        if (usernameExists(request.username())) {
             log.error("El nombre de usuario '{}' ya existe", request.username());
 
             throw new UsernameAlreadyExistsException("El nombre de usuario ya existe");
         }
 
-        if (userRepository.existsByEmail(request.email())) {
+        if (emailExists(request.email())) {
             log.error("El email '{}' ya existe", request.email());
 
             throw new EmailAlreadyExistsException("Email already exists");
@@ -1126,6 +1304,31 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
                 profile.getUpdateDate());
     }
 
+    /**
+     * Obtiene el perfil extendido de un usuario por su clave compartida.
+     * 
+     * @param user Usuario
+     * @return Perfil del usuario, o null si no tiene
+     */
+    private UserProfile findProfile(User user) {
+        return userProfileRepository.findById(user.getId()).orElse(null);
+    }
+
+    /**
+     * Convierte una página de usuarios en DTOs con su perfil, cargando los
+     * perfiles de la página con una sola consulta.
+     * 
+     * @param users Página de usuarios
+     * @return Página de DTOs
+     */
+    private Page<UserResponse> toResponsesWithProfiles(Page<User> users) {
+        Map<Long, UserProfile> profiles = new HashMap<>();
+        userProfileRepository.findAllById(users.getContent().stream().map(User::getId).toList())
+                .forEach(profile -> profiles.put(profile.getId(), profile));
+
+        return users.map(user -> userMapper.toResponse(user, profiles.get(user.getId())));
+    }
+
     /**
      * Obtiene el usuario actual con su perfil.
      * 
@@ -1136,38 +1339,12 @@ public class UserServiceImpl extends GenericServiceImpl<User, Long> implements U
     public UserResponse getCurrentUserWithProfile() {
         User user = getCurrentUser();
         log.debug("Obtenisendo usuario actual con perfil. ID: {}", user.getId());
-        return userMapper.toResponse(user);
+        return userMapper.toResponse(user, findProfile(user));
     }
 
     /**
-     * Notifica a todos los administradores activos sobre un nuevo usuario
-     * registrado.
-     * 
-     * @param newUser Usuario recién registrado
+     * IDs de administradores activos cacheados y su instante de carga.
      */
-    private void notifyAdminsAboutNewUser(User newUser) {
-        try {
-            Role adminRole = roleService.findByNameOrThrow("ADMIN");
-            java.util.List<User> admins = userRepository.findByRoleAndActiveTrue(adminRole);
-
-            String fullName = newUser.getFirstName() + " " + newUser.getLastName();
-
-            for (User admin : admins) {
-                notificationService.createNotificationWithReference(
-                        admin,
-                        "Nuevo usuario registrado",
-                        fullName + " se ha unido a MindHub",
-                        NotificationType.ADMIN_ACTION,
-                        newUser.getId(),
-                        "users");
-            }
-
-            log.info("Notificaciones enviadas a {} administradores sobre nuevo usuario: {}",
-                    admins.size(), newUser.getUsername());
-        } catch (Exception e) {
-            log.error("Error al notificar a administradores sobre nuevo usuario: {}",
-                    e.getMessage(), e);
-        }
+    private record CachedAdminIds(Set<Long> ids, long loadedAt) {
     }
-
 }
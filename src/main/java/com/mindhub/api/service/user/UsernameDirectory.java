@@ -0,0 +1,278 @@
+package com.mindhub.api.service.user;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mindhub.api.dto.user.UsernameSuggestion;
+import com.mindhub.api.event.UserChangedEvent;
+import com.mindhub.api.model.enums.PrivacyType;
+import com.mindhub.api.repository.user.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Directorio en memoria de nombres de usuario y emails.
+ *
+ * Mantiene dos filtros de Bloom (nombres de usuario y emails) que descartan
+ * sin consultar la base de datos los valores que seguro no están en uso, y
+ * un trie de prefijos con los nombres de usuario públicos y activos para el
+ * autocompletado de menciones y cajas de búsqueda.
+ *
+ * Se construye al arrancar y se actualiza con los {@link UserChangedEvent}
+ * confirmados. Los filtros no admiten borrados: un nombre liberado sigue
+ * dando positivo y se comprueba en la base de datos.
+ */
+
+@Slf4j
+@Component
+public class UsernameDirectory {
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter usernames;
+    private volatile BloomFilter emails;
+
+    private final TrieNode root = new TrieNode();
+    private final Map<Long, String> indexedUsernames = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Cambios recibidos durante una reconstrucción en curso, o null. */
+    private List<UserChangedEvent> pendingEvents;
+
+    public UsernameDirectory(UserRepository userRepository,
+            @Value("${app.users.directory.expected-users:100000}") long expectedUsers,
+            @Value("${app.users.directory.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Construye los filtros y el trie a partir de la base de datos.
+     * 
+     * La lectura se hace fuera del cerrojo; los cambios confirmados mientras
+     * tanto se guardan y se vuelven a aplicar sobre las estructuras nuevas
+     * antes de publicarlas, de modo que ningún alta queda fuera del filtro.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Object[]> rows;
+        try {
+            rows = userRepository.findDirectoryRows();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        BloomFilter newUsernames = new BloomFilter(Math.max(expectedUsers, rows.size() * 2L), falsePositiveRate);
+        BloomFilter newEmails = new BloomFilter(Math.max(expectedUsers, rows.size() * 2L), falsePositiveRate);
+
+        int replayed;
+        int indexed;
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            indexedUsernames.clear();
+            for (Object[] row : rows) {
+                String username = (String) row[1];
+                newUsernames.put(username);
+                newEmails.put(normalizeEmail((String) row[2]));
+                if (row[3] == PrivacyType.PUBLIC && Boolean.TRUE.equals(row[4])) {
+                    insert((Long) row[0], username);
+                }
+            }
+
+            replayed = pendingEvents.size();
+            for (UserChangedEvent event : pendingEvents) {
+                apply(event, newUsernames, newEmails);
+            }
+            pendingEvents = null;
+            indexed = indexedUsernames.size();
+
+            usernames = newUsernames;
+            emails = newEmails;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Directorio de nombres de usuario construido: {} usuarios, {} en autocompletado, {} cambios reaplicados",
+                rows.size(), indexed, replayed);
+    }
+
+    /**
+     * Aplica un alta, cambio de nombre, cambio de visibilidad o borrado.
+     * 
+     * Antes de la primera construcción solo se actualiza el trie: los filtros
+     * aún no existen y las consultas van a la base de datos.
+     * 
+     * @param event Datos actuales del usuario
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            apply(event, usernames, emails);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica un cambio a los filtros indicados y al trie. Debe llamarse con el
+     * cerrojo de escritura.
+     */
+    private void apply(UserChangedEvent event, BloomFilter usernameFilter, BloomFilter emailFilter) {
+        if (!event.deleted()) {
+            if (usernameFilter != null) {
+                usernameFilter.put(event.username());
+            }
+            if (emailFilter != null) {
+                emailFilter.put(normalizeEmail(event.email()));
+            }
+        }
+
+        String previous = indexedUsernames.remove(event.userId());
+        if (previous != null) {
+            delete(event.userId(), previous);
+        }
+        if (!event.deleted() && event.active() && event.privacyType() == PrivacyType.PUBLIC) {
+            insert(event.userId(), event.username());
+        }
+    }
+
+    /**
+     * Indica si un nombre de usuario podría estar en uso.
+     * 
+     * @param username Nombre de usuario
+     * @return false si seguro que está libre; true si hay que comprobarlo
+     */
+    public boolean mightContainUsername(String username) {
+        BloomFilter filter = usernames;
+        return filter == null || filter.mightContain(username);
+    }
+
+    /**
+     * Indica si un email podría estar en uso.
+     * 
+     * @param email Email
+     * @return false si seguro que está libre; true si hay que comprobarlo
+     */
+    public boolean mightContainEmail(String email) {
+        BloomFilter filter = emails;
+        return filter == null || filter.mightContain(normalizeEmail(email));
+    }
+
+    /**
+     * Devuelve hasta {@code limit} nombres de usuario que empiezan por el
+     * prefijo (sin distinguir mayúsculas), los más cortos primero y en orden
+     * alfabético.
+     * 
+     * @param prefix Prefijo a completar
+     * @param limit  Número máximo de sugerencias
+     * @return Sugerencias ordenadas
+     */
+    public List<UsernameSuggestion> complete(String prefix, int limit) {
+        List<UsernameSuggestion> suggestions = new ArrayList<>(limit);
+        String key = prefix.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            TrieNode node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return suggestions;
+            }
+
+            // Recorrido en anchura: primero las completaciones más cortas
+            Deque<TrieNode> queue = new ArrayDeque<>();
+            queue.add(node);
+            while (!queue.isEmpty() && suggestions.size() < limit) {
+                TrieNode current = queue.poll();
+                for (Map.Entry<Long, String> user : current.users.entrySet()) {
+                    if (suggestions.size() == limit) {
+                        break;
+                    }
+                    suggestions.add(new UsernameSuggestion(user.getKey(), user.getValue()));
+                }
+                queue.addAll(current.children.values());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    private void insert(Long userId, String username) {
+        TrieNode node = root;
+        for (char c : username.toLowerCase(Locale.ROOT).toCharArray()) {
+            node = node.children.computeIfAbsent(c, key -> new TrieNode());
+        }
+        node.users.put(userId, username);
+        indexedUsernames.put(userId, username);
+    }
+
+    private void delete(Long userId, String username) {
+        String key = username.toLowerCase(Locale.ROOT);
+        List<TrieNode> path = new ArrayList<>(key.length() + 1);
+        TrieNode node = root;
+        path.add(node);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+            path.add(node);
+        }
+        if (node == null) {
+            return;
+        }
+        node.users.remove(userId);
+
+        // Poda de los nodos que han quedado vacíos
+        for (int i = key.length(); i > 0; i--) {
+            TrieNode current = path.get(i);
+            if (!current.users.isEmpty() || !current.children.isEmpty()) {
+                break;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class TrieNode {
+        private final TreeMap<Character, TrieNode> children = new TreeMap<>();
+        private final TreeMap<Long, String> users = new TreeMap<>();
+    }
+}
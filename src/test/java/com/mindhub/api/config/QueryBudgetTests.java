@@ -0,0 +1,382 @@
+package com.mindhub.api.config;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.mindhub.api.event.PostCreatedEvent;
+import com.mindhub.api.event.PostDeletedEvent;
+import com.mindhub.api.event.UserChangedEvent;
+import com.mindhub.api.model.comment.Comment;
+import com.mindhub.api.model.enums.NotificationType;
+import com.mindhub.api.model.enums.PrivacyType;
+import com.mindhub.api.model.enums.ReactionType;
+import com.mindhub.api.model.follow.Follow;
+import com.mindhub.api.model.notification.Notification;
+import com.mindhub.api.model.post.Post;
+import com.mindhub.api.model.reaction.Reaction;
+import com.mindhub.api.model.report.Report;
+import com.mindhub.api.model.role.Role;
+import com.mindhub.api.model.user.User;
+import com.mindhub.api.model.userProfile.UserProfile;
+import com.mindhub.api.repository.comment.CommentRepository;
+import com.mindhub.api.repository.follow.FollowRepository;
+import com.mindhub.api.repository.notification.NotificationRepository;
+import com.mindhub.api.repository.post.PostRepository;
+import com.mindhub.api.repository.reaction.ReactionRepository;
+import com.mindhub.api.repository.report.ReportRepository;
+import com.mindhub.api.repository.user.UserRepository;
+import com.mindhub.api.repository.userProfile.UserProfileRepository;
+import com.mindhub.api.service.post.PostTagBackfill;
+import com.mindhub.api.service.role.RoleService;
+
+/**
+ * Comprueba el presupuesto de consultas ({@link QueryBudget}) de todos los
+ * endpoints GET con un conjunto de datos sembrado: 25 usuarios con perfil,
+ * publicación, comentario, reacción, reporte, notificación y seguimiento
+ * mutuo con el administrador. Con un N+1 la cuenta crecería con las filas y
+ * superaría el presupuesto.
+ *
+ * Los datos se confirman y se publican los mismos eventos que los servicios
+ * para que los índices en memoria (búsqueda de usuarios, tendencias,
+ * etiquetas) los vean; los listados comprueban además que devuelven las
+ * filas sembradas, de modo que ninguno se mide sobre un resultado vacío. Se
+ * borran al terminar.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryBudgetTests {
+
+    private static final int SEEDED_USERS = 25;
+    private static final String SEEDED_POST = "Publicación de prueba";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private PostTagBackfill postTagBackfill;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ReactionRepository reactionRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Value("${app.admin.username:admin}")
+    private String adminUsername;
+
+    private User admin;
+    private final List<User> authors = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+    private Long targetPostId;
+    private Long commentId;
+    private Long reportId;
+    private long lastNotificationId;
+
+    @BeforeEach
+    void seed() {
+        admin = userRepository.findByUsername(adminUsername).orElseThrow();
+        Long maxNotificationId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM notifications", Long.class);
+        lastNotificationId = maxNotificationId != null ? maxNotificationId : 0;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Role role = roleService.findByNameOrThrow(Role.USER);
+            LocalDate today = LocalDate.now();
+            Post target = null;
+
+            for (int i = 0; i < SEEDED_USERS; i++) {
+                User author = userRepository.save(User.builder()
+                        .username("budget_" + i)
+                        .password("x")
+                        .firstName("Presupuesto")
+                        .lastName("Apellido")
+                        .email("budget_" + i + "@test.local")
+                        .role(role)
+                        .privacyType(PrivacyType.PUBLIC)
+                        .active(true)
+                        .registrationDate(today)
+                        .lastActivityDate(today)
+                        .build());
+                authors.add(author);
+                userProfileRepository.save(UserProfile.builder()
+                        .user(author)
+                        .occupation("Pruebas")
+                        .creationDate(today)
+                        .build());
+
+                Post post = postRepository.save(Post.builder()
+                        .content(SEEDED_POST + " " + i + " #prueba")
+                        .privacyType(PrivacyType.PUBLIC)
+                        .author(author)
+                        .build());
+                posts.add(post);
+                if (target == null) {
+                    target = post;
+                }
+
+                Comment comment = commentRepository.save(Comment.builder()
+                        .content("Comentario " + i)
+                        .author(author)
+                        .post(target)
+                        .creationDate(today)
+                        .updateDate(today)
+                        .build());
+                if (commentId == null) {
+                    commentId = comment.getId();
+                }
+                reactionRepository.save(Reaction.builder()
+                        .type(ReactionType.LIKE)
+                        .user(author)
+                        .post(target)
+                        .creationDate(today)
+                        .build());
+                followRepository.save(Follow.builder().follower(author).followed(admin).followDate(today).build());
+                followRepository.save(Follow.builder().follower(admin).followed(author).followDate(today).build());
+                Report report = reportRepository.save(Report.builder()
+                        .reason("Spam")
+                        .reporter(author)
+                        .post(post)
+                        .reportDate(LocalDateTime.now())
+                        .build());
+                if (reportId == null) {
+                    reportId = report.getId();
+                }
+                notificationRepository.save(Notification.builder()
+                        .title("Nuevo comentario")
+                        .message(author.getUsername() + " comentó tu publicación")
+                        .type(NotificationType.COMMENT)
+                        .creationDate(today)
+                        .user(admin)
+                        .build());
+            }
+            targetPostId = target.getId();
+        });
+
+        // Lo que harían los servicios tras confirmar: índices en memoria y etiquetas
+        for (User author : authors) {
+            eventPublisher.publishEvent(UserChangedEvent.updated(author));
+        }
+        for (Post post : posts) {
+            eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), post.getAuthor().getId()));
+        }
+        postTagBackfill.backfill();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        String seededUsers = "SELECT id FROM users WHERE username LIKE 'budget\\_%'";
+        String seededPosts = "SELECT id FROM posts WHERE author_id IN (" + seededUsers + ")";
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM notifications WHERE user_id IN (" + seededUsers + ")"
+                    + " OR (user_id = ? AND id > ?)", admin.getId(), lastNotificationId);
+            jdbcTemplate.update("DELETE FROM comments WHERE author_id IN (" + seededUsers + ")"
+                    + " OR post_id IN (" + seededPosts + ")");
+            jdbcTemplate.update("DELETE FROM reactions WHERE user_id IN (" + seededUsers + ")"
+                    + " OR post_id IN (" + seededPosts + ")");
+            jdbcTemplate.update("DELETE FROM reports WHERE reporter_id IN (" + seededUsers + ")"
+                    + " OR post_id IN (" + seededPosts + ")");
+            jdbcTemplate.update("DELETE FROM follows WHERE follower_id IN (" + seededUsers + ")"
+                    + " OR followed_id IN (" + seededUsers + ")");
+            jdbcTemplate.update("DELETE FROM user_follow_stats WHERE user_id IN (" + seededUsers + ")");
+            jdbcTemplate.update("DELETE FROM post_tags WHERE post_id IN (" + seededPosts + ")");
+            jdbcTemplate.update("DELETE FROM post_view_stats WHERE post_id IN (" + seededPosts + ")");
+            jdbcTemplate.update("DELETE FROM posts WHERE id IN (" + seededPosts + ")");
+            jdbcTemplate.update("DELETE FROM user_profiles WHERE user_id IN (" + seededUsers + ")");
+            jdbcTemplate.update("DELETE FROM notification_preferences WHERE user_id IN (" + seededUsers + ")");
+            jdbcTemplate.update("DELETE FROM users WHERE id IN (" + seededUsers + ")");
+        });
+
+        for (Post post : posts) {
+            eventPublisher.publishEvent(new PostDeletedEvent(post.getId(), post.getAuthor().getId()));
+        }
+        for (User author : authors) {
+            eventPublisher.publishEvent(UserChangedEvent.deleted(author));
+        }
+    }
+
+    /**
+     * Recorre todos los endpoints GET registrados. Solo se excluyen los que no
+     * cuelgan de {@code /api}: los de Spring ({@code /error}) y la
+     * documentación OpenAPI, que no consultan la base de datos.
+     */
+    @Test
+    void everyGetEndpointStaysWithinItsBudget() throws Exception {
+        Long authorId = authors.get(0).getId();
+        LocalDate today = LocalDate.now();
+
+        // URL de ejemplo de los endpoints con variables o parámetros obligatorios
+        Map<String, String> examples = Map.ofEntries(
+                Map.entry("/api/posts/user/{userId}", "/api/posts/user/" + authorId),
+                Map.entry("/api/posts/search", "/api/posts/search?q=prueba"),
+                Map.entry("/api/posts/tag/{tag}", "/api/posts/tag/prueba"),
+                Map.entry("/api/posts/{id}", "/api/posts/" + targetPostId),
+                Map.entry("/api/admin/users", "/api/admin/users?size=50"),
+                Map.entry("/api/admin/reports", "/api/admin/reports?size=50"),
+                Map.entry("/api/admin/stats/timeseries",
+                        "/api/admin/stats/timeseries?metric=POSTS&from=" + today.minusDays(6) + "&to=" + today),
+                Map.entry("/api/users/{id}", "/api/users/" + authorId),
+                Map.entry("/api/users/{id}/follow-stats", "/api/users/" + authorId + "/follow-stats"),
+                Map.entry("/api/users/{id}/page", "/api/users/" + authorId + "/page"),
+                Map.entry("/api/users/search", "/api/users/search?query=presupuesto&size=50"),
+                Map.entry("/api/users/autocomplete", "/api/users/autocomplete?prefix=budget"),
+                Map.entry("/api/auth/availability", "/api/auth/availability?username=budget_0"),
+                Map.entry("/api/notifications", "/api/notifications?size=50"),
+                Map.entry("/api/reactions/posts/{postId}", "/api/reactions/posts/" + targetPostId),
+                Map.entry("/api/reactions/posts/{postId}/my-reaction",
+                        "/api/reactions/posts/" + targetPostId + "/my-reaction"),
+                Map.entry("/api/reactions/posts/{postId}/reactions-summary",
+                        "/api/reactions/posts/" + targetPostId + "/reactions-summary"),
+                Map.entry("/api/reports/{id}", "/api/reports/" + reportId),
+                Map.entry("/api/reports/pending", "/api/reports/pending?size=50"),
+                Map.entry("/api/reports/post/{postId}", "/api/reports/post/" + targetPostId),
+                Map.entry("/api/follows/stats/{userId}", "/api/follows/stats/" + admin.getId()),
+                Map.entry("/api/follows/{userId}/followers", "/api/follows/" + admin.getId() + "/followers?size=50"),
+                Map.entry("/api/follows/{userId}/followed", "/api/follows/" + admin.getId() + "/followed?size=50"),
+                Map.entry("/api/follows/states", "/api/follows/states?ids=" + authorId + "," + admin.getId()),
+                Map.entry("/api/follows/check/{userId}", "/api/follows/check/" + authorId),
+                Map.entry("/api/follows/my-followers", "/api/follows/my-followers?size=50"),
+                Map.entry("/api/follows/my-following", "/api/follows/my-following?size=50"),
+                Map.entry("/api/comments/{id}", "/api/comments/" + commentId),
+                Map.entry("/api/comments/post/{postId}", "/api/comments/post/" + targetPostId + "?size=50"));
+
+        // Texto que debe aparecer en los listados que incluyen filas sembradas
+        Map<String, String> seededContent = Map.ofEntries(
+                Map.entry("/api/posts/feed", SEEDED_POST),
+                Map.entry("/api/posts/public", SEEDED_POST),
+                Map.entry("/api/posts/user/{userId}", SEEDED_POST),
+                Map.entry("/api/posts/reported", SEEDED_POST),
+                Map.entry("/api/posts/search", SEEDED_POST),
+                Map.entry("/api/posts/trending", SEEDED_POST),
+                Map.entry("/api/posts/tag/{tag}", SEEDED_POST),
+                Map.entry("/api/admin/users", "budget_"),
+                Map.entry("/api/admin/reports", "Spam"),
+                Map.entry("/api/users/search", "budget_"),
+                Map.entry("/api/users/autocomplete", "budget_"),
+                Map.entry("/api/notifications", "comentó tu publicación"),
+                Map.entry("/api/notifications/unread", "comentó tu publicación"),
+                Map.entry("/api/reactions/posts/{postId}", "LIKE"),
+                Map.entry("/api/reports/pending", "Spam"),
+                Map.entry("/api/reports/post/{postId}", "Spam"),
+                Map.entry("/api/follows/{userId}/followers", "budget_"),
+                Map.entry("/api/follows/{userId}/followed", "budget_"),
+                Map.entry("/api/follows/my-followers", "budget_"),
+                Map.entry("/api/follows/my-following", "budget_"),
+                Map.entry("/api/comments/post/{postId}", "Comentario"));
+
+        Set<String> patterns = new TreeSet<>();
+        handlerMapping.getHandlerMethods().forEach((info, handler) -> {
+            if (info.getMethodsCondition().getMethods().contains(RequestMethod.GET)) {
+                info.getPatternValues().stream().filter(pattern -> pattern.startsWith("/api/")).forEach(patterns::add);
+            }
+        });
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(patterns).as("endpoints GET").contains(seededContent.keySet().toArray(String[]::new));
+
+        for (String pattern : patterns) {
+            String url = examples.getOrDefault(pattern, pattern);
+            if (url.contains("{")) {
+                softly.fail("Falta una URL de ejemplo para %s", pattern);
+                continue;
+            }
+
+            MvcResult result = mockMvc.perform(get(url).with(user(admin))).andReturn();
+            Integer statements = (Integer) result.getRequest().getAttribute(QueryBudgetInterceptor.STATEMENTS_ATTRIBUTE);
+            Integer budget = (Integer) result.getRequest().getAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE);
+            int status = result.getResponse().getStatus();
+
+            // 404 es válido (p. ej. el perfil propio del administrador); 400 y 5xx indican una URL mal formada
+            softly.assertThat(status).as("estado de %s", url).isNotEqualTo(400).isLessThan(500);
+            softly.assertThat(budget).as("presupuesto de %s", url).isNotNull();
+            softly.assertThat(statements).as("sentencias de %s", url).isNotNull().isLessThanOrEqualTo(budget);
+
+            String expected = seededContent.get(pattern);
+            if (expected != null) {
+                softly.assertThat(status).as("estado de %s", url).isEqualTo(200);
+                softly.assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                        .as("filas sembradas en %s", url)
+                        .contains(expected);
+            }
+        }
+        softly.assertAll();
+    }
+
+    /**
+     * Las subconsultas de la página de perfil van en hilos virtuales: deben
+     * sumar a la cuenta de la petición.
+     */
+    @Test
+    void profilePageCountsStatementsOfItsParallelQueries() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/users/" + authors.get(0).getId() + "/page").with(user(admin)))
+                .andReturn();
+        Integer statements = (Integer) result.getRequest().getAttribute(QueryBudgetInterceptor.STATEMENTS_ATTRIBUTE);
+        Integer budget = (Integer) result.getRequest().getAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        softly.assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains(SEEDED_POST);
+        // Usuario, perfil, relación de seguimiento y página de publicaciones como mínimo
+        softly.assertThat(statements).isNotNull().isGreaterThanOrEqualTo(4).isLessThanOrEqualTo(budget);
+        softly.assertAll();
+    }
+}
@@ -0,0 +1,199 @@
+package com.mindhub.api.service.chatbot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindhub.api.service.chatbot.ChatBotResponseService.Intent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba que el autómata de intenciones clasifica igual que la antigua
+ * cadena de comprobaciones contains().
+ */
+class ChatBotIntentGoldenTests {
+
+    private static final int TIMING_WARMUP_ROUNDS = 2_000;
+    private static final int TIMING_ROUNDS = 200;
+    private static final int TIMING_ATTEMPTS = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Evita que el JIT descarte las clasificaciones cronometradas. */
+    private long blackhole;
+
+    private ChatBotResponseService service;
+    private List<Intent> intents;
+
+    /** Palabras clave en minúsculas por intención, en orden de prioridad. */
+    private Map<String, List<String>> legacyChain;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ClassPathResource table = new ClassPathResource("chatbot/intents.json");
+        service = new ChatBotResponseService(objectMapper,
+                new ChatBotResponseCache(new SimpleMeterRegistry(), 1000, 600), table);
+
+        try (InputStream input = table.getInputStream()) {
+            intents = objectMapper.readValue(input, new TypeReference<List<Intent>>() {
+            });
+        }
+        intents.sort(Comparator.comparingInt(Intent::priority));
+
+        legacyChain = new LinkedHashMap<>();
+        for (Intent intent : intents) {
+            legacyChain.put(intent.id(),
+                    intent.keywords().stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList());
+        }
+    }
+
+    @Test
+    void goldenCorpusKeepsLegacyIntents() throws IOException {
+        Map<String, String> golden = readGolden();
+        assertThat(golden).hasSizeGreaterThan(200);
+
+        SoftAssertions softly = new SoftAssertions();
+        golden.forEach((mensaje, esperado) -> {
+            softly.assertThat(idOf(service.clasificar(mensaje))).as(mensaje).isEqualTo(esperado);
+        });
+        softly.assertAll();
+    }
+
+    @Test
+    void keywordPairsMatchLinearChain() {
+        List<String> keywords = intents.stream().flatMap(intent -> intent.keywords().stream()).toList();
+
+        for (String first : keywords) {
+            assertThat(idOf(service.clasificar(first))).as(first).isEqualTo(legacyIntent(first));
+
+            for (String second : keywords) {
+                String mensaje = first + " y " + second;
+                assertThat(idOf(service.clasificar(mensaje))).as(mensaje).isEqualTo(legacyIntent(mensaje));
+            }
+        }
+    }
+
+    @Test
+    void normalizeMatchesRegexCollapse() throws IOException {
+        List<String> mensajes = new ArrayList<>(readGolden().keySet());
+        mensajes.addAll(List.of("", " ", "\t\n", "  Hola  ", "hola\t\tque\r\ntal", "a \u000B b\f",
+                "\u0001 hola \u0001", "HOLA   MUNDO", "sin_espacios", " a b c "));
+
+        for (String mensaje : mensajes) {
+            String expected = IntentMatcher.normalize(mensaje).replaceAll("\\s+", " ").trim();
+            assertThat(ChatBotResponseCache.normalize(mensaje)).as(mensaje).isEqualTo(expected);
+        }
+    }
+
+    /**
+     * Comparativa de tiempos sobre el corpus de referencia: tras un
+     * calentamiento, el autómata (incluida la normalización del mensaje) no
+     * debe ser más lento que la cadena lineal de contains().
+     *
+     * En una máquina compartida otros hilos (compilación JIT, GC, contextos
+     * de otras pruebas) pueden robar CPU durante toda una medición, así que
+     * se repite hasta {@link #TIMING_ATTEMPTS} veces antes de fallar.
+     */
+    @Test
+    void automatonIsNotSlowerThanLinearChainOnGoldenCorpus() throws IOException {
+        List<String> corpus = List.copyOf(readGolden().keySet());
+
+        for (int i = 0; i < TIMING_WARMUP_ROUNDS; i++) {
+            timeAutomaton(corpus);
+            timeLinearChain(corpus);
+        }
+
+        long automaton = Long.MAX_VALUE;
+        long linear = 0;
+        for (int attempt = 1; attempt <= TIMING_ATTEMPTS && automaton > linear; attempt++) {
+            automaton = Long.MAX_VALUE;
+            linear = Long.MAX_VALUE;
+            for (int i = 0; i < TIMING_ROUNDS; i++) {
+                automaton = Math.min(automaton, timeAutomaton(corpus));
+                linear = Math.min(linear, timeLinearChain(corpus));
+            }
+
+            System.out.printf(Locale.ROOT, "Corpus de %d mensajes (intento %d): autómata %.1f µs, cadena lineal %.1f µs%n",
+                    corpus.size(), attempt, automaton / 1000.0, linear / 1000.0);
+        }
+        assertThat(automaton).isLessThanOrEqualTo(linear);
+    }
+
+    private long timeAutomaton(List<String> corpus) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (String mensaje : corpus) {
+            hits += service.clasificar(mensaje) != null ? 1 : 0;
+        }
+        blackhole += hits;
+        return System.nanoTime() - start;
+    }
+
+    private long timeLinearChain(List<String> corpus) {
+        long start = System.nanoTime();
+        int hits = 0;
+        for (String mensaje : corpus) {
+            hits += legacyIntent(mensaje).length();
+        }
+        blackhole += hits;
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Evaluación lineal equivalente a la antigua cadena: la primera intención
+     * en orden de prioridad con alguna palabra clave contenida en el mensaje.
+     */
+    private String legacyIntent(String mensaje) {
+        String lower = mensaje.toLowerCase(Locale.ROOT).trim();
+
+        for (Map.Entry<String, List<String>> intent : legacyChain.entrySet()) {
+            for (String keyword : intent.getValue()) {
+                if (lower.contains(keyword)) {
+                    return intent.getKey();
+                }
+            }
+        }
+        return "-";
+    }
+
+    private static String idOf(Intent intent) {
+        return intent != null ? intent.id() : "-";
+    }
+
+    private static Map<String, String> readGolden() throws IOException {
+        Map<String, String> golden = new LinkedHashMap<>();
+        List<String> lines = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("chatbot/intents-golden.tsv").getInputStream(), StandardCharsets.UTF_8))) {
+            reader.lines().forEach(lines::add);
+        }
+
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split("\t");
+            golden.put(columns[0], columns[1]);
+        }
+        return golden;
+    }
+}
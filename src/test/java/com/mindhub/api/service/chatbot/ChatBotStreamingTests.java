@@ -0,0 +1,154 @@
+package com.mindhub.api.service.chatbot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mindhub.api.dto.chatbot.ChatBotMessageResponse;
+import com.mindhub.api.mapper.chatBotMessage.ChatBotMessageMapper;
+import com.mindhub.api.model.chatbot.ChatBot;
+import com.mindhub.api.model.chatbot.ChatBotMessage;
+import com.mindhub.api.model.user.User;
+import com.mindhub.api.repository.chatBotMessage.ChatBotMessageRepository;
+import com.mindhub.api.repository.chatbot.ChatBotRepository;
+import com.mindhub.api.service.user.UserService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Emite respuestas por streaming con {@link LocalStubChatResponseProvider}:
+ * comprueba que los tokens llegan por separado, que cancelar la tarea (lo
+ * que hace el controlador cuando el cliente SSE se desconecta) detiene la
+ * generación y que se usa el proveedor configurado.
+ */
+class ChatBotStreamingTests {
+
+    private static final String MESSAGE = "hola, ¿cómo publico una foto en mi perfil?";
+
+    private final ChatBotMessageBuffer messageBuffer = mock(ChatBotMessageBuffer.class);
+    private final ChatBotRepository chatBotRepository = mock(ChatBotRepository.class);
+    private final UserService userService = mock(UserService.class);
+    private final ChatResponseProvider rules = mock(ChatResponseProvider.class);
+
+    private ChatBotServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        when(rules.getName()).thenReturn("rules");
+        when(userService.getCurrentUser()).thenReturn(User.builder().id(1L).username("stream").build());
+        when(chatBotRepository.findByActiveTrue()).thenReturn(Optional.of(ChatBot.builder().id(1L).build()));
+        when(messageBuffer.read(anyString(), any())).thenAnswer(invocation -> {
+            Function<List<ChatBotMessage>, ?> reader = invocation.getArgument(1);
+            return reader.apply(List.of());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdownStreams();
+        }
+    }
+
+    @Test
+    void tokensArriveOneByOneAndCompleteTheResponse() throws InterruptedException {
+        LocalStubChatResponseProvider stub = new LocalStubChatResponseProvider(1);
+        service = newService("stub", stub);
+
+        RecordingListener listener = new RecordingListener();
+        service.streamMessage(MESSAGE, listener);
+
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        String expected = stub.generate(MESSAGE, List.of());
+        assertThat(listener.tokens).hasSizeGreaterThan(5);
+        assertThat(String.join("", listener.tokens).trim()).isEqualTo(expected);
+        assertThat(listener.errors).isEmpty();
+        // Mensaje del usuario y respuesta completa
+        verify(messageBuffer, times(2)).append(any());
+    }
+
+    @Test
+    void cancellingTheTaskStopsGeneration() throws InterruptedException {
+        LocalStubChatResponseProvider stub = new LocalStubChatResponseProvider(50);
+        service = newService("stub", stub);
+        int totalTokens = (int) ChatResponseProvider.TOKEN.matcher(stub.generate(MESSAGE, List.of())).results()
+                .count();
+
+        RecordingListener listener = new RecordingListener();
+        Future<?> task = service.streamMessage(MESSAGE, listener);
+
+        assertThat(listener.firstToken.await(5, TimeUnit.SECONDS)).isTrue();
+        task.cancel(true);
+        Thread.sleep(300);
+
+        assertThat(listener.tokens).hasSizeLessThan(totalTokens);
+        assertThat(listener.done.getCount()).isEqualTo(1);
+        assertThat(listener.errors).isEmpty();
+        // Solo el mensaje del usuario: la respuesta parcial se descarta
+        verify(messageBuffer, times(1)).append(any());
+
+        // La cancelación libera el cupo de respuestas simultáneas
+        RecordingListener next = new RecordingListener();
+        service.streamMessage(MESSAGE, next);
+        service.streamMessage(MESSAGE, new RecordingListener());
+        assertThat(next.firstToken.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void unknownProviderFailsAtStartup() {
+        LocalStubChatResponseProvider stub = new LocalStubChatResponseProvider(1);
+
+        assertThatThrownBy(() -> newService("remoto", stub))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("remoto")
+                .hasMessageContaining("stub")
+                .hasMessageContaining("rules");
+    }
+
+    private ChatBotServiceImpl newService(String providerName, ChatResponseProvider stub) {
+        return new ChatBotServiceImpl(chatBotRepository, mock(ChatBotMessageRepository.class),
+                mock(ChatBotMessageMapper.class), userService, List.of(rules, stub), messageBuffer,
+                new SimpleMeterRegistry(), providerName, 5, 2);
+    }
+
+    private static final class RecordingListener implements ChatStreamListener {
+
+        private final List<String> tokens = new CopyOnWriteArrayList<>();
+        private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstToken = new CountDownLatch(1);
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        @Override
+        public void onToken(String token) {
+            tokens.add(token);
+            firstToken.countDown();
+        }
+
+        @Override
+        public void onComplete(ChatBotMessageResponse response) {
+            done.countDown();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            errors.add(error);
+        }
+    }
+}
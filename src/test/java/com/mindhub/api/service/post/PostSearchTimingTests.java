@@ -0,0 +1,179 @@
+package com.mindhub.api.service.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mindhub.api.dto.post.PostSearchPage;
+import com.mindhub.api.model.enums.PrivacyType;
+import com.mindhub.api.model.role.Role;
+import com.mindhub.api.model.user.User;
+import com.mindhub.api.repository.user.UserRepository;
+import com.mindhub.api.service.role.RoleService;
+
+/**
+ * Compara los tiempos de {@link PostService#searchPosts} con la búsqueda por
+ * {@code LIKE '%término%'} sobre un corpus generado de publicaciones.
+ *
+ * El término raro aparece en una de cada mil publicaciones: el LIKE tiene
+ * que recorrer la tabla entera mientras que la búsqueda de texto completo
+ * resuelve los candidatos con el índice GIN. El término común se mide solo
+ * como referencia, porque ahí el LIKE con LIMIT se detiene pronto.
+ */
+@SpringBootTest
+class PostSearchTimingTests {
+
+    private static final int CORPUS_SIZE = 50_000;
+    private static final int INSERT_BATCH = 1_000;
+    private static final int RARE_EVERY = 1_000;
+    private static final String RARE_TERM = "zarzamora";
+    private static final String COMMON_TERM = "playa";
+    private static final int PAGE_SIZE = 20;
+
+    private static final int WARMUP_RUNS = 3;
+    private static final int TIMED_RUNS = 15;
+
+    private static final String[] VOCABULARY = {
+            "hoy", "fuimos", "a", "la", "playa", "con", "amigos", "y", "comimos", "paella", "el", "tiempo",
+            "estuvo", "genial", "mañana", "trabajo", "reunión", "proyecto", "nuevo", "libro", "película",
+            "concierto", "montaña", "ciudad", "viaje", "tren", "café", "desayuno", "música", "fútbol",
+            "partido", "entrenamiento", "receta", "cocina", "jardín", "perro", "gato", "familia", "cumpleaños",
+            "fiesta", "noche", "lluvia", "sol", "verano", "invierno", "otoño", "primavera", "estudio", "examen" };
+
+    /** Búsqueda anterior: subcadena sin índice, con la misma visibilidad y orden por id. */
+    private static final String LIKE_SEARCH = "SELECT p.id FROM posts p JOIN users u ON u.id = p.author_id "
+            + "WHERE LOWER(p.content) LIKE '%' || LOWER(?) || '%' "
+            + "AND (p.author_id = ? OR (p.privacy_type = 'PUBLIC' AND (u.privacy_type = 'PUBLIC' "
+            + "     OR EXISTS (SELECT 1 FROM follows f WHERE f.follower_id = ? AND f.followed_id = p.author_id)))) "
+            + "ORDER BY p.id DESC LIMIT ?";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+
+    @BeforeEach
+    void seedCorpus() {
+        LocalDate today = LocalDate.now();
+        author = transactionTemplate.execute(status -> userRepository.save(User.builder()
+                .username("search_timing")
+                .password("x")
+                .firstName("Búsqueda")
+                .lastName("Cronometrada")
+                .email("search_timing@test.local")
+                .role(roleService.findByNameOrThrow(Role.USER))
+                .privacyType(PrivacyType.PUBLIC)
+                .active(true)
+                .registrationDate(today)
+                .lastActivityDate(today)
+                .build()));
+
+        Random random = new Random(42);
+        List<String> contents = new ArrayList<>(CORPUS_SIZE);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            StringBuilder content = new StringBuilder();
+            int words = 8 + random.nextInt(25);
+            for (int w = 0; w < words; w++) {
+                content.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(' ');
+            }
+            if (i % RARE_EVERY == 0) {
+                content.append(RARE_TERM);
+            }
+            contents.add(content.toString().strip());
+        }
+
+        for (int from = 0; from < CORPUS_SIZE; from += INSERT_BATCH) {
+            List<String> batch = contents.subList(from, Math.min(from + INSERT_BATCH, CORPUS_SIZE));
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO posts (content, privacy_type, creation_date, update_date, author_id) "
+                            + "VALUES (?, 'PUBLIC', ?, ?, ?)",
+                    batch, batch.size(), (statement, content) -> {
+                        statement.setString(1, content);
+                        statement.setDate(2, Date.valueOf(today));
+                        statement.setDate(3, Date.valueOf(today));
+                        statement.setLong(4, author.getId());
+                    }));
+        }
+        jdbcTemplate.execute("ANALYZE posts");
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(author, null, author.getAuthorities()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM posts WHERE author_id = ?", author.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", author.getId());
+        });
+    }
+
+    @Test
+    void fullTextSearchBeatsLikeOnRareTerm() {
+        PostSearchPage firstPage = postService.searchPosts(RARE_TERM, null, PAGE_SIZE);
+        assertThat(firstPage.posts()).hasSize(PAGE_SIZE);
+        assertThat(like(RARE_TERM)).hasSize(PAGE_SIZE);
+
+        long fullText = median(() -> postService.searchPosts(RARE_TERM, null, PAGE_SIZE));
+        long like = median(() -> like(RARE_TERM));
+        long fullTextCommon = median(() -> postService.searchPosts(COMMON_TERM, null, PAGE_SIZE));
+        long likeCommon = median(() -> like(COMMON_TERM));
+
+        System.out.printf(Locale.ROOT,
+                "Corpus de %d publicaciones, mediana de %d ejecuciones: '%s' texto completo %.2f ms, LIKE %.2f ms; "
+                        + "'%s' texto completo %.2f ms, LIKE %.2f ms%n",
+                CORPUS_SIZE, TIMED_RUNS, RARE_TERM, fullText / 1e6, like / 1e6,
+                COMMON_TERM, fullTextCommon / 1e6, likeCommon / 1e6);
+
+        assertThat(fullText).isLessThan(like);
+    }
+
+    private List<Long> like(String term) {
+        return jdbcTemplate.queryForList(LIKE_SEARCH, Long.class, term, author.getId(), author.getId(), PAGE_SIZE);
+    }
+
+    private static long median(Supplier<?> search) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            search.get();
+        }
+
+        long[] times = new long[TIMED_RUNS];
+        for (int i = 0; i < TIMED_RUNS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[TIMED_RUNS / 2];
+    }
+}
@@ -0,0 +1,25 @@
+package com.mindhub.api.service.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.mindhub.api.model.enums.TagType;
+
+class PostTagExtractorTests {
+
+    @Test
+    void extractsNormalizedHashtags() {
+        assertThat(PostTagExtractor.extract("Hola #Java y #Código, #java otra vez", TagType.HASHTAG))
+                .containsExactly("java", "código");
+    }
+
+    @Test
+    void skipsHashtagsLongerThanTheLimitAfterLowercasing() {
+        // "İ" pasa a dos caracteres en minúsculas: 50 en el texto, 51 normalizado
+        String tag = "İ" + "a".repeat(PostTagExtractor.MAX_HASHTAG_LENGTH - 1);
+
+        assertThat(PostTagExtractor.extract("#" + tag + " #corto", TagType.HASHTAG))
+                .containsExactly("corto");
+    }
+}
@@ -0,0 +1,75 @@
+package com.mindhub.api.service.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mindhub.api.event.PostCreatedEvent;
+import com.mindhub.api.event.PostEngagementEvent;
+import com.mindhub.api.event.PostEngagementEvent.Kind;
+import com.mindhub.api.repository.post.PostRepository;
+
+class TrendingPostRankingTests {
+
+    private static final Long POST_ID = 1L;
+
+    private TrendingPostRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new TrendingPostRanking(mock(PostRepository.class), 12, 100, 7);
+        ranking.onPostCreated(new PostCreatedEvent(POST_ID, 10L));
+    }
+
+    @Test
+    void removingAReactionRestoresThePreviousScore() {
+        double before = ranking.score(POST_ID);
+
+        ranking.onPostEngagement(PostEngagementEvent.added(POST_ID, Kind.REACTION, 100L));
+        assertThat(ranking.score(POST_ID)).isGreaterThan(before);
+
+        ranking.onPostEngagement(PostEngagementEvent.removed(POST_ID, Kind.REACTION, 100L, LocalDate.now()));
+        assertThat(ranking.score(POST_ID)).isCloseTo(before, within(1e-9));
+    }
+
+    @Test
+    void repeatedLikeAndUnlikeDoesNotRatchetTheScore() {
+        double before = ranking.score(POST_ID);
+
+        for (long reactionId = 1; reactionId <= 50; reactionId++) {
+            ranking.onPostEngagement(PostEngagementEvent.added(POST_ID, Kind.REACTION, reactionId));
+            ranking.onPostEngagement(PostEngagementEvent.removed(POST_ID, Kind.REACTION, reactionId, LocalDate.now()));
+        }
+
+        assertThat(ranking.score(POST_ID)).isCloseTo(before, within(1e-9));
+    }
+
+    @Test
+    void removingACommentAfterARebaseRestoresThePreviousScore() {
+        ranking.onPostEngagement(PostEngagementEvent.added(POST_ID, Kind.COMMENT, 7L));
+        ranking.rebase();
+        double withComment = ranking.score(POST_ID);
+
+        ranking.onPostEngagement(PostEngagementEvent.removed(POST_ID, Kind.COMMENT, 7L, LocalDate.now()));
+
+        assertThat(ranking.score(POST_ID)).isLessThan(withComment);
+        assertThat(ranking.rankedPostIds()).containsExactly(POST_ID);
+        assertThat(ranking.score(POST_ID)).isCloseTo(withComment / 3, within(1e-3));
+    }
+
+    @Test
+    void removingAnUnknownEngagementBeforeTheSeedIsIgnored() {
+        double before = ranking.score(POST_ID);
+
+        ranking.onPostEngagement(PostEngagementEvent.removed(POST_ID, Kind.REACTION, 999L, LocalDate.now()));
+
+        assertThat(ranking.score(POST_ID)).isEqualTo(before);
+        assertThat(ranking.rankedPostIds()).isEqualTo(List.of(POST_ID));
+    }
+}
@@ -0,0 +1,42 @@
+package com.mindhub.api.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTests {
+
+    @Test
+    void estimateIsExactWithoutCollisions() {
+        CountMinSketch sketch = new CountMinSketch(4, 1 << 16);
+
+        sketch.add("java", 3);
+        sketch.add("java", 2);
+
+        assertThat(sketch.estimate("java")).isEqualTo(5);
+        assertThat(sketch.estimate("spring")).isZero();
+    }
+
+    @Test
+    void equalStringHashCodesDoNotShareCounters() {
+        // "Aa" y "BB" tienen el mismo String.hashCode() y la misma longitud
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        CountMinSketch sketch = new CountMinSketch(4, 1 << 16);
+
+        sketch.add("Aa", 100);
+
+        assertThat(sketch.estimate("BB")).isZero();
+    }
+
+    @Test
+    void neverUnderestimates() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("tag" + i, i % 7 + 1);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(sketch.estimate("tag" + i)).isGreaterThanOrEqualTo(i % 7 + 1);
+        }
+    }
+}
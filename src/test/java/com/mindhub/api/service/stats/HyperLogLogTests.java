@@ -0,0 +1,73 @@
+package com.mindhub.api.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTests {
+
+    @Test
+    void estimatesKnownCardinalitiesWithinOnePercent() {
+        for (int cardinality : new int[] { 10_000, 100_000, 1_000_000 }) {
+            HyperLogLog sketch = new HyperLogLog(14);
+            for (long id = 1; id <= cardinality; id++) {
+                sketch.offer(id);
+                sketch.offer(id);
+            }
+
+            assertThat((double) sketch.estimate()).as("cardinalidad %d", cardinality)
+                    .isCloseTo(cardinality, within(cardinality * 0.01));
+        }
+    }
+
+    @Test
+    void mergeEstimatesTheUnion() {
+        HyperLogLog monday = new HyperLogLog(14);
+        HyperLogLog tuesday = new HyperLogLog(14);
+        for (long id = 1; id <= 60_000; id++) {
+            monday.offer(id);
+        }
+        for (long id = 40_001; id <= 100_000; id++) {
+            tuesday.offer(id);
+        }
+
+        monday.merge(tuesday);
+
+        assertThat((double) monday.estimate()).isCloseTo(100_000, within(1_000.0));
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (long id = 1; id <= 5_000; id++) {
+            sketch.offer(id);
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertThat(restored.getPrecision()).isEqualTo(12);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    void rejectsCorruptSketches() {
+        byte[] valid = new HyperLogLog(4).toBytes();
+
+        byte[] badPrecision = valid.clone();
+        badPrecision[0] = 40;
+        byte[] negativePrecision = valid.clone();
+        negativePrecision[0] = -3;
+        byte[] badRegister = valid.clone();
+        badRegister[1] = 100;
+
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[0])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(badPrecision)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(negativePrecision))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[] { 4, 0, 0 }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(badRegister)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
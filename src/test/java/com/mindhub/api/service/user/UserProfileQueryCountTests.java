@@ -0,0 +1,145 @@
+package com.mindhub.api.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mindhub.api.config.StatementCounter;
+import com.mindhub.api.model.enums.PrivacyType;
+import com.mindhub.api.model.post.Post;
+import com.mindhub.api.model.role.Role;
+import com.mindhub.api.model.user.User;
+import com.mindhub.api.model.userProfile.UserProfile;
+import com.mindhub.api.repository.post.PostRepository;
+import com.mindhub.api.repository.user.UserRepository;
+import com.mindhub.api.repository.userProfile.UserProfileRepository;
+import com.mindhub.api.service.post.PostService;
+import com.mindhub.api.service.role.RoleService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Regresión del N+1 de {@code user_profiles}: cargar usuarios (también como
+ * autores de publicaciones) no debe consultar sus perfiles, y los listados
+ * deben ejecutar las mismas sentencias con 3 filas que con 23.
+ */
+@SpringBootTest
+@Transactional
+class UserProfileQueryCountTests {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 100);
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostService postService;
+
+    @Test
+    void loadingUsersDoesNotQueryProfiles() {
+        List<Long> few = seed("lfew", 3);
+        List<Long> many = seed("lmany", 20);
+
+        assertThat(count(() -> userRepository.findAllById(many)))
+                .isEqualTo(count(() -> userRepository.findAllById(few)));
+    }
+
+    @Test
+    void adminUserListDoesNotDependOnPageRows() {
+        seed("few", 3);
+        int few = count(() -> userService.findAllUsersAsDto(PAGE));
+
+        seed("many", 20);
+        int many = count(() -> userService.findAllUsersAsDto(PAGE));
+
+        assertThat(many).isEqualTo(few);
+    }
+
+    @Test
+    void publicPostListDoesNotDependOnPageRows() {
+        seed("pfew", 3);
+        int few = count(() -> postService.getPublicPosts(PAGE));
+
+        seed("pmany", 20);
+        int many = count(() -> postService.getPublicPosts(PAGE));
+
+        assertThat(many).isEqualTo(few);
+    }
+
+    /**
+     * Crea usuarios públicos con perfil y una publicación pública cada uno,
+     * y vacía el contexto de persistencia para que las lecturas vayan a la
+     * base de datos.
+     */
+    private List<Long> seed(String prefix, int users) {
+        Role role = roleService.findByNameOrThrow(Role.USER);
+        List<Long> ids = new ArrayList<>(users);
+
+        for (int i = 0; i < users; i++) {
+            User user = userRepository.save(User.builder()
+                    .username(prefix + "_" + i)
+                    .password("x")
+                    .firstName("Nombre")
+                    .lastName("Apellido")
+                    .email(prefix + "_" + i + "@test.local")
+                    .role(role)
+                    .privacyType(PrivacyType.PUBLIC)
+                    .active(true)
+                    .registrationDate(LocalDate.now())
+                    .lastActivityDate(LocalDate.now())
+                    .build());
+            userProfileRepository.save(UserProfile.builder()
+                    .user(user)
+                    .occupation("Pruebas")
+                    .creationDate(LocalDate.now())
+                    .build());
+            postRepository.save(Post.builder()
+                    .content("Publicación de prueba " + i)
+                    .privacyType(PrivacyType.PUBLIC)
+                    .author(user)
+                    .build());
+            ids.add(user.getId());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    private int count(Supplier<?> action) {
+        statementCounter.start();
+        try {
+            action.get();
+        } finally {
+            entityManager.clear();
+        }
+        return statementCounter.stop();
+    }
+}